@@ -0,0 +1,77 @@
+package sr3u.s3ms.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandler;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ExceptionHandlerChain.handle} for chains of different
+ * length. In {@link #handle()} all handlers but the last one are
+ * non-terminal, so every handler of the chain is visited. In
+ * {@link #handleTyped()} all handlers but the last one accept an unrelated
+ * exception type, so they are skipped by the class index that the chain
+ * builds after its first few dispatches. The exception is created once, so
+ * the result contains only the dispatch cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExceptionHandlerChainBenchmark {
+    @Param({"1", "5", "20"})
+    private int handlers;
+
+    private ExceptionHandlerChain chain;
+    private ExceptionHandlerChain typedChain;
+    private final IOException exception = new IOException("failure");
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        chain = new ExceptionHandlerChain();
+        for (int i = 1; i < handlers; i++) {
+            chain.addHandler(new ExceptionHandler<Throwable>() {
+                @Override
+                public void handle(Throwable exception) {
+                    blackhole.consume(exception);
+                }
+
+                @Override
+                public boolean isTerminal() {
+                    return false;
+                }
+            });
+        }
+        chain.addHandler(blackhole::consume);
+        typedChain = new ExceptionHandlerChain();
+        for (int i = 1; i < handlers; i++) {
+            typedChain.addHandler(ExceptionHandler.of(IllegalStateException.class, blackhole::consume));
+        }
+        typedChain.addHandler(ExceptionHandler.of(IOException.class, blackhole::consume));
+    }
+
+    @Benchmark
+    public void handle() {
+        chain.handle(exception);
+    }
+
+    @Benchmark
+    public void handleTyped() {
+        typedChain.handle(exception);
+    }
+}
@@ -0,0 +1,53 @@
+package sr3u.s3ms.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating and terminating an {@code Op}, with and without the
+ * side effect that {@code Optionalex.ifPresentex} attaches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OpBenchmark {
+    private String value = "value";
+
+    @Benchmark
+    public String terminateValue() {
+        return new Op<>(value, new ExceptionHandlerChain()).terminate();
+    }
+
+    @Benchmark
+    public String terminateSupplier() {
+        String v = value;
+        return new Op<>(() -> v, new ExceptionHandlerChain()).terminate();
+    }
+
+    @Benchmark
+    public String terminateWithOp(Blackhole blackhole) {
+        String v = value;
+        return new Op<>(v, new ExceptionHandlerChain(), () -> blackhole.consume(v)).terminate();
+    }
+
+    @Benchmark
+    public String rethrowWithHandlers() {
+        String v = value;
+        return new Op<>(() -> v, new ExceptionHandlerChain()).print().rethrow(RuntimeException::new);
+    }
+}
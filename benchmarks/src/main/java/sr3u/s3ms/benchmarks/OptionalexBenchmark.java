@@ -0,0 +1,119 @@
+package sr3u.s3ms.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sr3u.functionalex.Functionex;
+import sr3u.s3ms.optionals.Optionalex;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code Optionalex} map/filter/flatMap chains with the equivalent
+ * {@code Optional} code that catches checked exceptions by hand.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OptionalexBenchmark {
+    private String input = "42";
+
+    @Benchmark
+    public Integer optionalMapBaseline() {
+        return Optional.of(input).map(s -> {
+            try {
+                return parse(s);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }).orElse(null);
+    }
+
+    @Benchmark
+    public Integer optionalexMap() {
+        return Optionalex.of(input).map(Integer::parseInt).orElse(null);
+    }
+
+    @Benchmark
+    public Integer optionalexMapex() {
+        return Optionalex.of(input).mapex(OptionalexBenchmark::parse).rethrow().orElse(null);
+    }
+
+    @Benchmark
+    public Integer optionalChainBaseline() {
+        return Optional.of(input)
+                .map(s -> {
+                    try {
+                        return parse(s);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .filter(i -> {
+                    try {
+                        return validate(i);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .flatMap(i -> {
+                    try {
+                        return lookup(i);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Integer optionalexChain() {
+        return Optionalex.of(input)
+                .mapex(OptionalexBenchmark::parse).rethrow()
+                .filterex(OptionalexBenchmark::validate).rethrow()
+                .flatMapex((Functionex<Integer, Optional<Integer>>) OptionalexBenchmark::lookup).rethrow()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Integer optionalexFusedChain() {
+        return Optionalex.of(input).op()
+                .mapex(OptionalexBenchmark::parse)
+                .filterex(OptionalexBenchmark::validate)
+                .flatMapex((Functionex<Integer, Optional<Integer>>) OptionalexBenchmark::lookup)
+                .rethrow()
+                .orElse(null);
+    }
+
+    private static int parse(String s) throws IOException {
+        if (s.isEmpty()) {
+            throw new IOException("empty");
+        }
+        return Integer.parseInt(s);
+    }
+
+    private static boolean validate(int i) throws IOException {
+        if (i < 0) {
+            throw new IOException("negative");
+        }
+        return i > 10;
+    }
+
+    private static Optional<Integer> lookup(int i) throws IOException {
+        if (i == 0) {
+            throw new IOException("zero");
+        }
+        return Optional.of(i + 1);
+    }
+}
@@ -0,0 +1,124 @@
+package sr3u.s3ms.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sr3u.functionalex.Consumerex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Predicatex;
+import sr3u.functionalex.Supplierex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
+import sr3u.s3ms.exceptionsprocessing.Wrapped;
+import sr3u.s3ms.exceptionsprocessing.Wrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Measures wrapping and invoking functions through {@code Wrapper} on both
+ * the success and the failure path. On the failure path a terminal handler
+ * swallows the exception, so the cost includes creating the exception and
+ * dispatching it through the handler chain. The {@code Policy} variants
+ * share one prebuilt {@code ExceptionPolicy} instead of a new chain per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WrapperBenchmark {
+    private static final Functionex<String, Integer> PARSE = WrapperBenchmark::parse;
+    private static final Predicatex<String> VALIDATE = WrapperBenchmark::validate;
+    private static final Consumerex<String> CONSUME = WrapperBenchmark::validate;
+    private static final ExceptionPolicy SWALLOW = ExceptionPolicy.builder().handler(e -> {
+    }).build();
+
+    private String good = "42";
+    private String bad = "";
+
+    @Benchmark
+    public Integer wrapFunctionSuccess() {
+        return Wrapper.<Integer, String>wrapFunction(PARSE).getValue().apply(good);
+    }
+
+    @Benchmark
+    public Integer wrapFunctionFailure() {
+        Wrapped<Function<? super String, ? extends Integer>> wrapped = Wrapper.wrapFunction(PARSE);
+        wrapped.getExceptionHandler().addHandler(e -> {
+        });
+        return wrapped.getValue().apply(bad);
+    }
+
+    @Benchmark
+    public Integer wrapFunctionPolicySuccess() {
+        return Wrapper.<Integer, String>wrapFunction(PARSE, SWALLOW).apply(good);
+    }
+
+    @Benchmark
+    public Integer wrapFunctionPolicyFailure() {
+        return Wrapper.<Integer, String>wrapFunction(PARSE, SWALLOW).apply(bad);
+    }
+
+    @Benchmark
+    public boolean wrapPredicateSuccess() {
+        return Wrapper.wrapPredicate(VALIDATE).getValue().test(good);
+    }
+
+    @Benchmark
+    public boolean wrapPredicateFailure() {
+        Wrapped<Predicate<? super String>> wrapped = Wrapper.wrapPredicate(VALIDATE);
+        wrapped.getExceptionHandler().addHandler(e -> {
+        });
+        return wrapped.getValue().test(bad);
+    }
+
+    @Benchmark
+    public void wrapConsumerSuccess() {
+        Wrapper.wrapConsumer(CONSUME).getValue().accept(good);
+    }
+
+    @Benchmark
+    public Integer wrapSupplierSuccess() {
+        Supplierex<Integer> supplier = () -> parse(good);
+        return Wrapper.wrapSupplier(supplier).getValue().get();
+    }
+
+    @Benchmark
+    public Integer wrapSupplierFailure() {
+        Supplierex<Integer> supplier = () -> parse(bad);
+        Wrapped<Supplier<Integer>> wrapped = Wrapper.wrapSupplier(supplier);
+        wrapped.getExceptionHandler().addHandler(e -> {
+        });
+        return wrapped.getValue().get();
+    }
+
+    @Benchmark
+    public Integer manualTryCatchFailure() {
+        try {
+            return parse(bad);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static int parse(String s) throws IOException {
+        if (s.isEmpty()) {
+            throw new IOException("empty");
+        }
+        return Integer.parseInt(s);
+    }
+
+    private static boolean validate(String s) throws IOException {
+        return parse(s) > 10;
+    }
+}
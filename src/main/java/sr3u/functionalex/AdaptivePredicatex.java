@@ -0,0 +1,149 @@
+package sr3u.functionalex;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A short-circuiting AND or OR of clauses that learns in which order to
+ * evaluate them.
+ *
+ * <p>One call in {@value #SAMPLE_RATE} is sampled: the latency and the
+ * outcome of every clause it evaluates are recorded. A sampled call first
+ * evaluates a probe clause, taken from all clauses in turn, so that clauses
+ * at the end of the order are measured too. Every {@value #REORDER_INTERVAL}
+ * samples the clauses are sorted by their expected cost per decision: the
+ * mean latency divided by the probability that the clause decides the result
+ * (fails, for AND; passes, for OR). Then the statistics are halved, so the
+ * order follows changes in the data.
+ *
+ * <p>The result is the same in any order as long as the clauses do not have
+ * side effects. If a clause throws, the exception is relayed to the caller
+ * and no further clause is evaluated; since the order changes, which clause
+ * gets to throw may change too.
+ *
+ * @param <T> the type of the input to the predicate
+ */
+final class AdaptivePredicatex<T> implements Predicatex<T> {
+    static final int SAMPLE_RATE = 64;
+    static final int REORDER_INTERVAL = 64;
+
+    private final Predicatex<? super T>[] clauses;
+    private final boolean conjunction;
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray decisions;
+    private final AtomicLongArray nanos;
+    private final AtomicInteger samples = new AtomicInteger();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private volatile int[] order;
+
+    AdaptivePredicatex(List<? extends Predicatex<? super T>> clauses, boolean conjunction) {
+        @SuppressWarnings("unchecked") Predicatex<? super T>[] array = (Predicatex<? super T>[]) clauses.toArray(new Predicatex<?>[0]);
+        this.clauses = array;
+        for (Predicatex<? super T> clause : this.clauses) {
+            Objects.requireNonNull(clause);
+        }
+        this.conjunction = conjunction;
+        int n = this.clauses.length;
+        this.evaluations = new AtomicLongArray(n);
+        this.decisions = new AtomicLongArray(n);
+        this.nanos = new AtomicLongArray(n);
+        int[] initial = new int[n];
+        for (int i = 0; i < n; i++) {
+            initial[i] = i;
+        }
+        this.order = initial;
+    }
+
+    @Override
+    public boolean test(T t) throws Exception {
+        if (clauses.length > 1 && ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            return sample(t);
+        }
+        for (int i : order) {
+            if (clauses[i].test(t) != conjunction) {
+                return !conjunction;
+            }
+        }
+        return conjunction;
+    }
+
+    private boolean sample(T t) throws Exception {
+        int count = samples.incrementAndGet();
+        int probe = Math.floorMod(count, clauses.length);
+        boolean result = conjunction;
+        if (measure(probe, t)) {
+            result = !conjunction;
+        } else {
+            for (int i : order) {
+                if (i != probe && measure(i, t)) {
+                    result = !conjunction;
+                    break;
+                }
+            }
+        }
+        if (count % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates clause {@code i} and records its latency and outcome.
+     *
+     * @return {@code true} if the clause decides the result
+     */
+    private boolean measure(int i, T t) throws Exception {
+        long start = System.nanoTime();
+        boolean decides = clauses[i].test(t) != conjunction;
+        nanos.addAndGet(i, System.nanoTime() - start);
+        evaluations.incrementAndGet(i);
+        if (decides) {
+            decisions.incrementAndGet(i);
+        }
+        return decides;
+    }
+
+    private void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int n = clauses.length;
+            double[] rank = new double[n];
+            Integer[] sorted = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                long evaluated = evaluations.get(i);
+                sorted[i] = i;
+                if (evaluated == 0) {
+                    rank[i] = Double.MAX_VALUE;
+                    continue;
+                }
+                double cost = (double) nanos.get(i) / evaluated;
+                double decisionRate = (decisions.get(i) + 0.5) / (evaluated + 1.0);
+                rank[i] = cost / decisionRate;
+                nanos.set(i, nanos.get(i) / 2);
+                evaluations.set(i, evaluated / 2);
+                decisions.set(i, decisions.get(i) / 2);
+            }
+            Arrays.sort(sorted, Comparator.comparingDouble(i -> rank[i]));
+            int[] next = new int[n];
+            for (int i = 0; i < n; i++) {
+                next[i] = sorted[i];
+            }
+            order = next;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (conjunction ? "allOf" : "anyOf") + Arrays.toString(order);
+    }
+}
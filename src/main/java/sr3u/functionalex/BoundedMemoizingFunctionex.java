@@ -0,0 +1,190 @@
+package sr3u.functionalex;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link MemoizedFunctionex} that keeps at most {@code maxEntries} results.
+ *
+ * <p>Lookups are lock-free reads of a {@link ConcurrentHashMap}. A miss
+ * applies the function without holding any lock, so concurrent misses of the
+ * same key may each apply it. Only storing a new result is serialized.
+ *
+ * <p>A hit does not write to shared state either: it records the entry in a
+ * {@link StripedBuffer}, which is drained under the eviction lock before the
+ * next store, or by the thread that finds its stripe full. Draining updates
+ * the frequencies and marks the entries as hit. When the lock is busy and a
+ * stripe is full, the hit is not recorded, which only makes the policy
+ * slightly less precise. The {@link FrequencySketch} is therefore only
+ * accessed under the lock.
+ *
+ * <p>When the cache is full, a CLOCK sweep picks the victim: it skips, and
+ * clears the mark of, entries hit since the last sweep. The new result is
+ * only admitted if a {@link FrequencySketch} estimates that its key is used
+ * more often than the victim's (TinyLFU admission). A one-off key therefore
+ * cannot evict a popular one.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+final class BoundedMemoizingFunctionex<T, R> implements MemoizedFunctionex<T, R> {
+    private static final Object NULL_KEY = new Object();
+
+    private final Functionex<? super T, ? extends R> function;
+    private final boolean cacheExceptions;
+    private final ConcurrentHashMap<Object, Node<R>> data;
+    private final FrequencySketch sketch;
+    private final StripedBuffer<Node<R>> readBuffer = new StripedBuffer<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Node<R>[] clock;
+    private int clockSize;
+    private int hand;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    BoundedMemoizingFunctionex(Functionex<? super T, ? extends R> function, int maxEntries, boolean cacheExceptions) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.function = Objects.requireNonNull(function);
+        this.cacheExceptions = cacheExceptions;
+        this.data = new ConcurrentHashMap<>(Math.min(maxEntries, 1 << 16));
+        this.sketch = new FrequencySketch(maxEntries);
+        this.clock = (Node<R>[]) new Node<?>[maxEntries];
+    }
+
+    @Override
+    public R apply(T t) throws Exception {
+        Object key = t == null ? NULL_KEY : t;
+        Node<R> node = data.get(key);
+        if (node != null) {
+            if (!readBuffer.offer(node) && evictionLock.tryLock()) {
+                try {
+                    drainReadBuffer();
+                    onHit(node);
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+            hits.increment();
+            return node.get();
+        }
+        misses.increment();
+        Node<R> computed;
+        try {
+            computed = new Node<>(key, function.apply(t), null);
+        } catch (Exception e) {
+            if (!cacheExceptions) {
+                throw e;
+            }
+            computed = new Node<>(key, null, e);
+        }
+        admit(computed);
+        return computed.get();
+    }
+
+    private void admit(Node<R> candidate) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            sketch.increment(candidate.key);
+            if (data.containsKey(candidate.key)) {
+                return;
+            }
+            if (clockSize < clock.length) {
+                candidate.slot = clockSize;
+                clock[clockSize++] = candidate;
+                data.put(candidate.key, candidate);
+                return;
+            }
+            Node<R> victim = sweep();
+            if (sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                rejections.increment();
+                return;
+            }
+            data.remove(victim.key, victim);
+            candidate.slot = victim.slot;
+            clock[victim.slot] = candidate;
+            data.put(candidate.key, candidate);
+            evictions.increment();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(this::onHit);
+    }
+
+    private void onHit(Node<R> node) {
+        sketch.increment(node.key);
+        node.referenced = true;
+    }
+
+    /**
+     * Advances the clock hand to the first entry that was not hit since the
+     * hand last passed it.
+     */
+    private Node<R> sweep() {
+        while (true) {
+            Node<R> node = clock[hand];
+            hand = hand + 1 == clockSize ? 0 : hand + 1;
+            if (!node.referenced) {
+                return node;
+            }
+            node.referenced = false;
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), rejections.sum());
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            Arrays.fill(clock, 0, clockSize, null);
+            clockSize = 0;
+            hand = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Node<R> {
+        final Object key;
+        final R value;
+        final Exception failure;
+        int slot;
+        boolean referenced;
+
+        Node(Object key, R value, Exception failure) {
+            this.key = key;
+            this.value = value;
+            this.failure = failure;
+        }
+
+        R get() throws Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package sr3u.functionalex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds compositions of {@link Functionex}, {@link Consumerex} and
+ * {@link Predicatex} that run their stages from an array in a single loop.
+ *
+ * <p>{@link Functionex#andThen}, {@link Consumerex#andThen} and
+ * {@link Predicatex#and} wrap one lambda in another, so a chain of
+ * {@code n} stages is {@code n} nested calls deep: too deep for the JIT to
+ * inline and, for very long chains, deep enough to overflow the stack. A
+ * composition built here calls every stage from the same frame. Compositions
+ * of up to three stages are specialized into straight-line code, and a
+ * composition used as a stage of another one is flattened into it.
+ *
+ * <pre>{@code
+ * Functionex<String, Integer> parse = Compositions.function(String::trim)
+ *         .andThen(Integer::parseInt)
+ *         .andThen(Math::abs)
+ *         .build();
+ * Predicatex<Rule> matches = Compositions.allOf(rules);
+ * }</pre>
+ *
+ * @since 1.8.0.0
+ */
+public final class Compositions {
+    private static final Object[] NO_STAGES = new Object[0];
+
+    private Compositions() {
+    }
+
+    /**
+     * Starts a function composition with {@code first}.
+     *
+     * @param first the first stage
+     * @param <T>   the type of the input to the composition
+     * @param <R>   the type of the result of the first stage
+     * @return a builder to append further stages to
+     */
+    public static <T, R> FunctionBuilder<T, R> function(Functionex<? super T, ? extends R> first) {
+        return new FunctionBuilder<>(new Link(null, Objects.requireNonNull(first)));
+    }
+
+    /**
+     * Composes {@code stages}, applying each to the result of the previous
+     * one. The types of adjacent stages are not checked; a mismatch fails
+     * with a {@link ClassCastException} when the composition is applied.
+     * This is meant for chains assembled from configuration.
+     *
+     * @param stages the stages, in order
+     * @param <T>    the type of the input to the composition
+     * @param <R>    the type of the result of the composition
+     * @return the composed function; the identity function if there are no
+     * stages
+     */
+    public static <T, R> Functionex<T, R> chain(List<? extends Functionex<?, ?>> stages) {
+        List<Object> flat = new ArrayList<>(stages.size());
+        for (Functionex<?, ?> stage : stages) {
+            addFunction(flat, stage);
+        }
+        return functionOf(flat.toArray());
+    }
+
+    /**
+     * Starts a consumer composition with {@code first}.
+     *
+     * @param first the first consumer
+     * @param <T>   the type of the input to the composition
+     * @return a builder to append further consumers to
+     */
+    public static <T> ConsumerBuilder<T> consumer(Consumerex<? super T> first) {
+        return new ConsumerBuilder<>(new Link(null, Objects.requireNonNull(first)));
+    }
+
+    /**
+     * Returns a predicate that is the short-circuiting logical AND of
+     * {@code clauses}, evaluated in the given order.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate; always {@code true} if there are no
+     * clauses
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Predicatex<T> allOf(Predicatex<? super T>... clauses) {
+        return Compositions.<T>allOf(Arrays.asList(clauses));
+    }
+
+    /**
+     * Returns a predicate that is the short-circuiting logical AND of
+     * {@code clauses}, evaluated in iteration order.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate; always {@code true} if there are no
+     * clauses
+     */
+    public static <T> Predicatex<T> allOf(Collection<? extends Predicatex<? super T>> clauses) {
+        return predicateOf(flatten(clauses, true), true);
+    }
+
+    /**
+     * Returns a predicate that is the short-circuiting logical OR of
+     * {@code clauses}, evaluated in the given order.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate; always {@code false} if there are no
+     * clauses
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Predicatex<T> anyOf(Predicatex<? super T>... clauses) {
+        return Compositions.<T>anyOf(Arrays.asList(clauses));
+    }
+
+    /**
+     * Returns a predicate that is the short-circuiting logical OR of
+     * {@code clauses}, evaluated in iteration order.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate; always {@code false} if there are no
+     * clauses
+     */
+    public static <T> Predicatex<T> anyOf(Collection<? extends Predicatex<? super T>> clauses) {
+        return predicateOf(flatten(clauses, false), false);
+    }
+
+    private static void addFunction(List<Object> stages, Functionex<?, ?> stage) {
+        Objects.requireNonNull(stage);
+        if (stage instanceof FunctionChain) {
+            stages.addAll(Arrays.asList(((FunctionChain<?, ?>) stage).stages));
+        } else {
+            stages.add(stage);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Functionex<T, R> functionOf(Object[] stages) {
+        switch (stages.length) {
+            case 0:
+                return new FunctionChain<>(NO_STAGES, t -> (R) t);
+            case 1:
+                return new FunctionChain<>(stages, (Functionex<T, R>) stages[0]);
+            case 2: {
+                Functionex<Object, Object> a = (Functionex<Object, Object>) stages[0];
+                Functionex<Object, Object> b = (Functionex<Object, Object>) stages[1];
+                return new FunctionChain<>(stages, t -> (R) b.apply(a.apply(t)));
+            }
+            case 3: {
+                Functionex<Object, Object> a = (Functionex<Object, Object>) stages[0];
+                Functionex<Object, Object> b = (Functionex<Object, Object>) stages[1];
+                Functionex<Object, Object> c = (Functionex<Object, Object>) stages[2];
+                return new FunctionChain<>(stages, t -> (R) c.apply(b.apply(a.apply(t))));
+            }
+            default:
+                return new FunctionChain<>(stages, t -> {
+                    Object value = t;
+                    for (Object stage : stages) {
+                        value = ((Functionex<Object, Object>) stage).apply(value);
+                    }
+                    return (R) value;
+                });
+        }
+    }
+
+    private static Object[] flatten(Collection<?> clauses, boolean conjunction) {
+        List<Object> flat = new ArrayList<>(clauses.size());
+        for (Object clause : clauses) {
+            Objects.requireNonNull(clause);
+            if (clause instanceof PredicateChain && ((PredicateChain<?>) clause).conjunction == conjunction) {
+                flat.addAll(Arrays.asList(((PredicateChain<?>) clause).clauses));
+            } else {
+                flat.add(clause);
+            }
+        }
+        return flat.toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicatex<T> predicateOf(Object[] clauses, boolean conjunction) {
+        Predicatex<T> body;
+        switch (clauses.length) {
+            case 0:
+                body = t -> conjunction;
+                break;
+            case 1:
+                body = (Predicatex<T>) clauses[0];
+                break;
+            case 2: {
+                Predicatex<T> a = (Predicatex<T>) clauses[0];
+                Predicatex<T> b = (Predicatex<T>) clauses[1];
+                body = conjunction ? t -> a.test(t) && b.test(t) : t -> a.test(t) || b.test(t);
+                break;
+            }
+            case 3: {
+                Predicatex<T> a = (Predicatex<T>) clauses[0];
+                Predicatex<T> b = (Predicatex<T>) clauses[1];
+                Predicatex<T> c = (Predicatex<T>) clauses[2];
+                body = conjunction
+                        ? t -> a.test(t) && b.test(t) && c.test(t)
+                        : t -> a.test(t) || b.test(t) || c.test(t);
+                break;
+            }
+            default:
+                body = t -> {
+                    for (Object clause : clauses) {
+                        if (((Predicatex<T>) clause).test(t) != conjunction) {
+                            return !conjunction;
+                        }
+                    }
+                    return conjunction;
+                };
+        }
+        return new PredicateChain<>(clauses, conjunction, body);
+    }
+
+    /**
+     * The last stage added to a builder. Builders are immutable and share
+     * the links of the stages added before, so appending a stage does not
+     * copy them.
+     */
+    private static final class Link {
+        final Link previous;
+        final Object stage;
+        final int size;
+
+        Link(Link previous, Object stage) {
+            this.previous = previous;
+            this.stage = stage;
+            this.size = previous == null ? 1 : previous.size + 1;
+        }
+
+        /**
+         * Returns the stages, in the order they were added.
+         */
+        Object[] toArray() {
+            Object[] stages = new Object[size];
+            for (Link link = this; link != null; link = link.previous) {
+                stages[link.size - 1] = link.stage;
+            }
+            return stages;
+        }
+    }
+
+    /**
+     * Builds a function composition. A builder is immutable: every call to
+     * {@link #andThen} returns a new builder and leaves this one unchanged,
+     * so an intermediate builder can be extended in several ways.
+     *
+     * @param <T> the type of the input to the composition
+     * @param <R> the type of the result of the stages added so far
+     */
+    public static final class FunctionBuilder<T, R> {
+        private final Link last;
+
+        private FunctionBuilder(Link last) {
+            this.last = last;
+        }
+
+        /**
+         * Returns a builder that also applies {@code after} to the result of
+         * the previous stage.
+         *
+         * @param after the stage to append
+         * @param <V>   the type of the result of the stage
+         * @return a new builder
+         */
+        public <V> FunctionBuilder<T, V> andThen(Functionex<? super R, ? extends V> after) {
+            return new FunctionBuilder<>(new Link(last, Objects.requireNonNull(after)));
+        }
+
+        /**
+         * Returns the composed function.
+         *
+         * @return a function that applies the stages in order
+         */
+        public Functionex<T, R> build() {
+            Object[] added = last.toArray();
+            List<Object> stages = new ArrayList<>(added.length);
+            for (Object stage : added) {
+                addFunction(stages, (Functionex<?, ?>) stage);
+            }
+            return functionOf(stages.toArray());
+        }
+    }
+
+    /**
+     * Builds a consumer composition. A builder is immutable: every call to
+     * {@link #andThen} returns a new builder and leaves this one unchanged.
+     *
+     * @param <T> the type of the input to the composition
+     */
+    public static final class ConsumerBuilder<T> {
+        private final Link last;
+
+        private ConsumerBuilder(Link last) {
+            this.last = last;
+        }
+
+        /**
+         * Returns a builder that also calls {@code after} after the previous
+         * consumers.
+         *
+         * @param after the consumer to append
+         * @return a new builder
+         */
+        public ConsumerBuilder<T> andThen(Consumerex<? super T> after) {
+            return new ConsumerBuilder<>(new Link(last, Objects.requireNonNull(after)));
+        }
+
+        /**
+         * Returns the composed consumer. If a consumer throws, the following
+         * ones are not called.
+         *
+         * @return a consumer that calls the consumers in order
+         */
+        @SuppressWarnings("unchecked")
+        public Consumerex<T> build() {
+            List<Object> stages = new ArrayList<>();
+            for (Object stage : last.toArray()) {
+                if (stage instanceof ConsumerChain) {
+                    stages.addAll(Arrays.asList(((ConsumerChain<?>) stage).stages));
+                } else {
+                    stages.add(stage);
+                }
+            }
+            Object[] array = stages.toArray();
+            switch (array.length) {
+                case 1:
+                    return new ConsumerChain<>(array, (Consumerex<T>) array[0]);
+                case 2: {
+                    Consumerex<T> a = (Consumerex<T>) array[0];
+                    Consumerex<T> b = (Consumerex<T>) array[1];
+                    return new ConsumerChain<>(array, t -> {
+                        a.accept(t);
+                        b.accept(t);
+                    });
+                }
+                case 3: {
+                    Consumerex<T> a = (Consumerex<T>) array[0];
+                    Consumerex<T> b = (Consumerex<T>) array[1];
+                    Consumerex<T> c = (Consumerex<T>) array[2];
+                    return new ConsumerChain<>(array, t -> {
+                        a.accept(t);
+                        b.accept(t);
+                        c.accept(t);
+                    });
+                }
+                default:
+                    return new ConsumerChain<>(array, t -> {
+                        for (Object stage : array) {
+                            ((Consumerex<T>) stage).accept(t);
+                        }
+                    });
+            }
+        }
+    }
+
+    /**
+     * A flattened function composition; keeps its stages so that it can be
+     * flattened into a longer one.
+     */
+    private static final class FunctionChain<T, R> implements Functionex<T, R> {
+        private final Object[] stages;
+        private final Functionex<T, R> body;
+
+        FunctionChain(Object[] stages, Functionex<T, R> body) {
+            this.stages = stages;
+            this.body = body;
+        }
+
+        @Override
+        public R apply(T t) throws Exception {
+            return body.apply(t);
+        }
+    }
+
+    private static final class ConsumerChain<T> implements Consumerex<T> {
+        private final Object[] stages;
+        private final Consumerex<T> body;
+
+        ConsumerChain(Object[] stages, Consumerex<T> body) {
+            this.stages = stages;
+            this.body = body;
+        }
+
+        @Override
+        public void accept(T t) throws Exception {
+            body.accept(t);
+        }
+    }
+
+    /**
+     * A flattened AND or OR of clauses; keeps its clauses so that it can be
+     * flattened into a longer composition of the same kind.
+     */
+    private static final class PredicateChain<T> implements Predicatex<T> {
+        private final Object[] clauses;
+        private final boolean conjunction;
+        private final Predicatex<T> body;
+
+        PredicateChain(Object[] clauses, boolean conjunction, Predicatex<T> body) {
+            this.clauses = clauses;
+            this.conjunction = conjunction;
+            this.body = body;
+        }
+
+        @Override
+        public boolean test(T t) throws Exception {
+            return body.test(t);
+        }
+    }
+}
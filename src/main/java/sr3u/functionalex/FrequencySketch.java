@@ -0,0 +1,88 @@
+package sr3u.functionalex;
+
+/**
+ * An approximate counter of how often keys were seen: a count-min sketch of
+ * four-bit counters, sixteen to a {@code long}. When the number of recorded
+ * events reaches ten times the cache size every counter is halved, so the
+ * sketch follows changes in popularity.
+ *
+ * <p>The sketch is not thread-safe; {@link BoundedMemoizingFunctionex} only
+ * accesses it under its eviction lock. Reads and writes of a table word are
+ * still masked so that a counter never carries into its neighbour.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maxEntries) {
+        int length = maxEntries <= 1 ? 1 : Integer.highestOneBit(Math.min(maxEntries, 1 << 30) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * maxEntries, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of times {@code key} was seen, at most 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hash, i);
+            int shift = ((int) h & 15) << 2;
+            frequency = Math.min(frequency, (int) ((table[index(h)] >>> shift) & 0xF));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records that {@code key} was seen.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hash, i);
+            int index = index(h);
+            int shift = ((int) h & 15) << 2;
+            long word = table[index];
+            long mask = 0xFL << shift;
+            if ((word & mask) != mask) {
+                table[index] = word + (1L << shift);
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int index(long h) {
+        return (int) (h >>> 32) & tableMask;
+    }
+
+    private static long rehash(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        return h ^ (h >>> 29);
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
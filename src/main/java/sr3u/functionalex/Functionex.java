@@ -71,4 +71,34 @@ public interface Functionex<T, R> {
     static <T> Functionex<T, T> identity() {
         return t -> t;
     }
+
+    /**
+     * Returns a function that caches up to {@code maxEntries} results of this
+     * function by argument. Arguments are compared with {@code equals}. When
+     * the cache is full, a new result only replaces an old one if its
+     * argument is estimated to be used more often. Exceptions are not cached.
+     *
+     * @param maxEntries the maximal number of cached results
+     * @return a memoizing function
+     * @throws IllegalArgumentException if {@code maxEntries} is less than 1
+     */
+    default MemoizedFunctionex<T, R> memoize(int maxEntries) {
+        return memoize(maxEntries, false);
+    }
+
+    /**
+     * Returns a function that caches up to {@code maxEntries} results of this
+     * function by argument, optionally including the exceptions it throws,
+     * which are then rethrown for the same argument without calling this
+     * function.
+     *
+     * @param maxEntries      the maximal number of cached results
+     * @param cacheExceptions whether exceptions are cached like results
+     * @return a memoizing function
+     * @throws IllegalArgumentException if {@code maxEntries} is less than 1
+     * @see #memoize(int)
+     */
+    default MemoizedFunctionex<T, R> memoize(int maxEntries, boolean cacheExceptions) {
+        return new BoundedMemoizingFunctionex<>(this, maxEntries, cacheExceptions);
+    }
 }
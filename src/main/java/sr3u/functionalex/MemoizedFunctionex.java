@@ -0,0 +1,31 @@
+package sr3u.functionalex;
+
+/**
+ * A {@link Functionex} that caches its results, returned by
+ * {@link Functionex#memoize(int)}.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ * @since 1.8.0.0
+ */
+public interface MemoizedFunctionex<T, R> extends Functionex<T, R> {
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics
+     */
+    CacheStats stats();
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Removes every cached entry. The statistics are kept.
+     */
+    void invalidateAll();
+}
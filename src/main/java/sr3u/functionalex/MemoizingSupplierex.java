@@ -0,0 +1,98 @@
+package sr3u.functionalex;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A {@link Supplierex} that caches the result of another one. The cached
+ * result is read with a single volatile read; only a call that finds no
+ * valid result takes the lock, and the first of the contending callers
+ * computes the result for the others.
+ *
+ * @param <T> the type of results supplied by this supplier
+ */
+final class MemoizingSupplierex<T> implements Supplierex<T> {
+    static final long FOREVER = Long.MAX_VALUE;
+
+    private final Supplierex<? extends T> delegate;
+    private final long ttlNanos;
+    private final long failureNanos;
+    private volatile Entry<T> entry;
+
+    MemoizingSupplierex(Supplierex<? extends T> delegate, long ttlNanos, long failureNanos) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.ttlNanos = ttlNanos;
+        this.failureNanos = failureNanos;
+    }
+
+    /**
+     * Converts {@code duration} to nanoseconds, saturating at
+     * {@link #FOREVER}.
+     *
+     * @throws IllegalArgumentException if {@code duration} is negative
+     */
+    static long toNanos(Duration duration, String name) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative: " + duration);
+        }
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return FOREVER;
+        }
+    }
+
+    @Override
+    public T get() throws Exception {
+        Entry<T> current = entry;
+        if (current != null && current.isValid()) {
+            return current.get();
+        }
+        synchronized (this) {
+            current = entry;
+            if (current == null || !current.isValid()) {
+                current = compute();
+            }
+        }
+        return current.get();
+    }
+
+    private Entry<T> compute() throws Exception {
+        Entry<T> computed;
+        try {
+            computed = new Entry<>(delegate.get(), null, ttlNanos);
+        } catch (Exception e) {
+            if (failureNanos == 0) {
+                throw e;
+            }
+            computed = new Entry<>(null, e, failureNanos);
+        }
+        entry = computed;
+        return computed;
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final Exception failure;
+        private final boolean expires;
+        private final long deadline;
+
+        Entry(T value, Exception failure, long ttlNanos) {
+            this.value = value;
+            this.failure = failure;
+            this.expires = ttlNanos != FOREVER;
+            this.deadline = expires ? System.nanoTime() + ttlNanos : 0;
+        }
+
+        boolean isValid() {
+            return !expires || deadline - System.nanoTime() > 0;
+        }
+
+        T get() throws Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
+}
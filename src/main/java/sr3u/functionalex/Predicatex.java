@@ -1,6 +1,8 @@
 package sr3u.functionalex;
 
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -92,4 +94,72 @@ public interface Predicatex<T> {
                 ? Objects::isNull
                 : targetRef::equals;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a predicate that is the short-circuiting logical AND of
+     * {@code clauses}, which adapts the order in which it evaluates them.
+     * It samples the latency and the pass rate of each clause at runtime and
+     * periodically moves the clauses that are cheapest per rejection to the
+     * front. Use it for clauses without side effects; to evaluate in a fixed
+     * order, use {@link Compositions#allOf}.
+     *
+     * <p>An exception thrown by a clause is relayed to the caller, and no
+     * further clause is evaluated.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate; always {@code true} if there are no
+     * clauses
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> Predicatex<T> allOf(Predicatex<? super T>... clauses) {
+        return Predicatex.<T>allOf(Arrays.asList(clauses));
+    }
+
+    /**
+     * Returns an adaptive short-circuiting logical AND of {@code clauses}.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate
+     * @see #allOf(Predicatex[])
+     */
+    static <T> Predicatex<T> allOf(List<? extends Predicatex<? super T>> clauses) {
+        return new AdaptivePredicatex<>(clauses, true);
+    }
+
+    /**
+     * Returns a predicate that is the short-circuiting logical OR of
+     * {@code clauses}, which adapts the order in which it evaluates them.
+     * It samples the latency and the pass rate of each clause at runtime and
+     * periodically moves the clauses that are cheapest per match to the
+     * front. Use it for clauses without side effects; to evaluate in a fixed
+     * order, use {@link Compositions#anyOf}.
+     *
+     * <p>An exception thrown by a clause is relayed to the caller, and no
+     * further clause is evaluated.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate; always {@code false} if there are no
+     * clauses
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> Predicatex<T> anyOf(Predicatex<? super T>... clauses) {
+        return Predicatex.<T>anyOf(Arrays.asList(clauses));
+    }
+
+    /**
+     * Returns an adaptive short-circuiting logical OR of {@code clauses}.
+     *
+     * @param clauses the clauses
+     * @param <T>     the type of the input to the predicate
+     * @return the composed predicate
+     * @see #anyOf(Predicatex[])
+     */
+    static <T> Predicatex<T> anyOf(List<? extends Predicatex<? super T>> clauses) {
+        return new AdaptivePredicatex<>(clauses, false);
+    }
+}
@@ -0,0 +1,83 @@
+package sr3u.functionalex;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lossy, striped buffer of events recorded by many threads and drained by
+ * one at a time. Each thread offers to the stripe picked by its id, so
+ * threads seldom contend for a slot. A full stripe rejects the event; the
+ * caller should then drain the buffer, or drop the event.
+ *
+ * <p>{@link #drainTo(Consumer)} must not be called concurrently with itself.
+ *
+ * @param <E> the type of the events
+ */
+final class StripedBuffer<E> {
+    private static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    StripedBuffer() {
+        int count = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 64) * 2 - 1);
+        this.stripes = (Stripe<E>[]) new Stripe<?>[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    /**
+     * Records {@code e}.
+     *
+     * @return {@code false} if the stripe of the current thread is full
+     */
+    boolean offer(E e) {
+        long id = Thread.currentThread().getId();
+        return stripes[(int) ((id * 0x9e3779b97f4a7c15L) >>> 32) & stripeMask].offer(e);
+    }
+
+    /**
+     * Passes the recorded events to {@code consumer} and removes them.
+     */
+    void drainTo(Consumer<? super E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private static final class Stripe<E> {
+        final AtomicReferenceArray<E> slots = new AtomicReferenceArray<>(STRIPE_SIZE);
+        final AtomicLong writes = new AtomicLong();
+        volatile long reads;
+
+        boolean offer(E e) {
+            long tail = writes.get();
+            if (tail - reads >= STRIPE_SIZE || !writes.compareAndSet(tail, tail + 1)) {
+                return false;
+            }
+            slots.lazySet((int) tail & STRIPE_MASK, e);
+            return true;
+        }
+
+        void drainTo(Consumer<? super E> consumer) {
+            long head = reads;
+            long tail = writes.get();
+            for (; head != tail; head++) {
+                int index = (int) head & STRIPE_MASK;
+                E e = slots.get(index);
+                if (e == null) {
+                    // claimed but not yet published; picked up by the next drain
+                    break;
+                }
+                slots.lazySet(index, null);
+                consumer.accept(e);
+            }
+            reads = head;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package sr3u.functionalex;
 
+import java.time.Duration;
 
 /**
  * Represents a supplier of results.
@@ -23,4 +24,47 @@ public interface Supplierex<T> {
      */
     @SuppressWarnings("RedundantThrows")
     T get() throws Exception;
+
+    /**
+     * Returns a supplier that calls this supplier once and then returns its
+     * result to every caller. Concurrent first calls wait for a single
+     * computation; later calls do not lock. A call that throws is not
+     * cached, so the next call tries again.
+     *
+     * @return a memoizing supplier
+     */
+    default Supplierex<T> memoize() {
+        return new MemoizingSupplierex<>(this, MemoizingSupplierex.FOREVER, 0);
+    }
+
+    /**
+     * Returns a supplier that caches the result of this supplier for
+     * {@code ttl}, and calls this supplier again on the first call after
+     * that. A call that throws is not cached.
+     *
+     * @param ttl how long a result is reused
+     * @return a memoizing supplier
+     * @throws IllegalArgumentException if {@code ttl} is negative
+     */
+    default Supplierex<T> memoizeWithExpiry(Duration ttl) {
+        return memoizeWithExpiry(ttl, Duration.ZERO);
+    }
+
+    /**
+     * Returns a supplier that caches the result of this supplier for
+     * {@code ttl}, and an exception it throws for {@code failureBackoff}.
+     * While a failure is cached the same exception is rethrown without
+     * calling this supplier, so a broken dependency is not called again on
+     * every request.
+     *
+     * @param ttl            how long a result is reused
+     * @param failureBackoff how long an exception is rethrown, or zero to not
+     *                       cache exceptions
+     * @return a memoizing supplier
+     * @throws IllegalArgumentException if a duration is negative
+     */
+    default Supplierex<T> memoizeWithExpiry(Duration ttl, Duration failureBackoff) {
+        return new MemoizingSupplierex<>(this, MemoizingSupplierex.toNanos(ttl, "ttl"),
+                MemoizingSupplierex.toNanos(failureBackoff, "failureBackoff"));
+    }
 }
\ No newline at end of file
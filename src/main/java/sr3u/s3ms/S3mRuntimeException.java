@@ -4,4 +4,27 @@ public class S3mRuntimeException extends RuntimeException {
     public S3mRuntimeException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Constructs an exception that wraps {@code cause}.
+     *
+     * @param cause              the wrapped exception
+     * @param writableStackTrace whether or not the stack trace should be
+     *                           captured; capturing it walks the whole stack
+     *                           of the throwing thread
+     */
+    public S3mRuntimeException(Throwable cause, boolean writableStackTrace) {
+        super(cause == null ? null : cause.toString(), cause, true, writableStackTrace);
+    }
+
+    /**
+     * Returns an exception that wraps {@code cause} and never captures a
+     * stack trace of its own.
+     *
+     * @param cause the wrapped exception
+     * @return a stackless exception
+     */
+    public static S3mRuntimeException stackless(Throwable cause) {
+        return new S3mRuntimeException(cause, false);
+    }
 }
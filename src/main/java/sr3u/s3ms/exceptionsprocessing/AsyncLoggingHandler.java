@@ -0,0 +1,318 @@
+package sr3u.s3ms.exceptionsprocessing;
+
+import sr3u.s3ms.ratelimit.TokenBucket;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * An exception handler that logs exceptions on a background thread. Unlike
+ * {@link Op#print()}, which prints on the thread that failed and so
+ * serializes an error storm on the {@code System.out} lock, this handler
+ * only puts the exception into a bounded ring buffer and returns; a daemon
+ * thread drains the buffer into the sink.
+ *
+ * <p>Handling never blocks. An exception is dropped instead of logged if its
+ * class has used up its rate limit, or if the buffer is full; both are
+ * counted. The handler keeps running until it is {@link #close() closed}.
+ * While the buffer is empty the background thread is parked; the first
+ * exception put into the empty buffer wakes it up.
+ *
+ * <pre>{@code
+ * AsyncLoggingHandler log = AsyncLoggingHandler.builder()
+ *         .rateLimitPerClass(10, 100)
+ *         .build();
+ * ExceptionPolicy policy = ExceptionPolicy.builder().print(log).build();
+ * }</pre>
+ *
+ * @since 1.8.0.0
+ */
+public final class AsyncLoggingHandler implements ExceptionHandler<Throwable>, AutoCloseable {
+    private final AtomicReferenceArray<Throwable> ring;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final Consumer<? super Throwable> sink;
+    private final boolean terminal;
+    private final RateLimits rateLimits;
+    private final LongAdder logged = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final Thread drainer;
+    private volatile boolean closed;
+    /**
+     * Set by the background thread before it parks, so that producers know
+     * to unpark it.
+     */
+    private volatile boolean parked;
+    /**
+     * Set, under the lock of this handler, when the background thread has
+     * drained the buffer for the last time. Afterwards exceptions published
+     * by producers that raced with {@link #close()} are logged by those
+     * producers.
+     */
+    private boolean finished;
+
+    private AsyncLoggingHandler(Builder builder) {
+        this.ring = new AtomicReferenceArray<>(builder.capacity);
+        this.mask = builder.capacity - 1;
+        this.sink = builder.sink;
+        this.terminal = builder.terminal;
+        this.rateLimits = builder.rateLimits;
+        this.drainer = new Thread(this::drain, builder.threadName);
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void handle(Throwable exception) {
+        if (closed) {
+            dropped.increment();
+            return;
+        }
+        if (rateLimits != null && !rateLimits.get(exception.getClass()).tryAcquire()) {
+            rateLimited.increment();
+            return;
+        }
+        long slot;
+        do {
+            slot = tail.get();
+            if (slot - head >= ring.length()) {
+                dropped.increment();
+                return;
+            }
+        } while (!tail.compareAndSet(slot, slot + 1));
+        ring.lazySet((int) slot & mask, exception);
+        if (parked) {
+            LockSupport.unpark(drainer);
+        }
+        if (closed) {
+            drainAfterClose();
+        }
+    }
+
+    /**
+     * Logs the exceptions published after the background thread finished,
+     * so that an exception whose handling raced with {@link #close()} is
+     * neither lost nor counted as dropped.
+     */
+    private synchronized void drainAfterClose() {
+        if (finished) {
+            drainAvailable();
+        }
+    }
+
+    @Override
+    public boolean isTerminal() {
+        return terminal;
+    }
+
+    /**
+     * Returns the number of exceptions handed to the sink.
+     */
+    public long getLoggedCount() {
+        return logged.sum();
+    }
+
+    /**
+     * Returns the number of exceptions dropped because the buffer was full
+     * or the handler was closed.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of exceptions dropped by the per-class rate limit.
+     */
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * Stops accepting exceptions, logs the ones still buffered and waits for
+     * the background thread to finish. An exception handled concurrently
+     * with {@code close()} is either counted as dropped or logged, in the
+     * worst case on the thread that handles it.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(drainer);
+        boolean interrupted = false;
+        while (drainer.isAlive()) {
+            try {
+                drainer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            if (drainAvailable() > 0) {
+                continue;
+            }
+            if (closed) {
+                if (finish()) {
+                    return;
+                }
+                // a producer has claimed a slot but not published it yet
+                Thread.yield();
+                continue;
+            }
+            parked = true;
+            // a producer that claimed a slot before parked was set sees the tail here
+            if (head == tail.get() && !closed) {
+                LockSupport.park(this);
+            }
+            parked = false;
+        }
+    }
+
+    private synchronized boolean finish() {
+        if (head != tail.get()) {
+            return false;
+        }
+        finished = true;
+        return true;
+    }
+
+    /**
+     * Logs the buffered exceptions up to the first slot that is claimed but
+     * not yet published.
+     */
+    private int drainAvailable() {
+        int count = 0;
+        long current = head;
+        Throwable exception;
+        while ((exception = ring.get((int) current & mask)) != null) {
+            ring.lazySet((int) current & mask, null);
+            head = ++current;
+            try {
+                sink.accept(exception);
+            } catch (RuntimeException ignored) {
+                // a failing sink must not stop the drainer
+            }
+            logged.increment();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Builds an {@link AsyncLoggingHandler}. A builder is not thread-safe.
+     */
+    public static final class Builder {
+        private int capacity = 1024;
+        private Consumer<? super Throwable> sink = System.out::println;
+        private boolean terminal = true;
+        private RateLimits rateLimits;
+        private String threadName = "s3ms-exception-logger";
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the size of the ring buffer, rounded up to a power of two.
+         * The default is 1024.
+         *
+         * @param capacity the number of exceptions the buffer holds
+         * @return this builder
+         * @throws IllegalArgumentException if {@code capacity} is not positive
+         *                                  or too large
+         */
+        public Builder capacity(int capacity) {
+            if (capacity < 1 || capacity > 1 << 30) {
+                throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+            }
+            this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+            return this;
+        }
+
+        /**
+         * Sets where exceptions are logged. The sink runs on the background
+         * thread; the default prints to {@code System.out}.
+         *
+         * @param sink the logging action
+         * @return this builder
+         */
+        public Builder sink(Consumer<? super Throwable> sink) {
+            this.sink = Objects.requireNonNull(sink);
+            return this;
+        }
+
+        /**
+         * Limits how many exceptions of each class are logged: at most
+         * {@code burst} at once, refilling at {@code perSecond}.
+         *
+         * @param perSecond the sustained rate per exception class
+         * @param burst     the number of exceptions logged in a burst
+         * @return this builder
+         * @throws IllegalArgumentException if an argument is not positive
+         */
+        public Builder rateLimitPerClass(double perSecond, int burst) {
+            if (!(perSecond > 0) || burst < 1) {
+                throw new IllegalArgumentException("perSecond and burst must be positive");
+            }
+            this.rateLimits = new RateLimits(perSecond, burst);
+            return this;
+        }
+
+        /**
+         * Sets whether handling stops after this handler. The default is
+         * {@code true}, like {@link Op#print()}.
+         *
+         * @param terminal whether the handler is terminal
+         * @return this builder
+         */
+        public Builder terminal(boolean terminal) {
+            this.terminal = terminal;
+            return this;
+        }
+
+        public Builder threadName(String threadName) {
+            this.threadName = Objects.requireNonNull(threadName);
+            return this;
+        }
+
+        /**
+         * Builds the handler and starts its background thread.
+         *
+         * @return a new handler
+         */
+        public AsyncLoggingHandler build() {
+            return new AsyncLoggingHandler(this);
+        }
+    }
+
+    /**
+     * Holds a token bucket for every exception class.
+     */
+    private static final class RateLimits extends ClassValue<TokenBucket> {
+        private final double perSecond;
+        private final int burst;
+
+        RateLimits(double perSecond, int burst) {
+            this.perSecond = perSecond;
+            this.burst = burst;
+        }
+
+        @Override
+        protected TokenBucket computeValue(Class<?> type) {
+            return TokenBucket.of(perSecond, burst);
+        }
+    }
+}
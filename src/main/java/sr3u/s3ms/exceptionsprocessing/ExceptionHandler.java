@@ -1,5 +1,7 @@
 package sr3u.s3ms.exceptionsprocessing;
 
+import java.util.function.Consumer;
+
 public interface ExceptionHandler<T extends Throwable> {
     void handle(T exception);
 
@@ -7,12 +9,43 @@ public interface ExceptionHandler<T extends Throwable> {
         return true;
     }
 
+    /**
+     * Returns the type of the exceptions this handler accepts.
+     * {@link ExceptionHandlerChain} only offers an exception to the handlers
+     * whose type is a supertype of the exception's class.
+     *
+     * @return the accepted exception type, {@code Throwable} by default
+     */
+    default Class<? extends Throwable> exceptionType() {
+        return Throwable.class;
+    }
+
     default boolean canHandle(Throwable t) {
-        try {
-            @SuppressWarnings("unchecked") T dummy = (T) t;
-        } catch (ClassCastException ignored) {
-            return false;
-        }
-        return true;
+        return exceptionType().isInstance(t);
+    }
+
+    /**
+     * Returns a terminal handler for exceptions of {@code type}.
+     *
+     * @param type    the accepted exception type
+     * @param handler the action to perform on an exception
+     * @param <E>     the accepted exception type
+     * @return a typed handler
+     */
+    static <E extends Throwable> ExceptionHandler<E> of(Class<E> type, Consumer<? super E> handler) {
+        return of(type, handler, true);
+    }
+
+    /**
+     * Returns a handler for exceptions of {@code type}.
+     *
+     * @param type     the accepted exception type
+     * @param handler  the action to perform on an exception
+     * @param terminal whether handling stops after this handler
+     * @param <E>      the accepted exception type
+     * @return a typed handler
+     */
+    static <E extends Throwable> ExceptionHandler<E> of(Class<E> type, Consumer<? super E> handler, boolean terminal) {
+        return new TypedExceptionHandler<>(type, handler, terminal);
     }
 }
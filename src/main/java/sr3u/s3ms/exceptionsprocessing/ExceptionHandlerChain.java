@@ -1,29 +1,131 @@
 package sr3u.s3ms.exceptionsprocessing;
 
-import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.metrics.OpMetrics;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 
 public class ExceptionHandlerChain implements ExceptionHandler<Throwable> {
-    private List<ExceptionHandler<? extends Throwable>> exceptionHandlers = new ArrayList<>();
+    private static final ThreadLocal<Capture> CAPTURE = new ThreadLocal<>();
+
+    private volatile ExceptionPolicy policy;
+
+    public ExceptionHandlerChain() {
+        this(ExceptionPolicy.rethrow());
+    }
+
+    /**
+     * Constructs a chain that starts with the handlers of {@code policy}.
+     * Handlers added later are appended to a copy, so the policy itself can
+     * be shared.
+     *
+     * @param policy the initial policy
+     */
+    public ExceptionHandlerChain(ExceptionPolicy policy) {
+        this.policy = Objects.requireNonNull(policy);
+    }
 
     public void addHandler(ExceptionHandler<? extends Throwable> e) {
-        exceptionHandlers.add(e);
+        policy = policy.withChainHandler(e);
+    }
+
+    public ExceptionPolicy getPolicy() {
+        return policy;
+    }
+
+    public StackTraceMode getStackTraceMode() {
+        return policy.getStackTraceMode();
+    }
+
+    public void setStackTraceMode(StackTraceMode stackTraceMode) {
+        policy = policy.withStackTraceMode(stackTraceMode);
+    }
+
+    public void setMetrics(OpMetrics metrics) {
+        policy = policy.withMetrics(metrics);
     }
 
-    @SuppressWarnings("rawtypes")
     @Override
     public void handle(Throwable t) {
-        for (ExceptionHandler e : exceptionHandlers) {
-            if (e.canHandle(t)) {
-                e.handle(t);
-                if (e.isTerminal()) {
-                    return;
-                }
-            }
+        ExceptionPolicy current = policy;
+        if (current.tryHandle(t)) {
+            return;
+        }
+        Capture capture = CAPTURE.get();
+        if (capture != null && capture.chain == this) {
+            capture.record(t);
+            throw new Captured(t, current.getStackTraceMode());
+        }
+        throw current.getStackTraceMode().wrap(t);
+    }
+
+    /**
+     * Starts recording, on the current thread, the exceptions this chain does
+     * not handle. An unhandled exception is recorded and evaluation stops with
+     * a {@link Captured} instead of the wrapped exception. The returned
+     * capture must be {@link Capture#close() closed} on the same thread.
+     */
+    Capture capture() {
+        Capture capture = new Capture(this, CAPTURE.get());
+        CAPTURE.set(capture);
+        return capture;
+    }
+
+    /**
+     * Stops the evaluation of an operation whose unhandled exceptions are
+     * {@link #capture() captured}. It carries no stack trace; the exception
+     * itself is recorded in the {@link Capture}.
+     */
+    @SuppressWarnings("serial")
+    static final class Captured extends RuntimeException {
+        private final Throwable failure;
+        private final StackTraceMode stackTraceMode;
+
+        private Captured(Throwable failure, StackTraceMode stackTraceMode) {
+            super(null, null, false, false);
+            this.failure = failure;
+            this.stackTraceMode = stackTraceMode;
+        }
+
+        /**
+         * Returns the exception the chain would have thrown had the failure
+         * not been captured.
+         */
+        RuntimeException toUnhandled() {
+            return stackTraceMode.wrap(failure);
         }
-        throw new S3mRuntimeException(t);
     }
 
+    /**
+     * Records the first unhandled exception of a chain while it is active.
+     * Later unhandled exceptions are dropped.
+     */
+    static final class Capture implements AutoCloseable {
+        private final ExceptionHandlerChain chain;
+        private final Capture previous;
+        private Throwable failure;
+
+        private Capture(ExceptionHandlerChain chain, Capture previous) {
+            this.chain = chain;
+            this.previous = previous;
+        }
+
+        private void record(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+        }
+
+        Throwable getFailure() {
+            return failure;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CAPTURE.remove();
+            } else {
+                CAPTURE.set(previous);
+            }
+        }
+    }
 }
@@ -0,0 +1,273 @@
+package sr3u.s3ms.exceptionsprocessing;
+
+import sr3u.s3ms.jfr.JfrEvents;
+import sr3u.s3ms.metrics.OpMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An immutable, thread-safe list of exception handlers. A policy is
+ * meant to be built once and shared, for example by the
+ * {@link Wrapper} overloads that take a policy, so that wrapping a call
+ * does not allocate a new {@link ExceptionHandlerChain}.
+ *
+ * <p>An exception is offered to the handlers whose
+ * {@link ExceptionHandler#exceptionType() type} matches it, in the order
+ * they were added, until a terminal handler has handled it. If no terminal
+ * handler matches, the exception is rethrown wrapped in a
+ * {@link sr3u.s3ms.S3mRuntimeException} created according to the policy's
+ * {@link StackTraceMode}.
+ *
+ * @since 1.8.0.0
+ */
+public final class ExceptionPolicy implements ExceptionHandler<Throwable> {
+    private static final ExceptionHandler<?>[] NO_HANDLERS = new ExceptionHandler<?>[0];
+    /**
+     * The number of dispatches after which the handlers of a policy that is
+     * not shared are indexed.
+     */
+    private static final int INDEX_AFTER_DISPATCHES = 8;
+    private static final ExceptionPolicy RETHROW =
+            new ExceptionPolicy(NO_HANDLERS, StackTraceMode.FULL, null, true, null);
+
+    private final ExceptionHandler<?>[] handlers;
+    private final StackTraceMode stackTraceMode;
+    private final OpMetrics metrics;
+    private final boolean shared;
+    private volatile HandlerIndex index;
+    /**
+     * Counts the dispatches of a policy that is not shared, up to
+     * {@link #INDEX_AFTER_DISPATCHES}. Updates may be lost under contention,
+     * which only delays the index.
+     */
+    private int dispatches;
+
+    /**
+     * @param shared whether the policy is expected to handle many exceptions,
+     *               so that its handlers are indexed by exception class on
+     *               the first dispatch rather than after a few
+     * @param index  the index of {@code handlers} if it already exists, or
+     *               {@code null}
+     */
+    private ExceptionPolicy(ExceptionHandler<?>[] handlers, StackTraceMode stackTraceMode, OpMetrics metrics,
+                            boolean shared, HandlerIndex index) {
+        this.handlers = handlers;
+        this.stackTraceMode = stackTraceMode;
+        this.metrics = metrics;
+        this.shared = shared;
+        this.index = index;
+    }
+
+    /**
+     * Returns the policy without handlers, which rethrows every exception.
+     *
+     * @return the rethrowing policy
+     */
+    public static ExceptionPolicy rethrow() {
+        return RETHROW;
+    }
+
+    /**
+     * Returns a builder for a new policy.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a copy of this policy with {@code handler} added last.
+     *
+     * @param handler the handler to add
+     * @return a new policy
+     */
+    public ExceptionPolicy withHandler(ExceptionHandler<? extends Throwable> handler) {
+        return withHandler(handler, true);
+    }
+
+    /**
+     * Returns a copy of this policy with {@code handler} added last, for the
+     * policy of a single {@link ExceptionHandlerChain}. The chain of a
+     * single-value operation sees one exception at most, so its handlers are
+     * only indexed once the policy has dispatched a few exceptions, as the
+     * chain of a stream pipeline does.
+     */
+    ExceptionPolicy withChainHandler(ExceptionHandler<? extends Throwable> handler) {
+        return withHandler(handler, false);
+    }
+
+    private ExceptionPolicy withHandler(ExceptionHandler<? extends Throwable> handler, boolean shared) {
+        ExceptionHandler<?>[] copy = Arrays.copyOf(handlers, handlers.length + 1);
+        copy[handlers.length] = Objects.requireNonNull(handler);
+        return new ExceptionPolicy(copy, stackTraceMode, metrics, shared, null);
+    }
+
+    /**
+     * Returns a copy of this policy with another stack trace mode.
+     *
+     * @param stackTraceMode the stack trace mode of the copy
+     * @return a new policy, or this policy if the mode is unchanged
+     */
+    public ExceptionPolicy withStackTraceMode(StackTraceMode stackTraceMode) {
+        if (this.stackTraceMode == Objects.requireNonNull(stackTraceMode)) {
+            return this;
+        }
+        return new ExceptionPolicy(handlers, stackTraceMode, metrics, shared, index);
+    }
+
+    /**
+     * Returns a copy of this policy that records every exception it is
+     * offered, and whether it was handled, in {@code metrics}.
+     *
+     * @param metrics the metrics to record to, or {@code null} for none
+     * @return a new policy, or this policy if the metrics are unchanged
+     */
+    public ExceptionPolicy withMetrics(OpMetrics metrics) {
+        if (this.metrics == metrics) {
+            return this;
+        }
+        return new ExceptionPolicy(handlers, stackTraceMode, metrics, shared, index);
+    }
+
+    public StackTraceMode getStackTraceMode() {
+        return stackTraceMode;
+    }
+
+    public OpMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void handle(Throwable t) {
+        if (!tryHandle(t)) {
+            throw stackTraceMode.wrap(t);
+        }
+    }
+
+    /**
+     * Offers {@code t} to the matching handlers like {@link #handle(Throwable)},
+     * but returns {@code false} instead of throwing if no terminal handler
+     * handled it.
+     *
+     * @param t the exception to handle
+     * @return {@code true} if a terminal handler handled {@code t}
+     */
+    public boolean tryHandle(Throwable t) {
+        Object event = JfrEvents.beginExceptionHandled();
+        ExceptionHandler<?> handler = null;
+        try {
+            handler = dispatch(t);
+        } finally {
+            if (event != null) {
+                JfrEvents.endExceptionHandled(event, t, handler);
+            }
+        }
+        boolean handled = handler != null;
+        if (metrics != null) {
+            metrics.recordFailure(t, handled);
+        }
+        return handled;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private ExceptionHandler<?> dispatch(Throwable t) {
+        ExceptionHandler<?>[] candidates = handlers;
+        if (candidates.length > 1) {
+            HandlerIndex index = this.index;
+            if (index == null && (shared || ++dispatches >= INDEX_AFTER_DISPATCHES)) {
+                this.index = index = new HandlerIndex(candidates);
+            }
+            if (index != null) {
+                candidates = index.get(t.getClass());
+            }
+        }
+        for (ExceptionHandler e : candidates) {
+            if (e.canHandle(t)) {
+                e.handle(t);
+                if (e.isTerminal()) {
+                    return e;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds an {@link ExceptionPolicy}. A builder is not thread-safe.
+     */
+    public static final class Builder {
+        private final List<ExceptionHandler<?>> handlers = new ArrayList<>();
+        private StackTraceMode stackTraceMode = StackTraceMode.FULL;
+        private OpMetrics metrics;
+
+        private Builder() {
+        }
+
+        public Builder handler(ExceptionHandler<? extends Throwable> handler) {
+            handlers.add(Objects.requireNonNull(handler));
+            return this;
+        }
+
+        public <E extends Throwable> Builder handle(Class<E> type, Consumer<? super E> handler) {
+            return handler(ExceptionHandler.of(type, handler));
+        }
+
+        public Builder print() {
+            return handler(System.out::println);
+        }
+
+        public Builder print(AsyncLoggingHandler logger) {
+            return handler(logger);
+        }
+
+        public Builder throwRuntime(Function<Throwable, RuntimeException> runtimeExceptionCreator) {
+            return handler(runtimeExceptionCreator::apply);
+        }
+
+        public Builder stackTraceMode(StackTraceMode stackTraceMode) {
+            this.stackTraceMode = Objects.requireNonNull(stackTraceMode);
+            return this;
+        }
+
+        public Builder metrics(OpMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public ExceptionPolicy build() {
+            return new ExceptionPolicy(handlers.toArray(NO_HANDLERS), stackTraceMode, metrics, true, null);
+        }
+    }
+
+    /**
+     * Memoizes, per exception class, the handlers whose
+     * {@link ExceptionHandler#exceptionType() type} matches it, in policy
+     * order. Every lookup of a new class inserts into that class's
+     * {@code ClassValue} map, so an index is only created, on the first
+     * dispatch, for shared policies with more than one handler.
+     */
+    private static final class HandlerIndex extends ClassValue<ExceptionHandler<?>[]> {
+        private final ExceptionHandler<?>[] handlers;
+
+        HandlerIndex(ExceptionHandler<?>[] handlers) {
+            this.handlers = handlers;
+        }
+
+        @Override
+        protected ExceptionHandler<?>[] computeValue(Class<?> type) {
+            List<ExceptionHandler<?>> matching = new ArrayList<>(handlers.length);
+            for (ExceptionHandler<?> handler : handlers) {
+                if (handler.exceptionType().isAssignableFrom(type)) {
+                    matching.add(handler);
+                }
+            }
+            return matching.size() == handlers.length ? handlers : matching.toArray(NO_HANDLERS);
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package sr3u.s3ms.exceptionsprocessing;
 
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.jfr.JfrEvents;
+import sr3u.s3ms.metrics.OpMetrics;
+import sr3u.s3ms.results.Result;
+
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -27,16 +34,74 @@ public class Op<T> {
         this(() -> value, exceptionHandlerChain, op);
     }
 
+    /**
+     * Constructs an {@code Op} for a subclass that overrides
+     * {@link #evaluate()}.
+     *
+     * @param exceptionHandlerChain the chain that handles exceptions of the operation
+     */
+    protected Op(ExceptionHandlerChain exceptionHandlerChain) {
+        this((Supplier<T>) null, exceptionHandlerChain, null);
+    }
+
     public Op<T> print() {
         exceptionHandlerChain.addHandler(System.out::println);
         return this;
     }
 
+    /**
+     * Adds {@code logger} as a handler, so exceptions are logged on its
+     * background thread instead of printed on the failing thread.
+     *
+     * @param logger the logging handler
+     * @return this {@code Op}
+     */
+    public Op<T> print(AsyncLoggingHandler logger) {
+        exceptionHandlerChain.addHandler(logger);
+        return this;
+    }
+
+    /**
+     * Adds a terminal handler that is only offered exceptions of
+     * {@code type}.
+     *
+     * @param type    the handled exception type
+     * @param handler the action to perform on an exception
+     * @param <E>     the handled exception type
+     * @return this {@code Op}
+     */
+    public <E extends Throwable> Op<T> handle(Class<E> type, Consumer<? super E> handler) {
+        exceptionHandlerChain.addHandler(ExceptionHandler.of(type, handler));
+        return this;
+    }
+
     public Op<T> throwRuntime(Function<Throwable, RuntimeException> runtimeExceptionCreator) {
         exceptionHandlerChain.addHandler(runtimeExceptionCreator::apply);
         return this;
     }
 
+    /**
+     * Sets how the stack trace of the {@link sr3u.s3ms.S3mRuntimeException}
+     * thrown for an unhandled exception is captured.
+     *
+     * @param stackTraceMode the stack trace mode
+     * @return this {@code Op}
+     */
+    public Op<T> stackTrace(StackTraceMode stackTraceMode) {
+        exceptionHandlerChain.setStackTraceMode(stackTraceMode);
+        return this;
+    }
+
+    /**
+     * Makes unhandled exceptions surface without a stack trace of their own.
+     *
+     * @return this {@code Op}
+     * @see StackTraceMode#STACKLESS
+     */
+    public Op<T> stackless() {
+        return stackTrace(StackTraceMode.STACKLESS);
+    }
+
     public T rethrow(Function<Throwable, RuntimeException> runtimeExceptionCreator) {
         return throwRuntime(runtimeExceptionCreator).rethrow();
     }
@@ -46,9 +111,182 @@ public class Op<T> {
     }
 
     public T terminate() {
+        Object event = JfrEvents.beginOpTerminated();
+        if (event == null) {
+            return evaluate();
+        }
+        Throwable failure = null;
+        try {
+            return evaluate();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            JfrEvents.endOpTerminated(event, getClass(), failure);
+        }
+    }
+
+    /**
+     * Returns an {@code Op} that evaluates this operation at most once. The
+     * first call to {@link #terminate()} runs the operation, and every later
+     * call, from any thread, returns the same value or rethrows the same
+     * exception without running it again. Once evaluated, the result is read
+     * without locking.
+     *
+     * <p>The returned {@code Op} shares the exception handlers of this one.
+     * Handlers added after the first evaluation have no effect.
+     *
+     * @return a memoizing {@code Op}
+     */
+    public Op<T> cached() {
+        return new Cached<>(this);
+    }
+
+    /**
+     * Returns an {@code Op} that records its evaluations in {@code metrics}:
+     * the duration of every {@link #terminate()}, and every exception passed
+     * to the shared handler chain together with whether it was handled.
+     *
+     * @param metrics the metrics to record to
+     * @return an instrumented {@code Op}
+     */
+    public Op<T> metered(OpMetrics metrics) {
+        Objects.requireNonNull(metrics);
+        exceptionHandlerChain.setMetrics(metrics);
+        return new Metered<>(this, metrics);
+    }
+
+    /**
+     * Runs the operation and returns its outcome instead of throwing. An
+     * exception that no terminal handler handles stops the operation, as it
+     * would with {@link #rethrow()}, but it is not wrapped and thrown;
+     * it is returned as a failed {@link Result}. Exceptions handled by a
+     * terminal handler do not make the result fail.
+     *
+     * <p>Exceptions are captured without being thrown only on the calling
+     * thread; an exception that escapes from another thread, such as a worker
+     * of a parallel stream, is caught and returned as a failure as well.
+     *
+     * @return the outcome of the operation
+     */
+    public Result<T> toResult() {
+        try (ExceptionHandlerChain.Capture capture = exceptionHandlerChain.capture()) {
+            T value;
+            try {
+                value = evaluate();
+            } catch (RuntimeException e) {
+                Throwable failure = capture.getFailure();
+                return Result.failure(failure == null ? unwrap(e) : failure);
+            }
+            Throwable failure = capture.getFailure();
+            return failure == null ? Result.success(value) : Result.failure(failure);
+        }
+    }
+
+    /**
+     * Strips the {@link S3mRuntimeException}s wrapped around an exception,
+     * including the copies a fork/join pool makes when it rethrows an
+     * exception of a worker. A wrapper with suppressed exceptions, such as
+     * the one that combines the failures of a
+     * {@link sr3u.s3ms.streams.ParallelFailureMode#COLLECT_ALL} stream, is
+     * kept, so that none of them is lost.
+     */
+    private static Throwable unwrap(RuntimeException e) {
+        Throwable t = e;
+        while (t instanceof S3mRuntimeException && t.getCause() != null && t.getSuppressed().length == 0) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    /**
+     * Runs the operation and returns its result.
+     *
+     * @return the result of the operation
+     */
+    protected T evaluate() {
         if (op != null) {
             op.run();
         }
         return wrapped.get();
     }
+
+    private static final class Metered<T> extends Op<T> {
+        private final Op<T> source;
+        private final OpMetrics metrics;
+
+        Metered(Op<T> source, OpMetrics metrics) {
+            super(source.exceptionHandlerChain);
+            this.source = source;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected T evaluate() {
+            long start = System.nanoTime();
+            try {
+                return source.evaluate();
+            } finally {
+                metrics.recordInvocation(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static final class Cached<T> extends Op<T> {
+        private final Op<T> source;
+        private volatile Outcome<T> outcome;
+
+        Cached(Op<T> source) {
+            super(source.exceptionHandlerChain);
+            this.source = source;
+        }
+
+        @Override
+        public Op<T> cached() {
+            return this;
+        }
+
+        @Override
+        protected T evaluate() {
+            Outcome<T> result = outcome;
+            if (result == null) {
+                synchronized (this) {
+                    result = outcome;
+                    if (result == null) {
+                        try {
+                            result = new Outcome<>(source.evaluate(), null);
+                        } catch (ExceptionHandlerChain.Captured e) {
+                            // remember the failure as a later terminate() would see it
+                            outcome = new Outcome<>(null, e.toUnhandled());
+                            throw e;
+                        } catch (RuntimeException | Error e) {
+                            result = new Outcome<>(null, e);
+                        }
+                        outcome = result;
+                    }
+                }
+            }
+            return result.get();
+        }
+    }
+
+    private static final class Outcome<T> {
+        private final T value;
+        private final Throwable failure;
+
+        Outcome(T value, Throwable failure) {
+            this.value = value;
+            this.failure = failure;
+        }
+
+        T get() {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure != null) {
+                throw (Error) failure;
+            }
+            return value;
+        }
+    }
 }
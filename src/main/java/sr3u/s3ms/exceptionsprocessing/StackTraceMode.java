@@ -0,0 +1,39 @@
+package sr3u.s3ms.exceptionsprocessing;
+
+import sr3u.s3ms.S3mRuntimeException;
+
+import java.util.function.Function;
+
+/**
+ * Controls how an {@link ExceptionHandlerChain} captures the stack trace of
+ * the {@link S3mRuntimeException} it throws for an unhandled exception.
+ *
+ * @since 1.8.0.0
+ */
+public enum StackTraceMode {
+    /**
+     * The stack trace is captured when the exception is created.
+     */
+    FULL(S3mRuntimeException::new),
+    /**
+     * No stack trace is captured. The wrapped exception keeps its own trace.
+     */
+    STACKLESS(S3mRuntimeException::stackless);
+
+    private final Function<Throwable, S3mRuntimeException> factory;
+
+    StackTraceMode(Function<Throwable, S3mRuntimeException> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Wraps {@code t} in an exception whose stack trace is captured
+     * according to this mode.
+     *
+     * @param t the exception to wrap
+     * @return the wrapping exception
+     */
+    public S3mRuntimeException wrap(Throwable t) {
+        return factory.apply(t);
+    }
+}
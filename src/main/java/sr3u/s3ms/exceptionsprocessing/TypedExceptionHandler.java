@@ -0,0 +1,31 @@
+package sr3u.s3ms.exceptionsprocessing;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+final class TypedExceptionHandler<E extends Throwable> implements ExceptionHandler<E> {
+    private final Class<E> type;
+    private final Consumer<? super E> handler;
+    private final boolean terminal;
+
+    TypedExceptionHandler(Class<E> type, Consumer<? super E> handler, boolean terminal) {
+        this.type = Objects.requireNonNull(type);
+        this.handler = Objects.requireNonNull(handler);
+        this.terminal = terminal;
+    }
+
+    @Override
+    public void handle(E exception) {
+        handler.accept(exception);
+    }
+
+    @Override
+    public boolean isTerminal() {
+        return terminal;
+    }
+
+    @Override
+    public Class<E> exceptionType() {
+        return type;
+    }
+}
@@ -1,11 +1,13 @@
 package sr3u.s3ms.exceptionsprocessing;
 
+import sr3u.functionalex.BiConsumerex;
 import sr3u.functionalex.Consumerex;
 import sr3u.functionalex.Functionex;
 import sr3u.functionalex.Predicatex;
 import sr3u.functionalex.Supplierex;
 
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -24,6 +26,18 @@ public class Wrapper {
         return Wrapped.of(exceptionHandlerChain, wrappedConsumer);
     }
 
+    public static <T, U> Wrapped<BiConsumer<? super T, ? super U>> wrapBiConsumer(BiConsumerex<? super T, ? super U> consumer) {
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        BiConsumer<T, U> wrappedConsumer = (t, u) -> {
+            try {
+                consumer.accept(t, u);
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+        };
+        return Wrapped.of(exceptionHandlerChain, wrappedConsumer);
+    }
+
     public static <T> Wrapped<Predicate<? super T>> wrapPredicate(Predicatex<? super T> predicate) {
         ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
         Predicate<T> wrappedPredicate = (v) -> {
@@ -76,5 +90,130 @@ public class Wrapper {
         };
         return Wrapped.of(exceptionHandlerChain, wrappedSupplier);
     }
-}
 
+    /**
+     * Wraps {@code consumer} so that its exceptions are passed to
+     * {@code policy}. Unlike {@link #wrapConsumer(Consumerex)}, no handler
+     * chain is created.
+     *
+     * @param consumer the consumer to wrap
+     * @param policy   the shared policy that handles exceptions
+     * @param <T>      the type of the input to the consumer
+     * @return the wrapped consumer
+     */
+    public static <T> Consumer<T> wrapConsumer(Consumerex<? super T> consumer, ExceptionPolicy policy) {
+        return (v) -> {
+            try {
+                consumer.accept(v);
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+        };
+    }
+
+    /**
+     * Wraps {@code consumer} so that its exceptions are passed to
+     * {@code policy}.
+     *
+     * @param consumer the consumer to wrap
+     * @param policy   the shared policy that handles exceptions
+     * @param <T>      the type of the first argument to the consumer
+     * @param <U>      the type of the second argument to the consumer
+     * @return the wrapped consumer
+     */
+    public static <T, U> BiConsumer<T, U> wrapBiConsumer(BiConsumerex<? super T, ? super U> consumer, ExceptionPolicy policy) {
+        return (t, u) -> {
+            try {
+                consumer.accept(t, u);
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+        };
+    }
+
+    /**
+     * Wraps {@code predicate} so that its exceptions are passed to
+     * {@code policy}. A handled exception makes the predicate return
+     * {@code false}.
+     *
+     * @param predicate the predicate to wrap
+     * @param policy    the shared policy that handles exceptions
+     * @param <T>       the type of the input to the predicate
+     * @return the wrapped predicate
+     */
+    public static <T> Predicate<T> wrapPredicate(Predicatex<? super T> predicate, ExceptionPolicy policy) {
+        return (v) -> {
+            try {
+                return predicate.test(v);
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Wraps {@code function} so that its exceptions are passed to
+     * {@code policy}. A handled exception makes the function return
+     * {@code null}.
+     *
+     * @param function the function to wrap
+     * @param policy   the shared policy that handles exceptions
+     * @param <U>      the type of the result of the function
+     * @param <T>      the type of the input to the function
+     * @return the wrapped function
+     */
+    public static <U, T> Function<T, U> wrapFunction(Functionex<? super T, ? extends U> function, ExceptionPolicy policy) {
+        return (v) -> {
+            try {
+                return function.apply(v);
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Wraps {@code function} so that its exceptions are passed to
+     * {@code policy}. A handled exception makes the function return an
+     * empty {@code Optional}.
+     *
+     * @param function the function to wrap
+     * @param policy   the shared policy that handles exceptions
+     * @param <U>      the type of the value of the result
+     * @param <T>      the type of the input to the function
+     * @return the wrapped function
+     */
+    public static <U, T> Function<T, Optional<U>> wrapOptionalFunction(Functionex<? super T, Optional<U>> function, ExceptionPolicy policy) {
+        return (v) -> {
+            try {
+                return function.apply(v);
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+            return Optional.empty();
+        };
+    }
+
+    /**
+     * Wraps {@code supplier} so that its exceptions are passed to
+     * {@code policy}. A handled exception makes the supplier return
+     * {@code null}.
+     *
+     * @param supplier the supplier to wrap
+     * @param policy   the shared policy that handles exceptions
+     * @param <T>      the type of the result
+     * @return the wrapped supplier
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplierex<? extends T> supplier, ExceptionPolicy policy) {
+        return () -> {
+            try {
+                return supplier.get();
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,303 @@
+package sr3u.s3ms.futures;
+
+import sr3u.functionalex.Consumerex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Runnablex;
+import sr3u.functionalex.Supplierex;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandler;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
+import sr3u.s3ms.results.Result;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A checked exceptions-friendly wrapper for {@link CompletableFuture}.
+ *
+ * <p>Every stage takes a function that may throw a checked exception. An
+ * exception thrown by a stage is passed to the {@link ExceptionPolicy} of the
+ * {@code Futurex}. If a terminal handler of the policy handles it, the stage
+ * completes with {@code null}, like the functions returned by
+ * {@link sr3u.s3ms.exceptionsprocessing.Wrapper}. Otherwise the stage
+ * completes exceptionally with a {@link S3mRuntimeException}, and the
+ * dependent stages are skipped.
+ *
+ * <p>If the {@code Futurex} has an {@link Executor}, its dependent stages
+ * run asynchronously on it and inherit it. Without one, they run like the
+ * non-async stages of {@code CompletableFuture}: on the thread that
+ * completes the previous stage, or on the caller if it is already complete.
+ *
+ * <pre>{@code
+ *     Futurex<Profile> profile = Futurex.supplyAsyncex(() -> store.load(id), policy, ioExecutor)
+ *             .thenApplyex(Profile::parse)
+ *             .thenComposeex(p -> enrich(p));
+ * }</pre>
+ *
+ * @param <T> the type of the result
+ * @since 1.8.0.0
+ */
+public final class Futurex<T> {
+    private final CompletableFuture<T> future;
+    private final ExceptionPolicy policy;
+    private final Executor executor;
+
+    private Futurex(CompletableFuture<T> future, ExceptionPolicy policy, Executor executor) {
+        this.future = future;
+        this.policy = policy;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a {@code Futurex} that is completed by running {@code supplier}
+     * in the {@linkplain ForkJoinPool#commonPool() common fork/join pool},
+     * with the rethrowing policy. The common pool is sized for computations;
+     * pass an executor to {@link #supplyAsyncex(Supplierex, ExceptionPolicy, Executor)}
+     * for blocking operations. The dependent stages have no executor.
+     *
+     * @param supplier the operation to run
+     * @param <T>      the type of the result
+     * @return the new {@code Futurex}
+     */
+    public static <T> Futurex<T> supplyAsyncex(Supplierex<? extends T> supplier) {
+        Objects.requireNonNull(supplier);
+        return new Futurex<>(CompletableFuture.supplyAsync(supply(supplier, ExceptionPolicy.rethrow())),
+                ExceptionPolicy.rethrow(), null);
+    }
+
+    /**
+     * Returns a {@code Futurex} that is completed by running {@code supplier}
+     * on {@code executor}.
+     *
+     * @param supplier the operation to run
+     * @param policy   the policy that handles exceptions of this and the
+     *                 dependent stages
+     * @param executor the executor of this and the dependent asynchronous stages
+     * @param <T>      the type of the result
+     * @return the new {@code Futurex}
+     */
+    public static <T> Futurex<T> supplyAsyncex(Supplierex<? extends T> supplier, ExceptionPolicy policy, Executor executor) {
+        Objects.requireNonNull(supplier);
+        return new Futurex<>(CompletableFuture.supplyAsync(supply(supplier, policy), executor), policy, executor);
+    }
+
+    private static <T> Supplier<T> supply(Supplierex<? extends T> supplier, ExceptionPolicy policy) {
+        return () -> {
+            try {
+                return supplier.get();
+            } catch (Exception e) {
+                policy.handle(e);
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code Futurex} that is completed by running {@code action}
+     * on {@code executor}.
+     *
+     * @param action   the operation to run
+     * @param policy   the policy that handles exceptions of this and the
+     *                 dependent stages
+     * @param executor the executor of this and the dependent asynchronous stages
+     * @return the new {@code Futurex}
+     */
+    public static Futurex<Void> runAsyncex(Runnablex action, ExceptionPolicy policy, Executor executor) {
+        Objects.requireNonNull(action);
+        return new Futurex<>(CompletableFuture.runAsync(() -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+        }, executor), policy, executor);
+    }
+
+    /**
+     * Returns a {@code Futurex} that is already completed with {@code value}.
+     *
+     * @param value    the result
+     * @param policy   the policy that handles exceptions of the dependent stages
+     * @param executor the executor of the dependent stages, or {@code null}
+     *                 to run them synchronously
+     * @param <T>      the type of the result
+     * @return the completed {@code Futurex}
+     */
+    public static <T> Futurex<T> completed(T value, ExceptionPolicy policy, Executor executor) {
+        return new Futurex<>(CompletableFuture.completedFuture(value), policy, executor);
+    }
+
+    /**
+     * Returns a {@code Futurex} completed when {@code stage} completes.
+     *
+     * @param stage    the stage to wrap
+     * @param policy   the policy that handles exceptions of the dependent stages
+     * @param executor the executor of the dependent stages, or {@code null}
+     *                 to run them synchronously
+     * @param <T>      the type of the result
+     * @return a {@code Futurex} that mirrors {@code stage}
+     */
+    public static <T> Futurex<T> of(CompletionStage<T> stage, ExceptionPolicy policy, Executor executor) {
+        return new Futurex<>(stage.toCompletableFuture(), policy, executor);
+    }
+
+    /**
+     * Returns a {@code Futurex} of the same result whose dependent stages
+     * use {@code policy}.
+     *
+     * @param policy the policy of the dependent stages
+     * @return a {@code Futurex} with the given policy
+     */
+    public Futurex<T> withPolicy(ExceptionPolicy policy) {
+        return new Futurex<>(future, Objects.requireNonNull(policy), executor);
+    }
+
+    /**
+     * Returns a {@code Futurex} of the same result whose dependent stages
+     * run asynchronously on {@code executor}.
+     *
+     * @param executor the executor of the dependent stages
+     * @return a {@code Futurex} with the given executor
+     */
+    public Futurex<T> withExecutor(Executor executor) {
+        return new Futurex<>(future, policy, Objects.requireNonNull(executor));
+    }
+
+    /**
+     * Returns a {@code Futurex} of the same result whose dependent stages
+     * also use a terminal handler for exceptions of {@code type}.
+     *
+     * @param type    the handled exception type
+     * @param handler the action to perform on an exception
+     * @param <E>     the handled exception type
+     * @return a {@code Futurex} with the extended policy
+     */
+    public <E extends Throwable> Futurex<T> handle(Class<E> type, Consumer<? super E> handler) {
+        return withPolicy(policy.withHandler(ExceptionHandler.of(type, handler)));
+    }
+
+    /**
+     * Returns a {@code Futurex} completed with the result of {@code mapper}
+     * applied to the result of this one. {@code mapper} runs on the executor,
+     * if there is one.
+     *
+     * @param mapper the function to apply
+     * @param <U>    the type of the result of {@code mapper}
+     * @return the dependent {@code Futurex}
+     */
+    public <U> Futurex<U> thenApplyex(Functionex<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionPolicy policy = this.policy;
+        Function<T, U> stage = v -> {
+            try {
+                return mapper.apply(v);
+            } catch (Exception e) {
+                policy.handle(e);
+                return null;
+            }
+        };
+        return then(executor == null ? future.thenApply(stage) : future.thenApplyAsync(stage, executor));
+    }
+
+    /**
+     * Returns a {@code Futurex} completed with the result of the
+     * {@code CompletionStage} returned by {@code mapper} applied to the result
+     * of this one. {@code mapper} runs on the executor, if there is one.
+     *
+     * @param mapper the function that returns the next stage
+     * @param <U>    the type of the result of the next stage
+     * @return the dependent {@code Futurex}
+     */
+    public <U> Futurex<U> thenComposeex(Functionex<? super T, ? extends CompletionStage<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionPolicy policy = this.policy;
+        Function<T, CompletionStage<U>> stage = v -> {
+            try {
+                return mapper.apply(v);
+            } catch (Exception e) {
+                policy.handle(e);
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        return then(executor == null ? future.thenCompose(stage) : future.thenComposeAsync(stage, executor));
+    }
+
+    /**
+     * Returns a {@code Futurex} that is completed after {@code consumer} has
+     * consumed the result of this one. {@code consumer} runs on the executor,
+     * if there is one.
+     *
+     * @param consumer the action to perform on the result
+     * @return the dependent {@code Futurex}
+     */
+    public Futurex<Void> thenAcceptex(Consumerex<? super T> consumer) {
+        Objects.requireNonNull(consumer);
+        ExceptionPolicy policy = this.policy;
+        Consumer<T> stage = v -> {
+            try {
+                consumer.accept(v);
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+        };
+        return then(executor == null ? future.thenAccept(stage) : future.thenAcceptAsync(stage, executor));
+    }
+
+    private <U> Futurex<U> then(CompletableFuture<U> next) {
+        return new Futurex<>(next, policy, executor);
+    }
+
+    /**
+     * Waits for the result.
+     *
+     * @return the result
+     * @throws S3mRuntimeException if a stage failed with an exception the
+     *                             policy did not handle
+     */
+    public T join() {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new S3mRuntimeException(cause);
+        }
+    }
+
+    /**
+     * Waits for the result and returns it, or the exception a stage failed
+     * with, as a {@link Result}.
+     *
+     * @return the outcome of this {@code Futurex}
+     */
+    public Result<T> toResult() {
+        try {
+            return Result.success(future.join());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof S3mRuntimeException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            return Result.failure(cause);
+        } catch (RuntimeException e) {
+            return Result.failure(e);
+        }
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    public CompletableFuture<T> toCompletableFuture() {
+        return future;
+    }
+}
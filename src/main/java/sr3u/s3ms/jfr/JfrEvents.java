@@ -0,0 +1,61 @@
+package sr3u.s3ms.jfr;
+
+/**
+ * Emits Java Flight Recorder events for exception handling and {@code Op}
+ * evaluation. This is the Java 8 variant, which does nothing; on Java 11 and
+ * later the multi-release jar provides a variant that emits the
+ * {@code s3ms.ExceptionHandled} and {@code s3ms.OpTerminated} events.
+ *
+ * <p>The methods are meant for the library itself. {@code begin} methods
+ * return {@code null} when the event is disabled, and the matching
+ * {@code end} method must only be called with a non-null token.
+ *
+ * @since 1.8.0.0
+ */
+public final class JfrEvents {
+    private JfrEvents() {
+    }
+
+    /**
+     * Starts timing the handling of an exception.
+     *
+     * @return a token for {@link #endExceptionHandled}, or {@code null} if
+     * the event is disabled
+     */
+    public static Object beginExceptionHandled() {
+        return null;
+    }
+
+    /**
+     * Ends timing the handling of an exception and commits the event if it
+     * passes its threshold.
+     *
+     * @param token   the token returned by {@link #beginExceptionHandled()}
+     * @param t       the exception
+     * @param handler the terminal handler that handled it, or {@code null} if
+     *                it was not handled
+     */
+    public static void endExceptionHandled(Object token, Throwable t, Object handler) {
+    }
+
+    /**
+     * Starts timing the evaluation of an {@code Op}.
+     *
+     * @return a token for {@link #endOpTerminated}, or {@code null} if the
+     * event is disabled
+     */
+    public static Object beginOpTerminated() {
+        return null;
+    }
+
+    /**
+     * Ends timing the evaluation of an {@code Op} and commits the event if it
+     * passes its threshold.
+     *
+     * @param token   the token returned by {@link #beginOpTerminated()}
+     * @param op      the class of the evaluated {@code Op}
+     * @param failure the exception the evaluation threw, or {@code null}
+     */
+    public static void endOpTerminated(Object token, Class<?> op, Throwable failure) {
+    }
+}
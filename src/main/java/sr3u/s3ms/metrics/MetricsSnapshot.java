@@ -0,0 +1,93 @@
+package sr3u.s3ms.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable copy of the values of an {@link OpMetrics} at one point in
+ * time.
+ *
+ * @since 1.8.0.0
+ */
+public final class MetricsSnapshot {
+    private final String name;
+    private final long invocations;
+    private final long handled;
+    private final long rethrown;
+    private final Map<String, Long> failuresByType;
+    private final long[] latencies;
+
+    MetricsSnapshot(String name, long invocations, long handled, long rethrown, Map<String, Long> failuresByType,
+                    long[] latencies) {
+        this.name = name;
+        this.invocations = invocations;
+        this.handled = handled;
+        this.rethrown = rethrown;
+        this.failuresByType = Collections.unmodifiableMap(failuresByType);
+        this.latencies = latencies;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of timed evaluations.
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * Returns the number of exceptions that were handled or rethrown.
+     */
+    public long getFailures() {
+        return handled + rethrown;
+    }
+
+    /**
+     * Returns the number of exceptions a terminal handler handled.
+     */
+    public long getHandled() {
+        return handled;
+    }
+
+    /**
+     * Returns the number of exceptions no terminal handler handled.
+     */
+    public long getRethrown() {
+        return rethrown;
+    }
+
+    /**
+     * Returns the number of exceptions per exception class name.
+     */
+    public Map<String, Long> getFailuresByType() {
+        return failuresByType;
+    }
+
+    /**
+     * Returns the latency in nanoseconds below which {@code percentile}
+     * percent of the timed evaluations completed, with the precision of the
+     * {@link LatencyHistogram}.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds, or 0 if nothing was timed
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        return LatencyHistogram.percentile(latencies, percentile);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{" +
+                "name=" + name +
+                ", invocations=" + invocations +
+                ", handled=" + handled +
+                ", rethrown=" + rethrown +
+                ", failuresByType=" + failuresByType +
+                ", p50=" + getLatencyPercentileNanos(50) +
+                ", p99=" + getLatencyPercentileNanos(99) +
+                '}';
+    }
+}
@@ -0,0 +1,167 @@
+package sr3u.s3ms.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and a latency histogram for a named group of operations, e.g. all
+ * the {@link sr3u.s3ms.exceptionsprocessing.Op}s of one pipeline or all the
+ * calls wrapped with one
+ * {@link sr3u.s3ms.exceptionsprocessing.ExceptionPolicy}. Metrics are opt-in:
+ * an {@code Op} or a policy without metrics only checks a field for
+ * {@code null}.
+ *
+ * <p>The counters are {@link LongAdder}s, so concurrent updates do not
+ * contend. Values are read with {@link #snapshot()} or through JMX after
+ * {@link #registerMBean()}.
+ *
+ * @since 1.8.0.0
+ */
+public final class OpMetrics implements OpMetricsMXBean {
+    private static final ConcurrentMap<String, OpMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder handled = new LongAdder();
+    private final LongAdder rethrown = new LongAdder();
+    private final ConcurrentMap<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+    private OpMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the metrics with the given name, creating them on first use.
+     *
+     * @param name the name of the metrics
+     * @return the shared metrics of that name
+     */
+    public static OpMetrics named(String name) {
+        return REGISTRY.computeIfAbsent(name, OpMetrics::new);
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * {@code sr3u.s3ms:type=OpMetrics,name=<name>}. Registering twice has no
+     * effect.
+     *
+     * @return these metrics
+     * @throws IllegalStateException if the registration failed
+     */
+    public OpMetrics registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(this, objectName());
+        } catch (InstanceAlreadyExistsException ignored) {
+            // already registered
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+        return this;
+    }
+
+    ObjectName objectName() throws JMException {
+        return new ObjectName("sr3u.s3ms:type=OpMetrics,name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * Records a timed evaluation.
+     *
+     * @param nanos the duration of the evaluation
+     */
+    public void recordInvocation(long nanos) {
+        invocations.increment();
+        latencies.record(nanos);
+        maxLatency.accumulate(nanos);
+    }
+
+    /**
+     * Records an exception.
+     *
+     * @param t         the exception
+     * @param isHandled whether a terminal handler handled it
+     */
+    public void recordFailure(Throwable t, boolean isHandled) {
+        (isHandled ? handled : rethrown).increment();
+        LongAdder counter = failuresByType.get(t.getClass());
+        if (counter == null) {
+            counter = failuresByType.computeIfAbsent(t.getClass(), type -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(name, invocations.sum(), handled.sum(), rethrown.sum(), getFailuresByType(),
+                latencies.counts());
+    }
+
+    /**
+     * Resets all counters. Updates that happen concurrently may be lost.
+     */
+    public void reset() {
+        invocations.reset();
+        handled.reset();
+        rethrown.reset();
+        failuresByType.clear();
+        latencies.reset();
+        maxLatency.reset();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return handled.sum() + rethrown.sum();
+    }
+
+    @Override
+    public long getHandled() {
+        return handled.sum();
+    }
+
+    @Override
+    public long getRethrown() {
+        return rethrown.sum();
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByType() {
+        Map<String, Long> result = new TreeMap<>();
+        failuresByType.forEach((type, count) -> result.put(type.getName(), count.sum()));
+        return result;
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return LatencyHistogram.percentile(latencies.counts(), 50);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return LatencyHistogram.percentile(latencies.counts(), 99);
+    }
+
+    @Override
+    public long getLatencyMaxNanos() {
+        return maxLatency.get();
+    }
+}
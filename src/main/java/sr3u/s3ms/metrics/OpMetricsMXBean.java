@@ -0,0 +1,28 @@
+package sr3u.s3ms.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of an {@link OpMetrics}.
+ *
+ * @since 1.8.0.0
+ */
+public interface OpMetricsMXBean {
+    String getName();
+
+    long getInvocations();
+
+    long getFailures();
+
+    long getHandled();
+
+    long getRethrown();
+
+    Map<String, Long> getFailuresByType();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyMaxNanos();
+}
@@ -0,0 +1,467 @@
+package sr3u.s3ms.optionals;
+
+import sr3u.functionalex.primitive.DoubleToIntFunctionex;
+import sr3u.functionalex.primitive.DoubleToLongFunctionex;
+import sr3u.functionalex.primitive.doublefloat.DoubleConsumerex;
+import sr3u.functionalex.primitive.doublefloat.DoubleFunctionex;
+import sr3u.functionalex.primitive.doublefloat.DoublePredicatex;
+import sr3u.functionalex.primitive.doublefloat.DoubleSupplierex;
+import sr3u.functionalex.primitive.doublefloat.DoubleUnaryOperatorex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A checked exceptions-friendly counterpart of {@link OptionalDouble}.
+ *
+ * <p>The value is held unboxed. If a {@code *ex} method fails and a terminal
+ * handler handles the exception, the resulting {@code OptionalDoubleex} is
+ * empty.
+ *
+ * @see Optionalex
+ * @since 1.8.0.0
+ */
+public final class OptionalDoubleex {
+    private static final OptionalDoubleex EMPTY = new OptionalDoubleex(false, 0);
+
+    private final boolean isPresent;
+    private final double value;
+
+    private OptionalDoubleex(boolean isPresent, double value) {
+        this.isPresent = isPresent;
+        this.value = value;
+    }
+
+    /**
+     * Returns an empty {@code OptionalDoubleex} instance.  No value is present
+     * for this OptionalDoubleex.
+     *
+     * @return an empty {@code OptionalDoubleex}
+     */
+    public static OptionalDoubleex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Return an {@code OptionalDoubleex} with the specified value present.
+     *
+     * @param value the value to be present
+     * @return an {@code OptionalDoubleex} with the value present
+     */
+    public static OptionalDoubleex of(double value) {
+        return new OptionalDoubleex(true, value);
+    }
+
+    /**
+     * Returns an {@code OptionalDoubleex} describing the value of the specified
+     * {@code OptionalDouble}.
+     *
+     * @param optional the optional to be converted
+     * @return an {@code OptionalDoubleex} with the value of {@code optional}, if
+     * present, otherwise an empty {@code OptionalDoubleex}
+     */
+    public static OptionalDoubleex ofOptional(OptionalDouble optional) {
+        return optional.isPresent() ? of(optional.getAsDouble()) : EMPTY;
+    }
+
+    /**
+     * If a value is present in this {@code OptionalDoubleex}, returns the value,
+     * otherwise throws {@code NoSuchElementException}.
+     *
+     * @return the value held by this {@code OptionalDoubleex}
+     * @throws NoSuchElementException if there is no value present
+     * @see OptionalDoubleex#isPresent()
+     */
+    public double getAsDouble() {
+        if (!isPresent) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * Return {@code true} if there is a value present, otherwise {@code false}.
+     *
+     * @return {@code true} if there is a value present, otherwise {@code false}
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * Have the specified consumer accept the value if a value is present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if a value is present
+     * @throws NullPointerException if value is present and {@code consumer} is
+     *                              null
+     */
+    public void ifPresent(DoubleConsumer consumer) {
+        if (isPresent) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * Have the specified consumer accept the value if a value is present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if a value is present
+     * @throws NullPointerException if value is present and {@code consumer} is
+     *                              null
+     */
+    public Op<OptionalDoubleex> ifPresentex(DoubleConsumerex consumer) {
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        Runnable op = () -> {
+            if (isPresent) {
+                try {
+                    consumer.accept(value);
+                } catch (Exception e) {
+                    exceptionHandlerChain.handle(e);
+                }
+            }
+        };
+        return new Op<>(this, exceptionHandlerChain, op);
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return an {@code OptionalDoubleex} describing the value, otherwise return
+     * an empty {@code OptionalDoubleex}.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the value of this
+     * {@code OptionalDoubleex} if a value is present and the value matches the
+     * given predicate, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the predicate is null
+     */
+    public OptionalDoubleex filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return !isPresent || predicate.test(value) ? this : EMPTY;
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return an {@code OptionalDoubleex} describing the value, otherwise return
+     * an empty {@code OptionalDoubleex}.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the value of this
+     * {@code OptionalDoubleex} if a value is present and the value matches the
+     * given predicate, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the predicate is null
+     */
+    public Op<OptionalDoubleex> filterex(DoublePredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return this;
+            }
+            try {
+                return predicate.test(value) ? this : EMPTY;
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalDoubleex map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? of(mapper.applyAsDouble(value)) : EMPTY;
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalDoubleex> mapex(DoubleUnaryOperatorex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return EMPTY;
+            }
+            try {
+                return of(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it, and
+     * if the result is non-null, return an {@code Optionalex} describing the
+     * result.  Otherwise, return an empty {@code Optionalex}.
+     *
+     * @param <U>    the type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code Optionalex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> Optionalex<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? Optionalex.ofNullable(mapper.apply(value)) : Optionalex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it, and
+     * if the result is non-null, return an {@code Optionalex} describing the
+     * result.  Otherwise, return an empty {@code Optionalex}.
+     *
+     * @param <U>    the type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code Optionalex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> Op<Optionalex<U>> mapToObjex(DoubleFunctionex<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return Optionalex.empty();
+            }
+            try {
+                return Optionalex.ofNullable(mapper.apply(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return Optionalex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalIntex mapToInt(DoubleToIntFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? OptionalIntex.of(mapper.applyAsInt(value)) : OptionalIntex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalIntex> mapToIntex(DoubleToIntFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return OptionalIntex.empty();
+            }
+            try {
+                return OptionalIntex.of(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalIntex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalLongex mapToLong(DoubleToLongFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? OptionalLongex.of(mapper.applyAsLong(value)) : OptionalLongex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalDoubleex}, if a value
+     * is present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalLongex> mapToLongex(DoubleToLongFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return OptionalLongex.empty();
+            }
+            try {
+                return OptionalLongex.of(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalLongex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * Return the value if present, otherwise return {@code other}.
+     *
+     * @param other the value to be returned if there is no value present
+     * @return the value, if present, otherwise {@code other}
+     */
+    public double orElse(double other) {
+        return isPresent ? value : other;
+    }
+
+    /**
+     * Return the value if present, otherwise invoke {@code other} and return
+     * the result of that invocation.
+     *
+     * @param other a {@code DoubleSupplier} whose result is returned if no value
+     *              is present
+     * @return the value if present otherwise the result of {@code other.getAsDouble()}
+     * @throws NullPointerException if value is not present and {@code other} is
+     *                              null
+     */
+    public double orElseGet(DoubleSupplier other) {
+        return isPresent ? value : other.getAsDouble();
+    }
+
+    /**
+     * Return this {@code OptionalDoubleex} if a value is present, otherwise
+     * invoke {@code other} and return an {@code OptionalDoubleex} describing the
+     * result of that invocation.
+     *
+     * @param other a {@code DoubleSupplierex} whose result is used if no value
+     *              is present
+     * @return a deferred {@code OptionalDoubleex} with the value if present,
+     * otherwise with the result of {@code other.getAsDouble()}
+     * @throws NullPointerException if value is not present and {@code other} is
+     *                              null
+     */
+    public Op<OptionalDoubleex> orElseGetex(DoubleSupplierex other) {
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (isPresent) {
+                return this;
+            }
+            try {
+                return of(other.getAsDouble());
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws
+     * {@code NoSuchElementException}.
+     *
+     * @return the value held by this {@code OptionalDoubleex}
+     * @throws NoSuchElementException if no value is present
+     */
+    public double orElseThrow() {
+        return getAsDouble();
+    }
+
+    /**
+     * Return the contained value, if present, otherwise throw an exception
+     * to be created by the provided supplier.
+     *
+     * @param <X>               Type of the exception to be thrown
+     * @param exceptionSupplier The supplier which will return the exception to
+     *                          be thrown
+     * @return the present value
+     * @throws X                    if there is no value present
+     * @throws NullPointerException if no value is present and
+     *                              {@code exceptionSupplier} is null
+     */
+    public <X extends Throwable> double orElseThrow(Supplier<X> exceptionSupplier) throws X {
+        if (isPresent) {
+            return value;
+        }
+        throw exceptionSupplier.get();
+    }
+
+    /**
+     * Returns an {@code OptionalDouble} describing the same value.
+     *
+     * @return an {@code OptionalDouble} with the value of this
+     * {@code OptionalDoubleex}, if present, otherwise an empty {@code OptionalDouble}
+     */
+    public OptionalDouble toOptional() {
+        return isPresent ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalDoubleex)) {
+            return false;
+        }
+        OptionalDoubleex other = (OptionalDoubleex) o;
+        return isPresent && other.isPresent ? Double.compare(value, other.value) == 0 : isPresent == other.isPresent;
+    }
+
+    @Override
+    public int hashCode() {
+        return isPresent ? Double.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return isPresent ? "OptionalDoubleex[" + value + "]" : "OptionalDoubleex.empty";
+    }
+}
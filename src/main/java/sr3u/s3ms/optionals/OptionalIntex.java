@@ -0,0 +1,479 @@
+package sr3u.s3ms.optionals;
+
+import sr3u.functionalex.primitive.IntToDoubleFunctionex;
+import sr3u.functionalex.primitive.IntToLongFunctionex;
+import sr3u.functionalex.primitive.integer.IntConsumerex;
+import sr3u.functionalex.primitive.integer.IntFunctionex;
+import sr3u.functionalex.primitive.integer.IntPredicatex;
+import sr3u.functionalex.primitive.integer.IntSupplierex;
+import sr3u.functionalex.primitive.integer.IntUnaryOperatorex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A checked exceptions-friendly counterpart of {@link OptionalInt}.
+ *
+ * <p>The value is held unboxed, and the values from -128 to 127 share cached
+ * instances. If a {@code *ex} method fails and a terminal handler handles
+ * the exception, the resulting
+ * {@code OptionalIntex} is empty.
+ *
+ * @see Optionalex
+ * @since 1.8.0.0
+ */
+public final class OptionalIntex {
+    private static final OptionalIntex EMPTY = new OptionalIntex(false, 0);
+    private static final int CACHE_LOW = -128;
+    private static final OptionalIntex[] CACHE = new OptionalIntex[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new OptionalIntex(true, CACHE_LOW + i);
+        }
+    }
+
+    private final boolean isPresent;
+    private final int value;
+
+    private OptionalIntex(boolean isPresent, int value) {
+        this.isPresent = isPresent;
+        this.value = value;
+    }
+
+    /**
+     * Returns an empty {@code OptionalIntex} instance.  No value is present
+     * for this OptionalIntex.
+     *
+     * @return an empty {@code OptionalIntex}
+     */
+    public static OptionalIntex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Return an {@code OptionalIntex} with the specified value present.
+     *
+     * @param value the value to be present
+     * @return an {@code OptionalIntex} with the value present
+     */
+    public static OptionalIntex of(int value) {
+        if (value >= CACHE_LOW && value < CACHE_LOW + CACHE.length) {
+            return CACHE[value - CACHE_LOW];
+        }
+        return new OptionalIntex(true, value);
+    }
+
+    /**
+     * Returns an {@code OptionalIntex} describing the value of the specified
+     * {@code OptionalInt}.
+     *
+     * @param optional the optional to be converted
+     * @return an {@code OptionalIntex} with the value of {@code optional}, if
+     * present, otherwise an empty {@code OptionalIntex}
+     */
+    public static OptionalIntex ofOptional(OptionalInt optional) {
+        return optional.isPresent() ? of(optional.getAsInt()) : EMPTY;
+    }
+
+    /**
+     * If a value is present in this {@code OptionalIntex}, returns the value,
+     * otherwise throws {@code NoSuchElementException}.
+     *
+     * @return the value held by this {@code OptionalIntex}
+     * @throws NoSuchElementException if there is no value present
+     * @see OptionalIntex#isPresent()
+     */
+    public int getAsInt() {
+        if (!isPresent) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * Return {@code true} if there is a value present, otherwise {@code false}.
+     *
+     * @return {@code true} if there is a value present, otherwise {@code false}
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * Have the specified consumer accept the value if a value is present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if a value is present
+     * @throws NullPointerException if value is present and {@code consumer} is
+     *                              null
+     */
+    public void ifPresent(IntConsumer consumer) {
+        if (isPresent) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * Have the specified consumer accept the value if a value is present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if a value is present
+     * @throws NullPointerException if value is present and {@code consumer} is
+     *                              null
+     */
+    public Op<OptionalIntex> ifPresentex(IntConsumerex consumer) {
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        Runnable op = () -> {
+            if (isPresent) {
+                try {
+                    consumer.accept(value);
+                } catch (Exception e) {
+                    exceptionHandlerChain.handle(e);
+                }
+            }
+        };
+        return new Op<>(this, exceptionHandlerChain, op);
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return an {@code OptionalIntex} describing the value, otherwise return
+     * an empty {@code OptionalIntex}.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the value of this
+     * {@code OptionalIntex} if a value is present and the value matches the
+     * given predicate, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the predicate is null
+     */
+    public OptionalIntex filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return !isPresent || predicate.test(value) ? this : EMPTY;
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return an {@code OptionalIntex} describing the value, otherwise return
+     * an empty {@code OptionalIntex}.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the value of this
+     * {@code OptionalIntex} if a value is present and the value matches the
+     * given predicate, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the predicate is null
+     */
+    public Op<OptionalIntex> filterex(IntPredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return this;
+            }
+            try {
+                return predicate.test(value) ? this : EMPTY;
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalIntex map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? of(mapper.applyAsInt(value)) : EMPTY;
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalIntex> mapex(IntUnaryOperatorex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return EMPTY;
+            }
+            try {
+                return of(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it, and
+     * if the result is non-null, return an {@code Optionalex} describing the
+     * result.  Otherwise, return an empty {@code Optionalex}.
+     *
+     * @param <U>    the type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code Optionalex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> Optionalex<U> mapToObj(IntFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? Optionalex.ofNullable(mapper.apply(value)) : Optionalex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it, and
+     * if the result is non-null, return an {@code Optionalex} describing the
+     * result.  Otherwise, return an empty {@code Optionalex}.
+     *
+     * @param <U>    the type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code Optionalex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> Op<Optionalex<U>> mapToObjex(IntFunctionex<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return Optionalex.empty();
+            }
+            try {
+                return Optionalex.ofNullable(mapper.apply(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return Optionalex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalLongex mapToLong(IntToLongFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? OptionalLongex.of(mapper.applyAsLong(value)) : OptionalLongex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalLongex> mapToLongex(IntToLongFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return OptionalLongex.empty();
+            }
+            try {
+                return OptionalLongex.of(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalLongex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalDoubleex mapToDouble(IntToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? OptionalDoubleex.of(mapper.applyAsDouble(value)) : OptionalDoubleex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalIntex}, if a value
+     * is present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalDoubleex> mapToDoubleex(IntToDoubleFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return OptionalDoubleex.empty();
+            }
+            try {
+                return OptionalDoubleex.of(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalDoubleex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * Return the value if present, otherwise return {@code other}.
+     *
+     * @param other the value to be returned if there is no value present
+     * @return the value, if present, otherwise {@code other}
+     */
+    public int orElse(int other) {
+        return isPresent ? value : other;
+    }
+
+    /**
+     * Return the value if present, otherwise invoke {@code other} and return
+     * the result of that invocation.
+     *
+     * @param other an {@code IntSupplier} whose result is returned if no value
+     *              is present
+     * @return the value if present otherwise the result of {@code other.getAsInt()}
+     * @throws NullPointerException if value is not present and {@code other} is
+     *                              null
+     */
+    public int orElseGet(IntSupplier other) {
+        return isPresent ? value : other.getAsInt();
+    }
+
+    /**
+     * Return this {@code OptionalIntex} if a value is present, otherwise
+     * invoke {@code other} and return an {@code OptionalIntex} describing the
+     * result of that invocation.
+     *
+     * @param other an {@code IntSupplierex} whose result is used if no value
+     *              is present
+     * @return a deferred {@code OptionalIntex} with the value if present,
+     * otherwise with the result of {@code other.getAsInt()}
+     * @throws NullPointerException if value is not present and {@code other} is
+     *                              null
+     */
+    public Op<OptionalIntex> orElseGetex(IntSupplierex other) {
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (isPresent) {
+                return this;
+            }
+            try {
+                return of(other.getAsInt());
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws
+     * {@code NoSuchElementException}.
+     *
+     * @return the value held by this {@code OptionalIntex}
+     * @throws NoSuchElementException if no value is present
+     */
+    public int orElseThrow() {
+        return getAsInt();
+    }
+
+    /**
+     * Return the contained value, if present, otherwise throw an exception
+     * to be created by the provided supplier.
+     *
+     * @param <X>               Type of the exception to be thrown
+     * @param exceptionSupplier The supplier which will return the exception to
+     *                          be thrown
+     * @return the present value
+     * @throws X                    if there is no value present
+     * @throws NullPointerException if no value is present and
+     *                              {@code exceptionSupplier} is null
+     */
+    public <X extends Throwable> int orElseThrow(Supplier<X> exceptionSupplier) throws X {
+        if (isPresent) {
+            return value;
+        }
+        throw exceptionSupplier.get();
+    }
+
+    /**
+     * Returns an {@code OptionalInt} describing the same value.
+     *
+     * @return an {@code OptionalInt} with the value of this
+     * {@code OptionalIntex}, if present, otherwise an empty {@code OptionalInt}
+     */
+    public OptionalInt toOptional() {
+        return isPresent ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalIntex)) {
+            return false;
+        }
+        OptionalIntex other = (OptionalIntex) o;
+        return isPresent && other.isPresent ? value == other.value : isPresent == other.isPresent;
+    }
+
+    @Override
+    public int hashCode() {
+        return isPresent ? Integer.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return isPresent ? "OptionalIntex[" + value + "]" : "OptionalIntex.empty";
+    }
+}
@@ -0,0 +1,479 @@
+package sr3u.s3ms.optionals;
+
+import sr3u.functionalex.primitive.LongToIntFunctionex;
+import sr3u.functionalex.primitive.LongToDoubleFunctionex;
+import sr3u.functionalex.primitive.longinteger.LongConsumerex;
+import sr3u.functionalex.primitive.longinteger.LongFunctionex;
+import sr3u.functionalex.primitive.longinteger.LongPredicatex;
+import sr3u.functionalex.primitive.longinteger.LongSupplierex;
+import sr3u.functionalex.primitive.longinteger.LongUnaryOperatorex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A checked exceptions-friendly counterpart of {@link OptionalLong}.
+ *
+ * <p>The value is held unboxed, and the values from -128 to 127 share cached
+ * instances. If a {@code *ex} method fails and a terminal handler handles
+ * the exception, the resulting
+ * {@code OptionalLongex} is empty.
+ *
+ * @see Optionalex
+ * @since 1.8.0.0
+ */
+public final class OptionalLongex {
+    private static final OptionalLongex EMPTY = new OptionalLongex(false, 0);
+    private static final int CACHE_LOW = -128;
+    private static final OptionalLongex[] CACHE = new OptionalLongex[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new OptionalLongex(true, CACHE_LOW + i);
+        }
+    }
+
+    private final boolean isPresent;
+    private final long value;
+
+    private OptionalLongex(boolean isPresent, long value) {
+        this.isPresent = isPresent;
+        this.value = value;
+    }
+
+    /**
+     * Returns an empty {@code OptionalLongex} instance.  No value is present
+     * for this OptionalLongex.
+     *
+     * @return an empty {@code OptionalLongex}
+     */
+    public static OptionalLongex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Return an {@code OptionalLongex} with the specified value present.
+     *
+     * @param value the value to be present
+     * @return an {@code OptionalLongex} with the value present
+     */
+    public static OptionalLongex of(long value) {
+        if (value >= CACHE_LOW && value < CACHE_LOW + CACHE.length) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
+        return new OptionalLongex(true, value);
+    }
+
+    /**
+     * Returns an {@code OptionalLongex} describing the value of the specified
+     * {@code OptionalLong}.
+     *
+     * @param optional the optional to be converted
+     * @return an {@code OptionalLongex} with the value of {@code optional}, if
+     * present, otherwise an empty {@code OptionalLongex}
+     */
+    public static OptionalLongex ofOptional(OptionalLong optional) {
+        return optional.isPresent() ? of(optional.getAsLong()) : EMPTY;
+    }
+
+    /**
+     * If a value is present in this {@code OptionalLongex}, returns the value,
+     * otherwise throws {@code NoSuchElementException}.
+     *
+     * @return the value held by this {@code OptionalLongex}
+     * @throws NoSuchElementException if there is no value present
+     * @see OptionalLongex#isPresent()
+     */
+    public long getAsLong() {
+        if (!isPresent) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * Return {@code true} if there is a value present, otherwise {@code false}.
+     *
+     * @return {@code true} if there is a value present, otherwise {@code false}
+     */
+    public boolean isPresent() {
+        return isPresent;
+    }
+
+    /**
+     * Have the specified consumer accept the value if a value is present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if a value is present
+     * @throws NullPointerException if value is present and {@code consumer} is
+     *                              null
+     */
+    public void ifPresent(LongConsumer consumer) {
+        if (isPresent) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * Have the specified consumer accept the value if a value is present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if a value is present
+     * @throws NullPointerException if value is present and {@code consumer} is
+     *                              null
+     */
+    public Op<OptionalLongex> ifPresentex(LongConsumerex consumer) {
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        Runnable op = () -> {
+            if (isPresent) {
+                try {
+                    consumer.accept(value);
+                } catch (Exception e) {
+                    exceptionHandlerChain.handle(e);
+                }
+            }
+        };
+        return new Op<>(this, exceptionHandlerChain, op);
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return an {@code OptionalLongex} describing the value, otherwise return
+     * an empty {@code OptionalLongex}.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the value of this
+     * {@code OptionalLongex} if a value is present and the value matches the
+     * given predicate, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the predicate is null
+     */
+    public OptionalLongex filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return !isPresent || predicate.test(value) ? this : EMPTY;
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return an {@code OptionalLongex} describing the value, otherwise return
+     * an empty {@code OptionalLongex}.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the value of this
+     * {@code OptionalLongex} if a value is present and the value matches the
+     * given predicate, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the predicate is null
+     */
+    public Op<OptionalLongex> filterex(LongPredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return this;
+            }
+            try {
+                return predicate.test(value) ? this : EMPTY;
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalLongex map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? of(mapper.applyAsLong(value)) : EMPTY;
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalLongex> mapex(LongUnaryOperatorex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return EMPTY;
+            }
+            try {
+                return of(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it, and
+     * if the result is non-null, return an {@code Optionalex} describing the
+     * result.  Otherwise, return an empty {@code Optionalex}.
+     *
+     * @param <U>    the type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code Optionalex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> Optionalex<U> mapToObj(LongFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? Optionalex.ofNullable(mapper.apply(value)) : Optionalex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it, and
+     * if the result is non-null, return an {@code Optionalex} describing the
+     * result.  Otherwise, return an empty {@code Optionalex}.
+     *
+     * @param <U>    the type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code Optionalex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> Op<Optionalex<U>> mapToObjex(LongFunctionex<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return Optionalex.empty();
+            }
+            try {
+                return Optionalex.ofNullable(mapper.apply(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return Optionalex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalIntex mapToInt(LongToIntFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? OptionalIntex.of(mapper.applyAsInt(value)) : OptionalIntex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalIntex> mapToIntex(LongToIntFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return OptionalIntex.empty();
+            }
+            try {
+                return OptionalIntex.of(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalIntex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalDoubleex mapToDouble(LongToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper);
+        return isPresent ? OptionalDoubleex.of(mapper.applyAsDouble(value)) : OptionalDoubleex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code OptionalLongex}, if a value
+     * is present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalDoubleex> mapToDoubleex(LongToDoubleFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (!isPresent) {
+                return OptionalDoubleex.empty();
+            }
+            try {
+                return OptionalDoubleex.of(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalDoubleex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * Return the value if present, otherwise return {@code other}.
+     *
+     * @param other the value to be returned if there is no value present
+     * @return the value, if present, otherwise {@code other}
+     */
+    public long orElse(long other) {
+        return isPresent ? value : other;
+    }
+
+    /**
+     * Return the value if present, otherwise invoke {@code other} and return
+     * the result of that invocation.
+     *
+     * @param other a {@code LongSupplier} whose result is returned if no value
+     *              is present
+     * @return the value if present otherwise the result of {@code other.getAsLong()}
+     * @throws NullPointerException if value is not present and {@code other} is
+     *                              null
+     */
+    public long orElseGet(LongSupplier other) {
+        return isPresent ? value : other.getAsLong();
+    }
+
+    /**
+     * Return this {@code OptionalLongex} if a value is present, otherwise
+     * invoke {@code other} and return an {@code OptionalLongex} describing the
+     * result of that invocation.
+     *
+     * @param other a {@code LongSupplierex} whose result is used if no value
+     *              is present
+     * @return a deferred {@code OptionalLongex} with the value if present,
+     * otherwise with the result of {@code other.getAsLong()}
+     * @throws NullPointerException if value is not present and {@code other} is
+     *                              null
+     */
+    public Op<OptionalLongex> orElseGetex(LongSupplierex other) {
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (isPresent) {
+                return this;
+            }
+            try {
+                return of(other.getAsLong());
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return EMPTY;
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, returns the value, otherwise throws
+     * {@code NoSuchElementException}.
+     *
+     * @return the value held by this {@code OptionalLongex}
+     * @throws NoSuchElementException if no value is present
+     */
+    public long orElseThrow() {
+        return getAsLong();
+    }
+
+    /**
+     * Return the contained value, if present, otherwise throw an exception
+     * to be created by the provided supplier.
+     *
+     * @param <X>               Type of the exception to be thrown
+     * @param exceptionSupplier The supplier which will return the exception to
+     *                          be thrown
+     * @return the present value
+     * @throws X                    if there is no value present
+     * @throws NullPointerException if no value is present and
+     *                              {@code exceptionSupplier} is null
+     */
+    public <X extends Throwable> long orElseThrow(Supplier<X> exceptionSupplier) throws X {
+        if (isPresent) {
+            return value;
+        }
+        throw exceptionSupplier.get();
+    }
+
+    /**
+     * Returns an {@code OptionalLong} describing the same value.
+     *
+     * @return an {@code OptionalLong} with the value of this
+     * {@code OptionalLongex}, if present, otherwise an empty {@code OptionalLong}
+     */
+    public OptionalLong toOptional() {
+        return isPresent ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalLongex)) {
+            return false;
+        }
+        OptionalLongex other = (OptionalLongex) o;
+        return isPresent && other.isPresent ? value == other.value : isPresent == other.isPresent;
+    }
+
+    @Override
+    public int hashCode() {
+        return isPresent ? Long.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return isPresent ? "OptionalLongex[" + value + "]" : "OptionalLongex.empty";
+    }
+}
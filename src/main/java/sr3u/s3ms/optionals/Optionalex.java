@@ -4,6 +4,11 @@ import sr3u.functionalex.Consumerex;
 import sr3u.functionalex.Functionex;
 import sr3u.functionalex.Predicatex;
 import sr3u.functionalex.Supplierex;
+import sr3u.functionalex.primitive.doublefloat.ToDoubleFunctionex;
+import sr3u.functionalex.primitive.integer.ToIntFunctionex;
+import sr3u.functionalex.primitive.longinteger.ToLongFunctionex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
 import sr3u.s3ms.exceptionsprocessing.Op;
 import sr3u.s3ms.exceptionsprocessing.Wrapped;
 import sr3u.s3ms.exceptionsprocessing.Wrapper;
@@ -15,6 +20,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A checked exceptions-friendly wrapper for {@link Optional}
@@ -23,17 +31,24 @@ import java.util.function.Supplier;
  */
 
 @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-public class Optionalex<T> {
-    private final Optional<T> optional;
+public final class Optionalex<T> {
+    /**
+     * Common instance for {@code empty()}.
+     */
+    private static final Optionalex<?> EMPTY = new Optionalex<>(null);
 
     /**
-     * Constructs an instance with the value present.
+     * If non-null, the value; if null, indicates no value is present
+     */
+    private final T value;
+
+    /**
+     * Constructs an instance with the described value.
      *
-     * @param optional the internal {@code Optional}
-     * @throws NullPointerException if value is null
+     * @param value the value to describe, {@code null} only for {@link #EMPTY}
      */
-    private Optionalex(Optional<T> optional) {
-        this.optional = optional;
+    private Optionalex(T value) {
+        this.value = value;
     }
 
     /**
@@ -42,13 +57,13 @@ public class Optionalex<T> {
      *
      * @param <T> Type of the non-existent value
      * @return an empty {@code Optionalex}
-     * @apiNote Though it may be tempting to do so, avoid testing if an object
-     * is empty by comparing with {@code ==} against instances returned by
-     * {@code Option.empty()}. There is no guarantee that it is a singleton.
-     * Instead, use {@link #isPresent()}.
+     * @apiNote All empty instances share one instance, so creating them
+     * allocates nothing. Still, prefer {@link #isPresent()} to comparing with
+     * {@code ==} against the result of {@code Optionalex.empty()}.
      */
+    @SuppressWarnings("unchecked")
     public static <T> Optionalex<T> empty() {
-        return new Optionalex<>(Optional.empty());
+        return (Optionalex<T>) EMPTY;
     }
 
     /**
@@ -59,7 +74,7 @@ public class Optionalex<T> {
      * @return an {@code Optionalex} that wraps the supplied optional
      */
     private static <T> Optionalex<T> ofOptional(Optional<T> optional) {
-        return new Optionalex<>(optional);
+        return optional.isPresent() ? new Optionalex<>(optional.get()) : empty();
     }
 
     /**
@@ -71,7 +86,7 @@ public class Optionalex<T> {
      * @throws NullPointerException if value is null
      */
     public static <T> Optionalex<T> of(T value) {
-        return new Optionalex<>(Optional.of(value));
+        return new Optionalex<>(Objects.requireNonNull(value));
     }
 
     /**
@@ -84,7 +99,7 @@ public class Optionalex<T> {
      * is non-null, otherwise an empty {@code Optionalex}
      */
     public static <T> Optionalex<T> ofNullable(T value) {
-        return new Optionalex<>(Optional.ofNullable(value));
+        return value == null ? empty() : new Optionalex<>(value);
     }
 
     /**
@@ -95,9 +110,11 @@ public class Optionalex<T> {
      * @throws NoSuchElementException if there is no value present
      * @see Optional#isPresent()
      */
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
     public T get() {
-        return optional.get();
+        if (value == null) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
     }
 
     /**
@@ -106,7 +123,7 @@ public class Optionalex<T> {
      * @return {@code true} if there is a value present, otherwise {@code false}
      */
     public boolean isPresent() {
-        return optional.isPresent();
+        return value != null;
     }
 
     /**
@@ -118,7 +135,30 @@ public class Optionalex<T> {
      *                              null
      */
     public void ifPresent(Consumer<? super T> consumer) {
-        optional.ifPresent(consumer);
+        if (value != null) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * Returns a deferred operation that yields this {@code Optionalex}, to
+     * which {@code mapex}, {@code filterex} and {@code flatMapex} stages can
+     * be added. The stages are fused and evaluated in one pass when the
+     * operation is terminated:
+     *
+     * <pre>{@code
+     *     Optionalex<Integer> port = Optionalex.of(text).op()
+     *             .mapex(Integer::parseInt)
+     *             .filterex(p -> p > 0)
+     *             .print()
+     *             .rethrow();
+     * }</pre>
+     *
+     * @return a deferred operation on this {@code Optionalex}
+     * @since 1.8.0.0
+     */
+    public OptionalexOp<T> op() {
+        return OptionalexOp.of(value, OptionalexOp.identityStage());
     }
 
     /**
@@ -131,10 +171,34 @@ public class Optionalex<T> {
      */
     public Op<Optionalex<T>> ifPresentex(Consumerex<? super T> consumer) {
         Wrapped<Consumer<? super T>> wrapped = Wrapper.wrapConsumer(consumer);
-        Runnable op = () -> optional.ifPresent(wrapped.getValue());
+        Runnable op = () -> {
+            if (value != null) {
+                wrapped.getValue().accept(value);
+            }
+        };
         return new Op<>(this, wrapped.getExceptionHandler(), op);
     }
 
+    /**
+     * If a value is present, invoke the specified consumer with the value,
+     * otherwise do nothing. An exception thrown by the consumer is passed to
+     * {@code policy}.
+     *
+     * @param consumer block to be executed if a value is present
+     * @param policy   the policy that handles exceptions of the consumer
+     * @throws NullPointerException if value is present and {@code consumer} is
+     *                              null
+     */
+    public void ifPresentex(Consumerex<? super T> consumer, ExceptionPolicy policy) {
+        if (value != null) {
+            try {
+                consumer.accept(value);
+            } catch (Exception e) {
+                policy.handle(e);
+            }
+        }
+    }
+
     /**
      * If a value is present, and the value matches the given predicate,
      * return an {@code Optionalex} describing the value, otherwise return an
@@ -147,7 +211,11 @@ public class Optionalex<T> {
      * @throws NullPointerException if the predicate is null
      */
     public Optionalex<T> filter(Predicate<? super T> predicate) {
-        return Optionalex.ofOptional(optional.filter(predicate));
+        Objects.requireNonNull(predicate);
+        if (value == null) {
+            return this;
+        }
+        return predicate.test(value) ? this : empty();
     }
 
     /**
@@ -162,8 +230,32 @@ public class Optionalex<T> {
      * @throws NullPointerException if the predicate is null
      */
     public Op<Optionalex<T>> filterex(Predicatex<? super T> predicate) {
-        Wrapped<Predicate<? super T>> wrapped = Wrapper.wrapPredicate(predicate);
-        return new Op<>(() -> ofOptional(optional.filter(wrapped.getValue())), wrapped.getExceptionHandler());
+        return OptionalexOp.of(value, OptionalexOp.filterStage(predicate));
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return this {@code Optionalex}, otherwise return an empty
+     * {@code Optionalex}. An exception thrown by the predicate is passed to
+     * {@code policy}, and an empty {@code Optionalex} is returned if it was
+     * handled.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @param policy    the policy that handles exceptions of the predicate
+     * @return this {@code Optionalex} if a value is present and the value
+     * matches the given predicate, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the predicate is null
+     */
+    public Optionalex<T> filterex(Predicatex<? super T> predicate, ExceptionPolicy policy) {
+        if (value == null) {
+            return this;
+        }
+        try {
+            return predicate.test(value) ? this : empty();
+        } catch (Exception e) {
+            policy.handle(e);
+            return empty();
+        }
     }
 
     /**
@@ -194,7 +286,11 @@ public class Optionalex<T> {
      * file if one exists.
      */
     public <U> Optionalex<U> map(Function<? super T, ? extends U> mapper) {
-        return new Optionalex<>(optional.map(mapper));
+        Objects.requireNonNull(mapper);
+        if (value == null) {
+            return empty();
+        }
+        return ofNullable(mapper.apply(value));
     }
 
     /**
@@ -223,10 +319,37 @@ public class Optionalex<T> {
      * Here, {@code findFirst} returns an {@code Optionalex<String>}, and then
      * {@code map} returns an {@code Optionalex<FileInputStream>} for the desired
      * file if one exists.
+     * <p>
+     * To chain further {@code mapex}, {@code filterex} and {@code flatMapex}
+     * stages that are all evaluated in one pass, start with {@link #op()}.
      */
     public <U> Op<Optionalex<U>> mapex(Functionex<? super T, ? extends U> mapper) {
-        Wrapped<Function<? super T, ? extends U>> functionWrapped = Wrapper.wrapFunction(mapper);
-        return new Op<>(() -> Optionalex.ofOptional(optional.map(functionWrapped.getValue())), functionWrapped.getExceptionHandler());
+        return OptionalexOp.of(value, OptionalexOp.mapStage(mapper));
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it,
+     * and if the result is non-null, return an {@code Optionalex} describing the
+     * result.  Otherwise, returns an empty {@code Optionalex}. An exception
+     * thrown by the mapping function is passed to {@code policy}, and an
+     * empty {@code Optionalex} is returned if it was handled.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @param policy the policy that handles exceptions of the mapping function
+     * @return an {@code Optionalex} describing the result of applying the
+     * mapping function, if a value is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> Optionalex<U> mapex(Functionex<? super T, ? extends U> mapper, ExceptionPolicy policy) {
+        if (value == null) {
+            return empty();
+        }
+        try {
+            return ofNullable(mapper.apply(value));
+        } catch (Exception e) {
+            policy.handle(e);
+            return empty();
+        }
     }
 
     /**
@@ -246,7 +369,11 @@ public class Optionalex<T> {
      *                              a null result
      */
     public <U> Optionalex<U> flatMapex(Function<? super T, Optional<U>> mapper) {
-        return Optionalex.ofOptional(optional.flatMap(mapper));
+        Objects.requireNonNull(mapper);
+        if (value == null) {
+            return empty();
+        }
+        return ofOptional(Objects.requireNonNull(mapper.apply(value)));
     }
 
     /**
@@ -266,7 +393,11 @@ public class Optionalex<T> {
      *                              a null result
      */
     public <U> Optionalex<U> flatMap(Function<? super T, Optionalex<U>> mapper) {
-        return Optionalex.ofOptional(optional.flatMap(a -> mapper.apply(a).optional));
+        Objects.requireNonNull(mapper);
+        if (value == null) {
+            return empty();
+        }
+        return Objects.requireNonNull(mapper.apply(value));
     }
 
     /**
@@ -286,9 +417,164 @@ public class Optionalex<T> {
      *                              a null result
      */
     public <U> Op<Optionalex<U>> flatMapex(Functionex<? super T, Optional<U>> mapper) {
-        Wrapped<Function<? super T, Optional<U>>> functionWrapped = Wrapper.wrapOptionalFunction(mapper);
-        return new Op<>(() -> Optionalex.ofOptional(optional.flatMap(functionWrapped.getValue())),
-                functionWrapped.getExceptionHandler());
+        return OptionalexOp.of(value, OptionalexOp.flatMapStage(mapper));
+    }
+
+    /**
+     * If a value is present, apply the provided {@code Optional}-bearing
+     * mapping function to it, return that result, otherwise return an empty
+     * {@code Optionalex}. An exception thrown by the mapping function is
+     * passed to {@code policy}, and an empty {@code Optionalex} is returned
+     * if it was handled.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @param policy the policy that handles exceptions of the mapping function
+     * @return the result of applying the mapping function to the value of this
+     * {@code Optionalex}, if a value is present, otherwise an empty {@code Optionalex}
+     * @throws NullPointerException if the mapping function is null or returns
+     *                              a null result
+     */
+    public <U> Optionalex<U> flatMapex(Functionex<? super T, Optional<U>> mapper, ExceptionPolicy policy) {
+        if (value == null) {
+            return empty();
+        }
+        Optional<U> result;
+        try {
+            result = mapper.apply(value);
+        } catch (Exception e) {
+            policy.handle(e);
+            return empty();
+        }
+        return ofOptional(Objects.requireNonNull(result));
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code Optionalex}, if a value is
+     * present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalIntex mapToInt(ToIntFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return value != null ? OptionalIntex.of(mapper.applyAsInt(value)) : OptionalIntex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalIntex} describing the result.  Otherwise,
+     * return an empty {@code OptionalIntex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalIntex} describing the result of applying a
+     * mapping function to the value of this {@code Optionalex}, if a value is
+     * present, otherwise an empty {@code OptionalIntex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalIntex> mapToIntex(ToIntFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (value == null) {
+                return OptionalIntex.empty();
+            }
+            try {
+                return OptionalIntex.of(mapper.applyAsInt(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalIntex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code Optionalex}, if a value is
+     * present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalLongex mapToLong(ToLongFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return value != null ? OptionalLongex.of(mapper.applyAsLong(value)) : OptionalLongex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalLongex} describing the result.  Otherwise,
+     * return an empty {@code OptionalLongex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalLongex} describing the result of applying a
+     * mapping function to the value of this {@code Optionalex}, if a value is
+     * present, otherwise an empty {@code OptionalLongex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalLongex> mapToLongex(ToLongFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (value == null) {
+                return OptionalLongex.empty();
+            }
+            try {
+                return OptionalLongex.of(mapper.applyAsLong(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalLongex.empty();
+        }, exceptionHandlerChain);
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code Optionalex}, if a value is
+     * present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public OptionalDoubleex mapToDouble(ToDoubleFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return value != null ? OptionalDoubleex.of(mapper.applyAsDouble(value)) : OptionalDoubleex.empty();
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it and
+     * return an {@code OptionalDoubleex} describing the result.  Otherwise,
+     * return an empty {@code OptionalDoubleex}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @return an {@code OptionalDoubleex} describing the result of applying a
+     * mapping function to the value of this {@code Optionalex}, if a value is
+     * present, otherwise an empty {@code OptionalDoubleex}
+     * @throws NullPointerException if the mapping function is null
+     */
+    public Op<OptionalDoubleex> mapToDoubleex(ToDoubleFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        ExceptionHandlerChain exceptionHandlerChain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            if (value == null) {
+                return OptionalDoubleex.empty();
+            }
+            try {
+                return OptionalDoubleex.of(mapper.applyAsDouble(value));
+            } catch (Exception e) {
+                exceptionHandlerChain.handle(e);
+            }
+            return OptionalDoubleex.empty();
+        }, exceptionHandlerChain);
     }
 
     /**
@@ -299,7 +585,7 @@ public class Optionalex<T> {
      * @return the value, if present, otherwise {@code other}
      */
     public T orElse(T other) {
-        return optional.orElse(other);
+        return value != null ? value : other;
     }
 
     /**
@@ -313,7 +599,7 @@ public class Optionalex<T> {
      *                              null
      */
     public T orElseGet(Supplier<? extends T> other) {
-        return optional.orElseGet(other);
+        return value != null ? value : other.get();
     }
 
     /**
@@ -328,10 +614,35 @@ public class Optionalex<T> {
      */
     public Op<Optional<T>> orElseGetex(Supplierex<? extends T> other) {
         Wrapped<? extends Supplier<? extends T>> supplierWrapped = Wrapper.wrapSupplier(other);
-        return new Op<>(() -> Optional.ofNullable(optional.orElseGet(supplierWrapped.getValue())),
+        return new Op<>(() -> Optional.ofNullable(value != null ? value : supplierWrapped.getValue().get()),
                 supplierWrapped.getExceptionHandler());
     }
 
+    /**
+     * Return the value if present, otherwise invoke {@code other} and return
+     * the result of that invocation. An exception thrown by {@code other} is
+     * passed to {@code policy}, and {@code null} is returned if it was
+     * handled.
+     *
+     * @param other  a {@code Supplierex} whose result is returned if no value
+     *               is present
+     * @param policy the policy that handles exceptions of {@code other}
+     * @return the value if present otherwise the result of {@code other.get()}
+     * @throws NullPointerException if value is not present and {@code other} is
+     *                              null
+     */
+    public T orElseGetex(Supplierex<? extends T> other, ExceptionPolicy policy) {
+        if (value != null) {
+            return value;
+        }
+        try {
+            return other.get();
+        } catch (Exception e) {
+            policy.handle(e);
+            return null;
+        }
+    }
+
     /**
      * Return the contained value, if present, otherwise throw an exception
      * to be created by the provided supplier.
@@ -347,7 +658,10 @@ public class Optionalex<T> {
      * {@code IllegalStateException::new}
      */
     public <X extends Throwable> T orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        return optional.orElseThrow(exceptionSupplier);
+        if (value != null) {
+            return value;
+        }
+        throw exceptionSupplier.get();
     }
 
     /**
@@ -357,4 +671,40 @@ public class Optionalex<T> {
         return filter(Objects::nonNull);
     }
 
+    /**
+     * Indicates whether some other object is "equal to" this {@code Optionalex}.
+     * The other object is considered equal if it is also an {@code Optionalex}
+     * and both instances have no value present or the present values are
+     * "equal to" each other via {@code equals()}.
+     *
+     * @param obj an object to be tested for equality
+     * @return {@code true} if the other object is "equal to" this object
+     * otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Optionalex)) {
+            return false;
+        }
+        return Objects.equals(value, ((Optionalex<?>) obj).value);
+    }
+
+    /**
+     * Returns the hash code value of the present value, if any, or 0 (zero) if
+     * no value is present.
+     *
+     * @return hash code value of the present value or 0 if no value is present
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return value != null ? "Optionalex[" + value + "]" : "Optionalex.empty";
+    }
 }
@@ -0,0 +1,171 @@
+package sr3u.s3ms.optionals;
+
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Predicatex;
+import sr3u.s3ms.exceptionsprocessing.AsyncLoggingHandler;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+import sr3u.s3ms.exceptionsprocessing.StackTraceMode;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A deferred {@link Optionalex} operation that can be extended with further
+ * {@code mapex}, {@code filterex} and {@code flatMapex} stages before it is
+ * terminated. It is obtained from {@link Optionalex#op()}. The stages are
+ * fused into a single function that is applied to the source value inside
+ * one try/catch when the operation is terminated, so no intermediate
+ * {@code Optionalex} or {@code Op} is evaluated in between.
+ *
+ * <p>Adding a stage returns a new operation with a copy of this operation's
+ * exception handlers; handlers added to either operation afterwards do not
+ * affect the other. An exception thrown by any stage is passed to the
+ * handlers of the operation that is terminated; if it was handled, the
+ * result is an empty {@code Optionalex} and the remaining stages are skipped.
+ *
+ * @param <T> the type of the value of the resulting {@code Optionalex}
+ * @since 1.8.0.0
+ */
+public final class OptionalexOp<T> extends Op<Optionalex<T>> {
+    private static final Functionex<Object, Object> IDENTITY = v -> v;
+
+    private final ExceptionHandlerChain exceptionHandlerChain;
+    private final Object source;
+    /**
+     * The fused stages. A stage returns {@code null} when its result is
+     * empty, which is unambiguous because an {@code Optionalex} never holds
+     * {@code null}.
+     */
+    private final Functionex<Object, Object> stages;
+
+    private OptionalexOp(ExceptionHandlerChain exceptionHandlerChain, Object source, Functionex<Object, Object> stages) {
+        super(exceptionHandlerChain);
+        this.exceptionHandlerChain = exceptionHandlerChain;
+        this.source = source;
+        this.stages = stages;
+    }
+
+    static <T> OptionalexOp<T> of(Object source, Functionex<Object, Object> stage) {
+        return new OptionalexOp<>(new ExceptionHandlerChain(), source, stage);
+    }
+
+    static Functionex<Object, Object> identityStage() {
+        return IDENTITY;
+    }
+
+    static Functionex<Object, Object> mapStage(Functionex<?, ?> mapper) {
+        @SuppressWarnings("unchecked") Functionex<Object, Object> f = (Functionex<Object, Object>) Objects.requireNonNull(mapper);
+        return f;
+    }
+
+    static Functionex<Object, Object> filterStage(Predicatex<?> predicate) {
+        @SuppressWarnings("unchecked") Predicatex<Object> p = (Predicatex<Object>) Objects.requireNonNull(predicate);
+        return v -> p.test(v) ? v : null;
+    }
+
+    static Functionex<Object, Object> flatMapStage(Functionex<?, ? extends Optional<?>> mapper) {
+        @SuppressWarnings("unchecked") Functionex<Object, Optional<?>> f = (Functionex<Object, Optional<?>>) Objects.requireNonNull(mapper);
+        return v -> Objects.requireNonNull(f.apply(v)).orElse(null);
+    }
+
+    private <U> OptionalexOp<U> then(Functionex<Object, Object> stage) {
+        Functionex<Object, Object> previous = stages;
+        return new OptionalexOp<>(new ExceptionHandlerChain(exceptionHandlerChain.getPolicy()), source, v -> {
+            Object r = previous.apply(v);
+            return r == null ? null : stage.apply(r);
+        });
+    }
+
+    /**
+     * Adds a stage that applies {@code mapper} to the value, if present.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @param <U>    the type of the result of the mapping function
+     * @return an operation that also applies {@code mapper}
+     * @throws NullPointerException if the mapping function is null
+     * @see Optionalex#mapex(Functionex)
+     */
+    public <U> OptionalexOp<U> mapex(Functionex<? super T, ? extends U> mapper) {
+        return then(mapStage(mapper));
+    }
+
+    /**
+     * Adds a stage that keeps the value only if it matches {@code predicate}.
+     *
+     * @param predicate a predicate to apply to the value, if present
+     * @return an operation that also applies {@code predicate}
+     * @throws NullPointerException if the predicate is null
+     * @see Optionalex#filterex(Predicatex)
+     */
+    public OptionalexOp<T> filterex(Predicatex<? super T> predicate) {
+        return then(filterStage(predicate));
+    }
+
+    /**
+     * Adds a stage that applies the {@code Optional}-bearing {@code mapper}
+     * to the value, if present.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @param <U>    the type of the value of the {@code Optional} returned by
+     *               the mapping function
+     * @return an operation that also applies {@code mapper}
+     * @throws NullPointerException if the mapping function is null
+     * @see Optionalex#flatMapex(Functionex)
+     */
+    public <U> OptionalexOp<U> flatMapex(Functionex<? super T, Optional<U>> mapper) {
+        return then(flatMapStage(mapper));
+    }
+
+    @Override
+    public OptionalexOp<T> print() {
+        super.print();
+        return this;
+    }
+
+    @Override
+    public OptionalexOp<T> print(AsyncLoggingHandler logger) {
+        super.print(logger);
+        return this;
+    }
+
+    @Override
+    public <E extends Throwable> OptionalexOp<T> handle(Class<E> type, Consumer<? super E> handler) {
+        super.handle(type, handler);
+        return this;
+    }
+
+    @Override
+    public OptionalexOp<T> throwRuntime(Function<Throwable, RuntimeException> runtimeExceptionCreator) {
+        super.throwRuntime(runtimeExceptionCreator);
+        return this;
+    }
+
+    @Override
+    public OptionalexOp<T> stackTrace(StackTraceMode stackTraceMode) {
+        super.stackTrace(stackTraceMode);
+        return this;
+    }
+
+    @Override
+    public OptionalexOp<T> stackless() {
+        super.stackless();
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected Optionalex<T> evaluate() {
+        if (source == null) {
+            return Optionalex.empty();
+        }
+        try {
+            return Optionalex.ofNullable((T) stages.apply(source));
+        } catch (Exception e) {
+            exceptionHandlerChain.handle(e);
+            return Optionalex.empty();
+        }
+    }
+}
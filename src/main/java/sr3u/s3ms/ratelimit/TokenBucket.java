@@ -0,0 +1,63 @@
+package sr3u.s3ms.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe token bucket: holds up to a fixed number of tokens and
+ * refills at a fixed rate. It starts full.
+ *
+ * <p>The bucket is kept as a single theoretical arrival time in an
+ * {@link AtomicLong} (the generic cell rate algorithm), so acquiring a token
+ * is one compare-and-set and does not allocate.
+ *
+ * @since 1.8.0.0
+ */
+public final class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    private TokenBucket(long intervalNanos, long burstNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = burstNanos;
+    }
+
+    /**
+     * Returns a bucket that holds up to {@code maxTokens} tokens and refills
+     * at {@code tokensPerSecond}.
+     *
+     * @param tokensPerSecond the refill rate
+     * @param maxTokens       the capacity of the bucket
+     * @return a new, full bucket
+     * @throws IllegalArgumentException if an argument is not positive
+     */
+    public static TokenBucket of(double tokensPerSecond, int maxTokens) {
+        if (!(tokensPerSecond > 0) || maxTokens < 1) {
+            throw new IllegalArgumentException("tokensPerSecond and maxTokens must be positive");
+        }
+        long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSecond));
+        // the time to refill the whole bucket must fit in a long; slower rates saturate
+        interval = Math.min(interval, Long.MAX_VALUE / maxTokens);
+        return new TokenBucket(interval, interval * maxTokens);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code true} if a token was taken
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long ahead = arrival == Long.MIN_VALUE || arrival - now < 0 ? 0 : arrival - now;
+            if (ahead > burstNanos - intervalNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, now + ahead + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
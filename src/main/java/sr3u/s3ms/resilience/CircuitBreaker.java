@@ -0,0 +1,390 @@
+package sr3u.s3ms.resilience;
+
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Supplierex;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stops invoking a failing dependency. The breaker tracks the failure rate of
+ * the calls it wraps over a sliding time window. When the rate reaches the
+ * threshold, the circuit opens, and calls fail immediately with a
+ * {@link CircuitOpenException}, or return a fallback, without being invoked.
+ * After the open duration, a limited number of probe calls are let through
+ * (half-open); if a probe succeeds the circuit closes again, if one fails it
+ * opens again. If no probe has completed within the half-open timeout, for
+ * example because a probe hangs, the circuit opens again as well.
+ *
+ * <p>The window is a ring of time buckets whose counters are atomic, so
+ * recording a call does not lock. Counts are approximate while a bucket is
+ * being recycled, which is acceptable for a failure-rate estimate.
+ *
+ * <p>The state of the circuit, its remaining probes and a generation that
+ * changes with every transition are kept in one immutable {@code Phase}, so
+ * a transition is a single compare-and-set. Every call is tagged with the
+ * generation it was admitted in, and its outcome is ignored if the circuit
+ * has changed state since, so a slow call admitted while the circuit was
+ * closed cannot close a half-open circuit.
+ *
+ * <pre>{@code
+ *     CircuitBreaker breaker = CircuitBreaker.builder("store").build();
+ *     Optionalex<Record> record = Optionalex.of(id)
+ *             .mapex(breaker.wrap(store::load))
+ *             .handle(CircuitOpenException.class, e -> metrics.rejected())
+ *             .rethrow();
+ * }</pre>
+ *
+ * @since 1.8.0.0
+ */
+public final class CircuitBreaker {
+    /**
+     * The states of a circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final long REJECTED = -1;
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final int buckets;
+    private final long openNanos;
+    private final long halfOpenTimeoutNanos;
+    private final int probes;
+    private final Class<? extends Throwable> recordOn;
+
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray successes;
+    private final AtomicLongArray failures;
+    private final AtomicReference<Phase> phase = new AtomicReference<>(new Phase(State.CLOSED, 0, 0, 0));
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = builder.minimumCalls;
+        this.buckets = builder.buckets;
+        this.bucketNanos = Math.max(1, builder.window.toNanos() / builder.buckets);
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenTimeoutNanos = builder.halfOpenTimeout.toNanos();
+        this.probes = builder.probes;
+        this.recordOn = builder.recordOn;
+        this.epochs = new AtomicLongArray(buckets);
+        this.successes = new AtomicLongArray(buckets);
+        this.failures = new AtomicLongArray(buckets);
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * Returns a function that invokes {@code function} if the circuit permits
+     * it, and throws {@link CircuitOpenException} otherwise.
+     *
+     * @param function the function to protect
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @return the protected function
+     */
+    public <T, R> Functionex<T, R> wrap(Functionex<T, R> function) {
+        Objects.requireNonNull(function);
+        return t -> call(() -> function.apply(t));
+    }
+
+    /**
+     * Returns a function that invokes {@code function} if the circuit permits
+     * it, and {@code fallback} otherwise.
+     *
+     * @param function the function to protect
+     * @param fallback the function invoked instead while the circuit is open
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @return the protected function
+     */
+    public <T, R> Functionex<T, R> wrap(Functionex<T, R> function, Functionex<? super T, ? extends R> fallback) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(fallback);
+        return t -> {
+            long generation = tryAcquire();
+            return generation == REJECTED ? fallback.apply(t) : record(generation, () -> function.apply(t));
+        };
+    }
+
+    /**
+     * Returns a supplier that invokes {@code supplier} if the circuit permits
+     * it, and throws {@link CircuitOpenException} otherwise.
+     *
+     * @param supplier the supplier to protect
+     * @param <T>      the type of the result
+     * @return the protected supplier
+     */
+    public <T> Supplierex<T> wrap(Supplierex<T> supplier) {
+        Objects.requireNonNull(supplier);
+        return () -> call(supplier);
+    }
+
+    /**
+     * Invokes {@code supplier} if the circuit permits it.
+     *
+     * @param supplier the operation to invoke
+     * @param <T>      the type of the result
+     * @return the result of {@code supplier}
+     * @throws CircuitOpenException if the circuit does not permit the call
+     * @throws Exception            the exception thrown by {@code supplier}
+     */
+    public <T> T call(Supplierex<T> supplier) throws Exception {
+        long generation = tryAcquire();
+        if (generation == REJECTED) {
+            throw new CircuitOpenException(name);
+        }
+        return record(generation, supplier);
+    }
+
+    private <T> T record(long generation, Supplierex<T> supplier) throws Exception {
+        T result;
+        try {
+            result = supplier.get();
+        } catch (Exception e) {
+            if (recordOn.isInstance(e)) {
+                onFailure(generation);
+            } else {
+                onSuccess(generation);
+            }
+            throw e;
+        }
+        onSuccess(generation);
+        return result;
+    }
+
+    /**
+     * Admits a call if the circuit permits it now.
+     *
+     * @return the generation the call was admitted in, or {@code REJECTED}
+     */
+    private long tryAcquire() {
+        while (true) {
+            Phase current = phase.get();
+            if (current.state == State.CLOSED) {
+                return current.generation;
+            }
+            long now = System.nanoTime();
+            Phase next;
+            if (current.state == State.OPEN) {
+                if (now - current.since < openNanos) {
+                    return REJECTED;
+                }
+                next = new Phase(State.HALF_OPEN, current.generation + 1, now, probes - 1);
+            } else if (current.probesLeft > 0) {
+                next = new Phase(State.HALF_OPEN, current.generation, current.since, current.probesLeft - 1);
+            } else {
+                if (now - current.since >= halfOpenTimeoutNanos) {
+                    phase.compareAndSet(current, new Phase(State.OPEN, current.generation + 1, now, 0));
+                }
+                return REJECTED;
+            }
+            if (phase.compareAndSet(current, next)) {
+                return next.generation;
+            }
+        }
+    }
+
+    private void onSuccess(long generation) {
+        Phase current = phase.get();
+        if (current.generation != generation) {
+            return;
+        }
+        if (current.state == State.HALF_OPEN) {
+            if (phase.compareAndSet(current, new Phase(State.CLOSED, generation + 1, System.nanoTime(), 0))) {
+                reset();
+            }
+            return;
+        }
+        successes.incrementAndGet(bucket());
+    }
+
+    private void onFailure(long generation) {
+        Phase current = phase.get();
+        if (current.generation != generation) {
+            return;
+        }
+        if (current.state == State.HALF_OPEN) {
+            open(current);
+            return;
+        }
+        failures.incrementAndGet(bucket());
+        long failed = 0;
+        long total = 0;
+        long epoch = Math.floorDiv(System.nanoTime(), bucketNanos);
+        for (int i = 0; i < buckets; i++) {
+            if (epoch - epochs.get(i) < buckets) {
+                long f = failures.get(i);
+                failed += f;
+                total += f + successes.get(i);
+            }
+        }
+        if (total >= minimumCalls && failed >= failureRateThreshold * total) {
+            open(current);
+        }
+    }
+
+    private void open(Phase from) {
+        phase.compareAndSet(from, new Phase(State.OPEN, from.generation + 1, System.nanoTime(), 0));
+    }
+
+    /**
+     * Returns the index of the current bucket, recycling it if it still
+     * holds the counts of an expired interval.
+     */
+    private int bucket() {
+        long epoch = Math.floorDiv(System.nanoTime(), bucketNanos);
+        int index = (int) Math.floorMod(epoch, (long) buckets);
+        long previous = epochs.get(index);
+        if (previous != epoch && epochs.compareAndSet(index, previous, epoch)) {
+            successes.set(index, 0);
+            failures.set(index, 0);
+        }
+        return index;
+    }
+
+    private void reset() {
+        for (int i = 0; i < buckets; i++) {
+            epochs.set(i, 0);
+            successes.set(i, 0);
+            failures.set(i, 0);
+        }
+    }
+
+    /**
+     * The state of the circuit, replaced as a whole on every change.
+     */
+    private static final class Phase {
+        final State state;
+        /**
+         * Incremented on every transition.
+         */
+        final long generation;
+        /**
+         * When the circuit entered this state, by {@link System#nanoTime()}.
+         */
+        final long since;
+        final int probesLeft;
+
+        Phase(State state, long generation, long since, int probesLeft) {
+            this.state = state;
+            this.generation = generation;
+            this.since = since;
+            this.probesLeft = probesLeft;
+        }
+    }
+
+    /**
+     * Builds a {@link CircuitBreaker}. By default the circuit opens when at
+     * least half of at least 20 calls in the last 10 seconds failed, stays
+     * open for 5 seconds and then lets one probe call through, and opens
+     * again if no probe completes within 10 seconds.
+     */
+    public static final class Builder {
+        private final String name;
+        private double failureRateThreshold = 0.5;
+        private int minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(10);
+        private int buckets = 10;
+        private Duration openDuration = Duration.ofSeconds(5);
+        private Duration halfOpenTimeout = Duration.ofSeconds(10);
+        private int probes = 1;
+        private Class<? extends Throwable> recordOn = Exception.class;
+
+        private Builder(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        public Builder window(Duration window, int buckets) {
+            if (window.isNegative() || window.isZero() || buckets < 1) {
+                throw new IllegalArgumentException("invalid window");
+            }
+            this.window = window;
+            this.buckets = buckets;
+            return this;
+        }
+
+        public Builder openDuration(Duration openDuration) {
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("openDuration must not be negative");
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Sets how long the circuit stays half-open while all its probes are
+         * in flight. If none of them has completed by then, the circuit opens
+         * again and new probes are let through after the open duration.
+         *
+         * @param halfOpenTimeout the half-open timeout
+         * @return this builder
+         */
+        public Builder halfOpenTimeout(Duration halfOpenTimeout) {
+            if (halfOpenTimeout.isNegative()) {
+                throw new IllegalArgumentException("halfOpenTimeout must not be negative");
+            }
+            this.halfOpenTimeout = halfOpenTimeout;
+            return this;
+        }
+
+        public Builder probes(int probes) {
+            if (probes < 1) {
+                throw new IllegalArgumentException("probes must be positive: " + probes);
+            }
+            this.probes = probes;
+            return this;
+        }
+
+        /**
+         * Sets the type of the exceptions that count as failures. Other
+         * exceptions count as successful calls.
+         *
+         * @param recordOn the type of the failures
+         * @return this builder
+         */
+        public Builder recordOn(Class<? extends Throwable> recordOn) {
+            this.recordOn = Objects.requireNonNull(recordOn);
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
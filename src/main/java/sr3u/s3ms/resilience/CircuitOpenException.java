@@ -0,0 +1,22 @@
+package sr3u.s3ms.resilience;
+
+/**
+ * Thrown instead of invoking a call that a {@link CircuitBreaker} does not
+ * permit. It has no stack trace, so rejecting a call is cheap.
+ *
+ * @since 1.8.0.0
+ */
+public class CircuitOpenException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final String circuit;
+
+    public CircuitOpenException(String circuit) {
+        super("circuit " + circuit + " is open", null, false, false);
+        this.circuit = circuit;
+    }
+
+    public String getCircuit() {
+        return circuit;
+    }
+}
@@ -0,0 +1,235 @@
+package sr3u.s3ms.resilience;
+
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Supplierex;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable retry strategy: calls that fail with one of the configured
+ * exception types are invoked again after an exponentially growing, jittered
+ * delay, as long as attempts and the shared {@link RetryBudget} allow.
+ *
+ * <p>{@link #wrap(Functionex)} returns a function that retries one call, so
+ * in a stream only the failing element is retried:
+ *
+ * <pre>{@code
+ *     Retry retry = Retry.builder()
+ *             .retryOn(IOException.class)
+ *             .maxAttempts(4)
+ *             .budget(RetryBudget.of(10, 50))
+ *             .build();
+ *     List<Record> records = Streamex.ofCollection(ids)
+ *             .mapex(retry.wrap(store::load))
+ *             .toList()
+ *             .rethrow();
+ * }</pre>
+ * <p>
+ * When a call is not retried any more, the last exception is thrown to the
+ * caller, e.g. to the {@link sr3u.s3ms.exceptionsprocessing.Wrapper} or
+ * {@link sr3u.s3ms.exceptionsprocessing.Op} that wraps it, with the exceptions
+ * of the earlier attempts added as suppressed.
+ *
+ * @since 1.8.0.0
+ */
+public final class Retry {
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Class<? extends Throwable>[] retryOn;
+    private final RetryBudget budget;
+
+    private Retry(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = builder.initialBackoff.toNanos();
+        this.maxBackoffNanos = builder.maxBackoff.toNanos();
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        @SuppressWarnings("unchecked") Class<? extends Throwable>[] types = (Class<? extends Throwable>[]) builder.retryOn.toArray(new Class<?>[0]);
+        this.retryOn = types;
+        this.budget = builder.budget;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a function that invokes {@code function} and retries it
+     * according to this strategy.
+     *
+     * @param function the function to retry
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @return the retrying function
+     */
+    public <T, R> Functionex<T, R> wrap(Functionex<T, R> function) {
+        Objects.requireNonNull(function);
+        return t -> call(() -> function.apply(t));
+    }
+
+    /**
+     * Returns a supplier that invokes {@code supplier} and retries it
+     * according to this strategy.
+     *
+     * @param supplier the supplier to retry
+     * @param <T>      the type of the result
+     * @return the retrying supplier
+     */
+    public <T> Supplierex<T> wrap(Supplierex<T> supplier) {
+        Objects.requireNonNull(supplier);
+        return () -> call(supplier);
+    }
+
+    /**
+     * Invokes {@code supplier} and retries it according to this strategy.
+     *
+     * @param supplier the operation to invoke
+     * @param <T>      the type of the result
+     * @return the result of the first successful attempt
+     * @throws Exception the exception of the last attempt
+     */
+    public <T> T call(Supplierex<T> supplier) throws Exception {
+        List<Exception> previous = null;
+        long backoff = initialBackoffNanos;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return supplier.get();
+            } catch (Exception e) {
+                if (attempt >= maxAttempts || !isRetryable(e) || !budget.tryAcquire() || !sleep(backoff)) {
+                    throw withSuppressed(e, previous);
+                }
+                if (previous == null) {
+                    previous = new ArrayList<>(Math.min(maxAttempts - 1, 8));
+                }
+                previous.add(e);
+                backoff = Math.min(maxBackoffNanos, (long) (backoff * multiplier));
+            }
+        }
+    }
+
+    /**
+     * Adds the exceptions of the earlier attempts to {@code last}. An
+     * exception may be a shared instance that is thrown by several attempts,
+     * for example a cached failure, so every instance is added once and
+     * {@code last} is never added to itself.
+     */
+    private static Exception withSuppressed(Exception last, List<Exception> previous) {
+        if (previous == null) {
+            return last;
+        }
+        Set<Exception> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        added.add(last);
+        for (Exception e : previous) {
+            if (added.add(e)) {
+                last.addSuppressed(e);
+            }
+        }
+        return last;
+    }
+
+    private boolean isRetryable(Exception e) {
+        for (Class<? extends Throwable> type : retryOn) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sleeps for {@code backoff} reduced by a random share of up to
+     * {@code jitter}. Returns {@code false} if the thread was interrupted.
+     */
+    private boolean sleep(long backoff) {
+        long delay = (long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+        if (delay <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Builds a {@link Retry}. By default a call is attempted 3 times with
+     * delays starting at 100 ms, doubling up to 10 s, with full jitter and an
+     * unlimited budget. At least one exception type to retry on must be set.
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        private double multiplier = 2;
+        private double jitter = 1;
+        private final List<Class<? extends Throwable>> retryOn = new ArrayList<>();
+        private RetryBudget budget = RetryBudget.unlimited();
+
+        private Builder() {
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder backoff(Duration initialBackoff, Duration maxBackoff, double multiplier) {
+            if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0 || multiplier < 1) {
+                throw new IllegalArgumentException("invalid backoff");
+            }
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the share of each delay, between 0 and 1, that is randomly
+         * removed from it, so that clients that failed together do not retry
+         * together.
+         *
+         * @param jitter the jitter share
+         * @return this builder
+         */
+        public Builder jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder retryOn(Class<? extends Throwable> type) {
+            retryOn.add(Objects.requireNonNull(type));
+            return this;
+        }
+
+        public Builder budget(RetryBudget budget) {
+            this.budget = Objects.requireNonNull(budget);
+            return this;
+        }
+
+        public Retry build() {
+            if (retryOn.isEmpty()) {
+                throw new IllegalStateException("no exception type to retry on");
+            }
+            return new Retry(this);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package sr3u.s3ms.resilience;
+
+import sr3u.s3ms.ratelimit.TokenBucket;
+
+/**
+ * Limits how many retries may be made, shared by all the {@link Retry}
+ * instances that use it. While a dependency is down every call fails, so
+ * without a budget each failure would multiply the load on it; with a budget
+ * the retries stop when its {@link TokenBucket} runs dry and resume at the
+ * refill rate.
+ *
+ * @since 1.8.0.0
+ */
+public final class RetryBudget {
+    private static final RetryBudget UNLIMITED = new RetryBudget(null);
+
+    private final TokenBucket bucket;
+
+    private RetryBudget(TokenBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    /**
+     * Returns a budget that never runs out.
+     *
+     * @return the unlimited budget
+     */
+    public static RetryBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Returns a budget that holds up to {@code maxTokens} tokens and refills
+     * at {@code tokensPerSecond}. The bucket starts full.
+     *
+     * @param tokensPerSecond the refill rate
+     * @param maxTokens       the capacity of the bucket
+     * @return a new budget
+     * @throws IllegalArgumentException if an argument is not positive
+     */
+    public static RetryBudget of(double tokensPerSecond, int maxTokens) {
+        return new RetryBudget(TokenBucket.of(tokensPerSecond, maxTokens));
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code true} if a token was taken
+     */
+    public boolean tryAcquire() {
+        return bucket == null || bucket.tryAcquire();
+    }
+}
@@ -0,0 +1,277 @@
+package sr3u.s3ms.results;
+
+import sr3u.functionalex.Consumerex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Supplierex;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.optionals.Optionalex;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The outcome of an operation that either succeeded with a value, which may
+ * be {@code null}, or failed with an exception. A {@code Result} carries a
+ * failure as data, so a failure can be passed along and inspected without
+ * being thrown.
+ *
+ * <p>The transforming methods take checked exceptions-friendly functions. An
+ * exception thrown by such a function turns the result into a failure, and
+ * transforming a failure returns the same failure without invoking the
+ * function.
+ *
+ * @param <T> the type of the value of a success
+ * @since 1.8.0.0
+ */
+public final class Result<T> {
+    private static final Result<?> NULL = new Result<>(null, null);
+
+    private final T value;
+    private final Throwable failure;
+
+    private Result(T value, Throwable failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns a successful {@code Result} with the given value.
+     *
+     * @param value the value, possibly {@code null}
+     * @param <T>   the type of the value
+     * @return a successful {@code Result}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> success(T value) {
+        return value == null ? (Result<T>) NULL : new Result<>(value, null);
+    }
+
+    /**
+     * Returns a failed {@code Result} with the given exception.
+     *
+     * @param failure the exception
+     * @param <T>     the type of the value of a success
+     * @return a failed {@code Result}
+     * @throws NullPointerException if {@code failure} is null
+     */
+    public static <T> Result<T> failure(Throwable failure) {
+        return new Result<>(null, Objects.requireNonNull(failure));
+    }
+
+    /**
+     * Invokes {@code supplier} and returns its result as a success, or the
+     * exception it throws as a failure.
+     *
+     * @param supplier the operation to invoke
+     * @param <T>      the type of the value
+     * @return the outcome of {@code supplier}
+     */
+    public static <T> Result<T> of(Supplierex<? extends T> supplier) {
+        try {
+            return success(supplier.get());
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the value of a success.
+     *
+     * @return the value, possibly {@code null}
+     * @throws S3mRuntimeException wrapping the exception of a failure
+     */
+    public T get() {
+        if (failure != null) {
+            throw new S3mRuntimeException(failure);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the exception of a failure.
+     *
+     * @return the exception
+     * @throws NoSuchElementException if this is a success
+     */
+    public Throwable getFailure() {
+        if (failure == null) {
+            throw new NoSuchElementException("No failure present");
+        }
+        return failure;
+    }
+
+    public T orElse(T other) {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Returns the value of a success, or throws an exception created from the
+     * exception of a failure.
+     *
+     * @param exceptionMapper the function that creates the exception to throw
+     * @param <X>             the type of the exception to throw
+     * @return the value, possibly {@code null}
+     * @throws X if this is a failure
+     */
+    public <X extends Throwable> T orElseThrow(Function<? super Throwable, ? extends X> exceptionMapper) throws X {
+        if (failure != null) {
+            throw exceptionMapper.apply(failure);
+        }
+        return value;
+    }
+
+    /**
+     * Applies {@code mapper} to the value of a success.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U>    the type of the result of the function
+     * @return a success with the mapped value, or a failure if this is a
+     * failure or {@code mapper} threw an exception
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Result<U> map(Functionex<? super T, ? extends U> mapper) {
+        if (failure != null) {
+            return (Result<U>) this;
+        }
+        try {
+            return success(mapper.apply(value));
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Applies the {@code Result}-bearing {@code mapper} to the value of a
+     * success and returns its result.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U>    the type of the value of the returned {@code Result}
+     * @return the result of {@code mapper}, or a failure if this is a failure
+     * or {@code mapper} threw an exception
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Result<U> flatMap(Functionex<? super T, Result<U>> mapper) {
+        if (failure != null) {
+            return (Result<U>) this;
+        }
+        try {
+            return Objects.requireNonNull(mapper.apply(value));
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Turns a failure into a success with the value computed by
+     * {@code recovery} from the exception.
+     *
+     * @param recovery the function that computes a value from the exception
+     * @return this if it is a success, otherwise a success with the recovered
+     * value, or a failure if {@code recovery} threw an exception
+     */
+    public Result<T> recover(Functionex<? super Throwable, ? extends T> recovery) {
+        if (failure == null) {
+            return this;
+        }
+        try {
+            return success(recovery.apply(failure));
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Turns a failure whose exception is an instance of {@code type} into a
+     * success with the value computed by {@code recovery}.
+     *
+     * @param type     the type of the exceptions to recover from
+     * @param recovery the function that computes a value from the exception
+     * @param <E>      the type of the exceptions to recover from
+     * @return this if it is a success or its exception is not an instance of
+     * {@code type}, otherwise the outcome of {@code recovery}
+     */
+    public <E extends Throwable> Result<T> recover(Class<E> type, Functionex<? super E, ? extends T> recovery) {
+        if (failure == null || !type.isInstance(failure)) {
+            return this;
+        }
+        try {
+            return success(recovery.apply(type.cast(failure)));
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Invokes {@code consumer} with the value of a success.
+     *
+     * @param consumer the action to perform on the value
+     * @return this if it is a failure or {@code consumer} completed normally,
+     * otherwise a failure with the exception thrown by {@code consumer}
+     */
+    public Result<T> onSuccess(Consumerex<? super T> consumer) {
+        if (failure != null) {
+            return this;
+        }
+        try {
+            consumer.accept(value);
+            return this;
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Invokes {@code consumer} with the exception of a failure.
+     *
+     * @param consumer the action to perform on the exception
+     * @return this
+     */
+    public Result<T> onFailure(Consumer<? super Throwable> consumer) {
+        if (failure != null) {
+            consumer.accept(failure);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the value of a success as an {@code Optionalex}.
+     *
+     * @return an {@code Optionalex} with the value, or an empty one if this
+     * is a failure or the value is {@code null}
+     */
+    public Optionalex<T> toOptionalex() {
+        return failure == null ? Optionalex.ofNullable(value) : Optionalex.empty();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Result)) {
+            return false;
+        }
+        Result<?> other = (Result<?>) obj;
+        return Objects.equals(value, other.value) && Objects.equals(failure, other.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, failure);
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "Result.success[" + value + "]" : "Result.failure[" + failure + "]";
+    }
+}
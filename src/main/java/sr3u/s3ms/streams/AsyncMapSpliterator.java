@@ -0,0 +1,195 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.Functionex;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+
+import java.lang.reflect.Method;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Applies a blocking mapping function to the elements of the source
+ * concurrently and hands out the results in source order.
+ *
+ * <p>At most {@code maxConcurrency} calls are in flight. Their futures form
+ * the reorder buffer: a new source element is only pulled when the oldest
+ * result has been handed out, which also bounds how far the source is read
+ * ahead of the consumer.
+ *
+ * <p>An exception thrown by the mapping function is passed to the pipeline's
+ * {@link ExceptionHandlerChain} on the consuming thread. The element is
+ * dropped if a terminal handler handled it; otherwise the calls still in
+ * flight are cancelled and the exception is rethrown. An {@link Error}
+ * thrown by the mapping function is rethrown as is, without being passed to
+ * the handlers.
+ *
+ * <p>An executor created by this spliterator is shut down as soon as the
+ * source is exhausted; the calls already submitted still complete. If the
+ * consumer stops early, for example in {@code findFirst} or after
+ * {@code limit}, the calls in flight also complete, and the executor's
+ * threads, which are daemon threads, exit once idle. Closing the stream
+ * cancels them instead. If the stream is closed from another thread while it
+ * is being consumed, the consumer fails with a
+ * {@link CancellationException}.
+ *
+ * <p>A call is only counted as in flight once the executor has accepted it.
+ * If the executor rejects it, the {@link java.util.concurrent.RejectedExecutionException}
+ * propagates to the consumer and the element is skipped.
+ *
+ * @param <T> the type of the source elements
+ * @param <R> the type of the results
+ */
+final class AsyncMapSpliterator<T, R> extends Spliterators.AbstractSpliterator<R> implements Consumer<T> {
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadExecutor();
+
+    private final Spliterator<T> source;
+    private final int maxConcurrency;
+    private final Functionex<? super T, ? extends R> mapper;
+    private final ExceptionHandlerChain exceptionHandlerChain;
+    private final ConcurrentLinkedQueue<Future<R>> inFlight = new ConcurrentLinkedQueue<>();
+    private Executor executor;
+    private ExecutorService ownedExecutor;
+    private boolean exhausted;
+
+    AsyncMapSpliterator(Spliterator<T> source, int maxConcurrency, Functionex<? super T, ? extends R> mapper,
+                        ExceptionHandlerChain exceptionHandlerChain, Executor executor) {
+        super(Long.MAX_VALUE, source.characteristics() & Spliterator.ORDERED);
+        this.source = source;
+        this.maxConcurrency = maxConcurrency;
+        this.mapper = mapper;
+        this.exceptionHandlerChain = exceptionHandlerChain;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns an executor that runs every task on a new virtual thread if the
+     * JVM supports them, and a pool of at most {@code maxConcurrency} daemon
+     * platform threads otherwise.
+     */
+    static ExecutorService newExecutor(int maxConcurrency) {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // virtual threads are not enabled, fall back to platform threads
+            }
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "s3ms-mapAsyncex");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static Method findVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void accept(T t) {
+        FutureTask<R> task = new FutureTask<>(() -> mapper.apply(t));
+        executor().execute(task);
+        inFlight.add(task);
+    }
+
+    private Executor executor() {
+        if (executor == null) {
+            ownedExecutor = newExecutor(maxConcurrency);
+            executor = ownedExecutor;
+        }
+        return executor;
+    }
+
+    private void fill() {
+        while (!exhausted && inFlight.size() < maxConcurrency) {
+            if (!source.tryAdvance(this)) {
+                exhausted = true;
+                close();
+            }
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while (true) {
+            fill();
+            // the head stays in flight while it is awaited, so that cancel() reaches it
+            Future<R> head = inFlight.peek();
+            if (head == null) {
+                return false;
+            }
+            R result;
+            try {
+                result = head.get();
+                inFlight.poll();
+            } catch (ExecutionException e) {
+                inFlight.poll();
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    cancel();
+                    throw (Error) cause;
+                }
+                try {
+                    exceptionHandlerChain.handle(cause);
+                } catch (RuntimeException | Error unhandled) {
+                    cancel();
+                    throw unhandled;
+                }
+                continue;
+            } catch (CancellationException e) {
+                cancel();
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new S3mRuntimeException(e);
+            }
+            action.accept(result);
+            return true;
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : size + inFlight.size();
+    }
+
+    /**
+     * Cancels the calls in flight and shuts down the executor if this
+     * spliterator created it.
+     */
+    void cancel() {
+        for (Future<R> future : inFlight) {
+            future.cancel(true);
+        }
+        inFlight.clear();
+        close();
+    }
+
+    private void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.Functionex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Groups the elements of the source into batches, applies a bulk mapping
+ * function once per batch and hands out the results one by one, in order.
+ *
+ * <p>A batch is closed when it holds {@code maxBatchSize} elements, when the
+ * source is exhausted, or when an element arrives {@code maxLingerNanos} or
+ * more after the first element of the batch. The linger time is checked as
+ * elements are pulled, so it does not cut short a source that blocks.
+ *
+ * <p>An exception thrown by the mapping function is passed to the pipeline's
+ * {@link ExceptionHandlerChain} once for the whole batch. The elements of the
+ * batch are dropped if a terminal handler handled it; otherwise it is
+ * rethrown. A function that returns a list of the wrong size fails its batch
+ * with an {@link IllegalStateException}.
+ *
+ * @param <T> the type of the source elements
+ * @param <R> the type of the results
+ */
+final class BatchSpliterator<T, R> extends Spliterators.AbstractSpliterator<R> implements Consumer<T> {
+    private final Spliterator<T> source;
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final Functionex<? super List<T>, ? extends List<? extends R>> mapper;
+    private final ExceptionHandlerChain exceptionHandlerChain;
+    private List<T> batch;
+    private long batchStart;
+    private Iterator<? extends R> results;
+    private boolean exhausted;
+
+    BatchSpliterator(Spliterator<T> source, int maxBatchSize, long maxLingerNanos,
+                     Functionex<? super List<T>, ? extends List<? extends R>> mapper,
+                     ExceptionHandlerChain exceptionHandlerChain) {
+        super(Long.MAX_VALUE, source.characteristics() & Spliterator.ORDERED);
+        this.source = source;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = maxLingerNanos;
+        this.mapper = mapper;
+        this.exceptionHandlerChain = exceptionHandlerChain;
+    }
+
+    @Override
+    public void accept(T t) {
+        if (batch.isEmpty() && maxLingerNanos != Long.MAX_VALUE) {
+            batchStart = System.nanoTime();
+        }
+        batch.add(t);
+    }
+
+    private boolean full() {
+        return batch.size() >= maxBatchSize
+                || maxLingerNanos != Long.MAX_VALUE && System.nanoTime() - batchStart >= maxLingerNanos;
+    }
+
+    /**
+     * Fills the next batch and maps it.
+     *
+     * @return {@code false} if the source is exhausted
+     */
+    private boolean nextBatch() {
+        batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        while (!exhausted && (batch.isEmpty() || !full())) {
+            exhausted = !source.tryAdvance(this);
+        }
+        if (batch.isEmpty()) {
+            return false;
+        }
+        List<? extends R> mapped;
+        try {
+            mapped = mapper.apply(batch);
+            if (mapped == null || mapped.size() != batch.size()) {
+                throw new IllegalStateException("batch of " + batch.size() + " elements mapped to "
+                        + (mapped == null ? "null" : mapped.size() + " results"));
+            }
+        } catch (Exception e) {
+            batch = null;
+            exceptionHandlerChain.handle(e);
+            return true;
+        }
+        batch = null;
+        results = mapped.iterator();
+        return true;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while (results == null || !results.hasNext()) {
+            results = null;
+            if (!nextBatch()) {
+                return false;
+            }
+        }
+        action.accept(results.next());
+        return true;
+    }
+}
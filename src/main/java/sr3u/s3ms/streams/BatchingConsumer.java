@@ -0,0 +1,173 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.Consumerex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Consumerex} that collects the elements it accepts and hands them
+ * to a bulk action in batches of at most {@code maxBatchSize} elements. A
+ * batch is also handed over when an element arrives {@code maxLinger} or
+ * later after the first element of the batch.
+ *
+ * <p>The bulk action runs on the thread that accepts the element that
+ * completes the batch, and its exception is thrown from that
+ * {@link #accept(Object)} call. Used as the action of
+ * {@link Streamex#forEachex(Consumerex)}, a failed batch therefore reaches the
+ * stream's exception handlers once. The elements of a failed batch are not
+ * retried. {@code forEachex} also hands over the last, partial batch when the
+ * stream is exhausted, through the same handlers:
+ *
+ * <pre>{@code
+ * BatchingConsumer<Line> out = BatchingConsumer.of(500, Duration.ofMillis(50), file::appendAll);
+ * lines.forEachex(out).print().terminate();
+ * }</pre>
+ *
+ * <p>Used elsewhere, the last batch is handed over by {@link #flush()} or
+ * {@link #close()}.
+ *
+ * <p>The consumer is thread-safe. Only collecting the elements is
+ * synchronized; the bulk action runs outside the lock, so batches completed
+ * by different threads may be handed over concurrently.
+ *
+ * @param <T> the type of the accepted elements
+ * @since 1.8.0.0
+ */
+// close() throws what the bulk action throws, which may be InterruptedException
+@SuppressWarnings("try")
+public final class BatchingConsumer<T> implements Consumerex<T>, AutoCloseable {
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final Consumerex<? super List<T>> action;
+    private List<T> batch;
+    private long batchStart;
+
+    private BatchingConsumer(int maxBatchSize, long maxLingerNanos, Consumerex<? super List<T>> action) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = maxLingerNanos;
+        this.action = action;
+    }
+
+    /**
+     * Returns a consumer that hands batches of at most {@code maxBatchSize}
+     * elements to {@code action}.
+     *
+     * @param maxBatchSize the maximal number of elements per batch
+     * @param action       the bulk action
+     * @param <T>          the type of the accepted elements
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxBatchSize} is less than 1
+     */
+    public static <T> BatchingConsumer<T> of(int maxBatchSize, Consumerex<? super List<T>> action) {
+        return of(maxBatchSize, null, action);
+    }
+
+    /**
+     * Returns a consumer that hands batches of at most {@code maxBatchSize}
+     * elements to {@code action}, and hands a batch over early once it is
+     * {@code maxLinger} old.
+     *
+     * @param maxBatchSize the maximal number of elements per batch
+     * @param maxLinger    the age at which a batch is handed over, or
+     *                     {@code null} for no limit
+     * @param action       the bulk action
+     * @param <T>          the type of the accepted elements
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxBatchSize} is less than 1
+     *                                  or {@code maxLinger} is negative
+     */
+    public static <T> BatchingConsumer<T> of(int maxBatchSize, Duration maxLinger, Consumerex<? super List<T>> action) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (maxLinger != null && maxLinger.isNegative()) {
+            throw new IllegalArgumentException("maxLinger must not be negative: " + maxLinger);
+        }
+        return new BatchingConsumer<>(maxBatchSize, maxLinger == null ? Long.MAX_VALUE : toNanos(maxLinger),
+                Objects.requireNonNull(action));
+    }
+
+    /**
+     * Converts {@code duration} to nanoseconds, saturating at
+     * {@code Long.MAX_VALUE}.
+     */
+    static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public void accept(T t) throws Exception {
+        List<T> full = add(t);
+        if (full != null) {
+            action.accept(full);
+        }
+    }
+
+    /**
+     * Adds {@code t} to the current batch.
+     *
+     * @return the batch, if {@code t} completed it
+     */
+    private synchronized List<T> add(T t) {
+        if (batch == null) {
+            batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+            if (maxLingerNanos != Long.MAX_VALUE) {
+                batchStart = System.nanoTime();
+            }
+        }
+        batch.add(t);
+        if (batch.size() >= maxBatchSize
+                || maxLingerNanos != Long.MAX_VALUE && System.nanoTime() - batchStart >= maxLingerNanos) {
+            return take();
+        }
+        return null;
+    }
+
+    private synchronized List<T> take() {
+        List<T> full = batch;
+        batch = null;
+        return full;
+    }
+
+    /**
+     * Hands the collected elements, if any, to the bulk action.
+     *
+     * @throws Exception if the bulk action throws
+     */
+    public void flush() throws Exception {
+        List<T> full = take();
+        if (full != null) {
+            action.accept(full);
+        }
+    }
+
+    /**
+     * Hands the collected elements, if any, to the bulk action, and passes
+     * its exception to {@code handler}.
+     */
+    void flush(ExceptionHandlerChain handler) {
+        try {
+            flush();
+        } catch (Exception e) {
+            handler.handle(e);
+        }
+    }
+
+    /**
+     * Hands the last, partial batch to the bulk action.
+     *
+     * @throws Exception if the bulk action throws
+     */
+    @Override
+    public void close() throws Exception {
+        flush();
+    }
+}
@@ -0,0 +1,132 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.BiConsumerex;
+import sr3u.functionalex.BinaryOperatorex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Supplierex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandler;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collector;
+
+/**
+ * A mutable reduction whose functions may throw checked exceptions; the
+ * counterpart of {@link Collector} for the {@code sr3u.functionalex}
+ * interfaces. Ready-made collectors are provided by {@link Collectorsex}.
+ *
+ * <p>A {@code Collectorex} is run by {@link Streamex#collectex(Collectorex)},
+ * or turned into a plain {@code Collector} with
+ * {@link #toCollector(ExceptionHandler)}. Either way, an exception thrown by
+ * the accumulator is passed to the exception handlers and, if a terminal
+ * handler handled it, the element is skipped. A handled exception of the
+ * supplier, the combiner or the finisher drops the partial result it was
+ * working on, and a dropped result is finished as {@code null}.
+ *
+ * @param <T> the type of input elements to the reduction operation
+ * @param <A> the mutable accumulation type of the reduction operation
+ * @param <R> the result type of the reduction operation
+ * @since 1.8.0.0
+ */
+public interface Collectorex<T, A, R> {
+
+    /**
+     * Returns a function that creates a new mutable result container.
+     */
+    Supplierex<A> supplier();
+
+    /**
+     * Returns a function that folds a value into a mutable result container.
+     */
+    BiConsumerex<A, T> accumulator();
+
+    /**
+     * Returns a function that merges two partial results.
+     */
+    BinaryOperatorex<A> combiner();
+
+    /**
+     * Returns a function that transforms the intermediate result into the
+     * final result.
+     */
+    Functionex<A, R> finisher();
+
+    /**
+     * Returns the characteristics of this collector, as defined by
+     * {@link Collector.Characteristics}.
+     */
+    Set<Collector.Characteristics> characteristics();
+
+    /**
+     * Returns a new {@code Collectorex} described by the given functions.
+     *
+     * @param supplier        the supplier function for the new collector
+     * @param accumulator     the accumulator function for the new collector
+     * @param combiner        the combiner function for the new collector
+     * @param finisher        the finisher function for the new collector
+     * @param characteristics the collector characteristics for the new
+     *                        collector
+     * @param <T>             the type of input elements for the new collector
+     * @param <A>             the intermediate accumulation type of the new
+     *                        collector
+     * @param <R>             the final result type of the new collector
+     * @return the new collector
+     */
+    static <T, A, R> Collectorex<T, A, R> of(Supplierex<A> supplier, BiConsumerex<A, T> accumulator,
+                                             BinaryOperatorex<A> combiner, Functionex<A, R> finisher,
+                                             Collector.Characteristics... characteristics) {
+        Set<Collector.Characteristics> set = EnumSet.noneOf(Collector.Characteristics.class);
+        Collections.addAll(set, characteristics);
+        return new CollectorexImpl<>(supplier, accumulator, combiner, finisher, Collections.unmodifiableSet(set));
+    }
+
+    /**
+     * Returns a new {@code Collectorex} whose result is its mutable
+     * container.
+     *
+     * @param supplier        the supplier function for the new collector
+     * @param accumulator     the accumulator function for the new collector
+     * @param combiner        the combiner function for the new collector
+     * @param characteristics the collector characteristics for the new
+     *                        collector
+     * @param <T>             the type of input elements for the new collector
+     * @param <R>             the type of intermediate accumulation result, and
+     *                        final result, for the new collector
+     * @return the new collector
+     */
+    static <T, R> Collectorex<T, R, R> of(Supplierex<R> supplier, BiConsumerex<R, T> accumulator,
+                                          BinaryOperatorex<R> combiner,
+                                          Collector.Characteristics... characteristics) {
+        Set<Collector.Characteristics> set = EnumSet.of(Collector.Characteristics.IDENTITY_FINISH);
+        Collections.addAll(set, characteristics);
+        return new CollectorexImpl<>(supplier, accumulator, combiner, r -> r, Collections.unmodifiableSet(set));
+    }
+
+    /**
+     * Adapts a plain {@link Collector}, for example to use it as the
+     * downstream collector of {@link Collectorsex#groupingByex}.
+     *
+     * @param collector the collector to adapt
+     * @param <T>       the type of input elements
+     * @param <A>       the intermediate accumulation type
+     * @param <R>       the result type
+     * @return a {@code Collectorex} that runs {@code collector}
+     */
+    static <T, A, R> Collectorex<T, A, R> from(Collector<T, A, R> collector) {
+        return new CollectorexImpl<>(collector.supplier()::get, collector.accumulator()::accept,
+                collector.combiner()::apply, collector.finisher()::apply, collector.characteristics());
+    }
+
+    /**
+     * Returns a plain {@link Collector} that passes the exceptions of this
+     * collector's functions to {@code handler}.
+     *
+     * @param handler the handler of the exceptions, typically an
+     *                {@link sr3u.s3ms.exceptionsprocessing.ExceptionPolicy}
+     * @return the wrapped collector
+     */
+    default Collector<T, ?, R> toCollector(ExceptionHandler<? super Exception> handler) {
+        return CollectorexImpl.toCollector(this, handler);
+    }
+}
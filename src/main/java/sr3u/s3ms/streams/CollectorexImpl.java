@@ -0,0 +1,141 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.BiConsumerex;
+import sr3u.functionalex.BinaryOperatorex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Supplierex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandler;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collector;
+
+/**
+ * The {@link Collectorex} built by its factories, and the adapter that runs a
+ * {@code Collectorex} as a plain {@link Collector}.
+ */
+final class CollectorexImpl<T, A, R> implements Collectorex<T, A, R> {
+    private static final Collector.Characteristics[] NONE = new Collector.Characteristics[0];
+    private static final Collector.Characteristics[] UNORDERED = {Collector.Characteristics.UNORDERED};
+
+    private final Supplierex<A> supplier;
+    private final BiConsumerex<A, T> accumulator;
+    private final BinaryOperatorex<A> combiner;
+    private final Functionex<A, R> finisher;
+    private final Set<Collector.Characteristics> characteristics;
+
+    CollectorexImpl(Supplierex<A> supplier, BiConsumerex<A, T> accumulator, BinaryOperatorex<A> combiner,
+                    Functionex<A, R> finisher, Set<Collector.Characteristics> characteristics) {
+        this.supplier = Objects.requireNonNull(supplier);
+        this.accumulator = Objects.requireNonNull(accumulator);
+        this.combiner = Objects.requireNonNull(combiner);
+        this.finisher = Objects.requireNonNull(finisher);
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public Supplierex<A> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public BiConsumerex<A, T> accumulator() {
+        return accumulator;
+    }
+
+    @Override
+    public BinaryOperatorex<A> combiner() {
+        return combiner;
+    }
+
+    @Override
+    public Functionex<A, R> finisher() {
+        return finisher;
+    }
+
+    @Override
+    public Set<Collector.Characteristics> characteristics() {
+        return characteristics;
+    }
+
+    static <T, A, R> Collector<T, ?, R> toCollector(Collectorex<T, A, R> collector,
+                                                    ExceptionHandler<? super Exception> handler) {
+        Objects.requireNonNull(handler);
+        Supplierex<A> supplier = collector.supplier();
+        BiConsumerex<A, T> accumulator = collector.accumulator();
+        BinaryOperatorex<A> combiner = collector.combiner();
+        Functionex<A, R> finisher = collector.finisher();
+        Set<Collector.Characteristics> characteristics = collector.characteristics();
+        boolean identityFinish = characteristics.contains(Collector.Characteristics.IDENTITY_FINISH);
+        return Collector.<T, Container<A>, R>of(() -> {
+            try {
+                return new Container<>(supplier.get());
+            } catch (Exception e) {
+                handler.handle(e);
+            }
+            return Container.failed();
+        }, (container, t) -> {
+            if (container.failed) {
+                return;
+            }
+            try {
+                accumulator.accept(container.value, t);
+            } catch (Exception e) {
+                handler.handle(e);
+            }
+        }, (left, right) -> {
+            if (left.failed) {
+                return left;
+            }
+            if (right.failed) {
+                return right;
+            }
+            try {
+                return new Container<>(combiner.apply(left.value, right.value));
+            } catch (Exception e) {
+                handler.handle(e);
+            }
+            return Container.failed();
+        }, container -> {
+            if (container.failed) {
+                return null;
+            }
+            if (identityFinish) {
+                @SuppressWarnings("unchecked")
+                R result = (R) container.value;
+                return result;
+            }
+            try {
+                return finisher.apply(container.value);
+            } catch (Exception e) {
+                handler.handle(e);
+            }
+            return null;
+        }, characteristics.contains(Collector.Characteristics.UNORDERED) ? UNORDERED : NONE);
+    }
+
+    /**
+     * Holds a mutable container, or marks that the partial result was dropped
+     * after a handled exception.
+     */
+    private static final class Container<A> {
+        private static final Container<?> FAILED = new Container<>(null, true);
+
+        final A value;
+        final boolean failed;
+
+        Container(A value) {
+            this(value, false);
+        }
+
+        private Container(A value, boolean failed) {
+            this.value = value;
+            this.failed = failed;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <A> Container<A> failed() {
+            return (Container<A>) FAILED;
+        }
+    }
+}
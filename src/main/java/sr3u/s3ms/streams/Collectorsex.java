@@ -0,0 +1,528 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.BiConsumerex;
+import sr3u.functionalex.BinaryOperatorex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Predicatex;
+import sr3u.functionalex.Supplierex;
+import sr3u.functionalex.primitive.doublefloat.ToDoubleFunctionex;
+import sr3u.functionalex.primitive.integer.ToIntFunctionex;
+import sr3u.functionalex.primitive.longinteger.ToLongFunctionex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collector;
+
+/**
+ * Implementations of {@link Collectorex} that mirror
+ * {@link java.util.stream.Collectors} but accept the checked-exception
+ * interfaces of {@code sr3u.functionalex}.
+ *
+ * <p>The numeric collectors accumulate into primitive arrays, so summing and
+ * averaging do not allocate per element.
+ *
+ * @since 1.8.0.0
+ */
+public final class Collectorsex {
+    private Collectorsex() {
+    }
+
+    /**
+     * Returns a collector that accumulates the elements into a new
+     * {@code List}.
+     *
+     * @param <T> the type of the input elements
+     * @return a collector which collects all the input elements into a list
+     */
+    public static <T> Collectorex<T, ?, List<T>> toListex() {
+        return Collectorex.<T, List<T>>of(ArrayList::new, List::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /**
+     * Returns a collector that accumulates the elements into a new
+     * {@code Set}.
+     *
+     * @param <T> the type of the input elements
+     * @return a collector which collects all the input elements into a set
+     */
+    public static <T> Collectorex<T, ?, Set<T>> toSetex() {
+        return Collectorex.<T, Set<T>>of(HashSet::new, Set::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        }, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector that accumulates the elements into a collection
+     * created by {@code collectionFactory}.
+     *
+     * @param collectionFactory a supplier of a new, empty collection
+     * @param <T>               the type of the input elements
+     * @param <C>               the type of the resulting collection
+     * @return a collector which collects all the input elements into a
+     * collection
+     */
+    public static <T, C extends Collection<T>> Collectorex<T, ?, C> toCollectionex(Supplierex<C> collectionFactory) {
+        return Collectorex.<T, C>of(collectionFactory, Collection::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /**
+     * Adapts a collector to one that applies {@code mapper} to each element
+     * before accumulation.
+     *
+     * @param mapper     a function to be applied to the input elements
+     * @param downstream a collector which will accept mapped values
+     * @param <T>        the type of the input elements
+     * @param <U>        the type accepted by the downstream collector
+     * @param <A>        the intermediate accumulation type of the downstream
+     *                   collector
+     * @param <R>        the result type of the collector
+     * @return a collector which applies the mapping function to the input
+     * elements and passes the results to the downstream collector
+     */
+    public static <T, U, A, R> Collectorex<T, ?, R> mappingex(Functionex<? super T, ? extends U> mapper,
+                                                            Collectorex<? super U, A, R> downstream) {
+        Objects.requireNonNull(mapper);
+        Collectorex<U, A, R> down = narrow(downstream);
+        BiConsumerex<A, U> accumulator = down.accumulator();
+        return new CollectorexImpl<>(down.supplier(), (a, t) -> accumulator.accept(a, mapper.apply(t)),
+                down.combiner(), down.finisher(), down.characteristics());
+    }
+
+    /**
+     * Adapts a collector to one that only accumulates the elements matching
+     * {@code predicate}.
+     *
+     * @param predicate  a predicate to be applied to the input elements
+     * @param downstream a collector which will accept the matching values
+     * @param <T>        the type of the input elements
+     * @param <A>        the intermediate accumulation type of the downstream
+     *                   collector
+     * @param <R>        the result type of the collector
+     * @return a collector which passes the matching elements to the
+     * downstream collector
+     */
+    public static <T, A, R> Collectorex<T, ?, R> filteringex(Predicatex<? super T> predicate,
+                                                           Collectorex<? super T, A, R> downstream) {
+        Objects.requireNonNull(predicate);
+        Collectorex<T, A, R> down = narrow(downstream);
+        BiConsumerex<A, T> accumulator = down.accumulator();
+        return new CollectorexImpl<>(down.supplier(), (a, t) -> {
+            if (predicate.test(t)) {
+                accumulator.accept(a, t);
+            }
+        }, down.combiner(), down.finisher(), down.characteristics());
+    }
+
+    /**
+     * Adapts a collector to perform an additional finishing transformation.
+     *
+     * @param downstream a collector
+     * @param finisher   a function to be applied to the final result of the
+     *                   downstream collector
+     * @param <T>        the type of the input elements
+     * @param <A>        the intermediate accumulation type of the downstream
+     *                   collector
+     * @param <R>        the result type of the downstream collector
+     * @param <RR>       the result type of the resulting collector
+     * @return a collector which performs the action of the downstream
+     * collector, followed by an additional finishing step
+     */
+    public static <T, A, R, RR> Collectorex<T, A, RR> collectingAndThenex(Collectorex<T, A, R> downstream,
+                                                                        Functionex<? super R, RR> finisher) {
+        Objects.requireNonNull(finisher);
+        Set<Collector.Characteristics> characteristics = downstream.characteristics();
+        if (characteristics.contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            characteristics = EnumSet.copyOf(characteristics);
+            characteristics.remove(Collector.Characteristics.IDENTITY_FINISH);
+        }
+        Functionex<A, R> first = downstream.finisher();
+        return new CollectorexImpl<>(downstream.supplier(), downstream.accumulator(), downstream.combiner(),
+                a -> finisher.apply(first.apply(a)), characteristics);
+    }
+
+    /**
+     * Returns a collector that counts the input elements.
+     *
+     * @param <T> the type of the input elements
+     * @return a collector that counts the input elements
+     */
+    public static <T> Collectorex<T, ?, Long> countingex() {
+        return new CollectorexImpl<>(() -> new long[1], (a, t) -> a[0]++, (left, right) -> {
+            left[0] += right[0];
+            return left;
+        }, a -> a[0], noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that produces the sum of an integer-valued function
+     * applied to the input elements.
+     *
+     * @param mapper a function extracting the property to be summed
+     * @param <T>    the type of the input elements
+     * @return a collector that produces the sum of a derived property
+     */
+    public static <T> Collectorex<T, ?, Integer> summingIntex(ToIntFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return new CollectorexImpl<>(() -> new int[1], (a, t) -> a[0] += mapper.applyAsInt(t), (left, right) -> {
+            left[0] += right[0];
+            return left;
+        }, a -> a[0], noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that produces the sum of a long-valued function
+     * applied to the input elements.
+     *
+     * @param mapper a function extracting the property to be summed
+     * @param <T>    the type of the input elements
+     * @return a collector that produces the sum of a derived property
+     */
+    public static <T> Collectorex<T, ?, Long> summingLongex(ToLongFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return new CollectorexImpl<>(() -> new long[1], (a, t) -> a[0] += mapper.applyAsLong(t), (left, right) -> {
+            left[0] += right[0];
+            return left;
+        }, a -> a[0], noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that produces the sum of a double-valued function
+     * applied to the input elements. The sum is compensated (Kahan
+     * summation), like {@link java.util.stream.Collectors#summingDouble}.
+     *
+     * @param mapper a function extracting the property to be summed
+     * @param <T>    the type of the input elements
+     * @return a collector that produces the sum of a derived property
+     */
+    public static <T> Collectorex<T, ?, Double> summingDoubleex(ToDoubleFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        // [0] high-order sum, [1] compensation, [2] simple sum for infinities and NaN
+        return new CollectorexImpl<>(() -> new double[3], (a, t) -> {
+            double value = mapper.applyAsDouble(t);
+            sumWithCompensation(a, value);
+            a[2] += value;
+        }, (left, right) -> {
+            sumWithCompensation(left, right[0]);
+            sumWithCompensation(left, -right[1]);
+            left[2] += right[2];
+            return left;
+        }, Collectorsex::computeFinalSum, noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that produces the arithmetic mean of an
+     * integer-valued function applied to the input elements. The mean of no
+     * elements is zero.
+     *
+     * @param mapper a function extracting the property to be averaged
+     * @param <T>    the type of the input elements
+     * @return a collector that produces the mean of a derived property
+     */
+    public static <T> Collectorex<T, ?, Double> averagingIntex(ToIntFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return new CollectorexImpl<>(() -> new long[2], (a, t) -> {
+            a[0] += mapper.applyAsInt(t);
+            a[1]++;
+        }, Collectorsex::combineLongs, a -> a[1] == 0 ? 0.0d : (double) a[0] / a[1], noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that produces the arithmetic mean of a long-valued
+     * function applied to the input elements. The mean of no elements is
+     * zero.
+     *
+     * @param mapper a function extracting the property to be averaged
+     * @param <T>    the type of the input elements
+     * @return a collector that produces the mean of a derived property
+     */
+    public static <T> Collectorex<T, ?, Double> averagingLongex(ToLongFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return new CollectorexImpl<>(() -> new long[2], (a, t) -> {
+            a[0] += mapper.applyAsLong(t);
+            a[1]++;
+        }, Collectorsex::combineLongs, a -> a[1] == 0 ? 0.0d : (double) a[0] / a[1], noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that produces the arithmetic mean of a
+     * double-valued function applied to the input elements, using
+     * compensated summation. The mean of no elements is zero.
+     *
+     * @param mapper a function extracting the property to be averaged
+     * @param <T>    the type of the input elements
+     * @return a collector that produces the mean of a derived property
+     */
+    public static <T> Collectorex<T, ?, Double> averagingDoubleex(ToDoubleFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        // [0] high-order sum, [1] compensation, [2] count, [3] simple sum
+        return new CollectorexImpl<>(() -> new double[4], (a, t) -> {
+            double value = mapper.applyAsDouble(t);
+            sumWithCompensation(a, value);
+            a[2]++;
+            a[3] += value;
+        }, (left, right) -> {
+            sumWithCompensation(left, right[0]);
+            sumWithCompensation(left, -right[1]);
+            left[2] += right[2];
+            left[3] += right[3];
+            return left;
+        }, a -> a[2] == 0 ? 0.0d : computeFinalSum(new double[]{a[0], a[1], a[3]}) / a[2], noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that reduces the input elements with
+     * {@code op}, starting from {@code identity}.
+     *
+     * @param identity the identity value for the reduction
+     * @param op       an associative function for combining two values
+     * @param <T>      the type of the input elements
+     * @return a collector which implements the reduction operation
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Collectorex<T, ?, T> reducingex(T identity, BinaryOperatorex<T> op) {
+        Objects.requireNonNull(op);
+        return new CollectorexImpl<T, Object[], T>(() -> new Object[]{identity},
+                (a, t) -> a[0] = op.apply((T) a[0], t),
+                (left, right) -> {
+                    left[0] = op.apply((T) left[0], (T) right[0]);
+                    return left;
+                }, a -> (T) a[0], noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that concatenates the input elements in encounter
+     * order.
+     *
+     * @return a collector which concatenates the input elements
+     */
+    public static Collectorex<CharSequence, ?, String> joiningex() {
+        return new CollectorexImpl<CharSequence, StringBuilder, String>(StringBuilder::new, StringBuilder::append,
+                StringBuilder::append, StringBuilder::toString, noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that concatenates the input elements, separated by
+     * {@code delimiter}, in encounter order.
+     *
+     * @param delimiter the delimiter to be used between each element
+     * @return a collector which concatenates the input elements
+     */
+    public static Collectorex<CharSequence, ?, String> joiningex(CharSequence delimiter) {
+        return joiningex(delimiter, "", "");
+    }
+
+    /**
+     * Returns a collector that concatenates the input elements, separated by
+     * {@code delimiter} and surrounded by {@code prefix} and {@code suffix},
+     * in encounter order.
+     *
+     * @param delimiter the delimiter to be used between each element
+     * @param prefix    the sequence to be used at the beginning
+     * @param suffix    the sequence to be used at the end
+     * @return a collector which concatenates the input elements
+     */
+    public static Collectorex<CharSequence, ?, String> joiningex(CharSequence delimiter, CharSequence prefix,
+                                                                CharSequence suffix) {
+        return new CollectorexImpl<CharSequence, StringJoiner, String>(() -> new StringJoiner(delimiter, prefix, suffix),
+                StringJoiner::add, StringJoiner::merge, StringJoiner::toString, noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that groups the input elements by {@code classifier}
+     * into lists.
+     *
+     * @param classifier the classifier function mapping input elements to keys
+     * @param <T>        the type of the input elements
+     * @param <K>        the type of the keys
+     * @return a collector implementing the group-by operation
+     */
+    public static <T, K> Collectorex<T, ?, Map<K, List<T>>> groupingByex(Functionex<? super T, ? extends K> classifier) {
+        return groupingByex(classifier, toListex());
+    }
+
+    /**
+     * Returns a collector that groups the input elements by {@code classifier}
+     * and reduces the elements of each group with {@code downstream}.
+     *
+     * @param classifier the classifier function mapping input elements to keys
+     * @param downstream a collector implementing the downstream reduction
+     * @param <T>        the type of the input elements
+     * @param <K>        the type of the keys
+     * @param <A>        the intermediate accumulation type of the downstream
+     *                   collector
+     * @param <D>        the result type of the downstream reduction
+     * @return a collector implementing the cascaded group-by operation
+     */
+    public static <T, K, A, D> Collectorex<T, ?, Map<K, D>> groupingByex(Functionex<? super T, ? extends K> classifier,
+                                                                       Collectorex<? super T, A, D> downstream) {
+        return groupingByex(classifier, HashMap::new, downstream);
+    }
+
+    /**
+     * Returns a collector that groups the input elements by {@code classifier}
+     * into a map created by {@code mapFactory}, and reduces the elements of
+     * each group with {@code downstream}.
+     *
+     * @param classifier the classifier function mapping input elements to keys
+     * @param mapFactory a supplier of a new, empty map
+     * @param downstream a collector implementing the downstream reduction
+     * @param <T>        the type of the input elements
+     * @param <K>        the type of the keys
+     * @param <A>        the intermediate accumulation type of the downstream
+     *                   collector
+     * @param <D>        the result type of the downstream reduction
+     * @param <M>        the type of the resulting map
+     * @return a collector implementing the cascaded group-by operation
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K, A, D, M extends Map<K, D>> Collectorex<T, ?, M> groupingByex(
+            Functionex<? super T, ? extends K> classifier, Supplierex<M> mapFactory,
+            Collectorex<? super T, A, D> downstream) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(mapFactory);
+        Collectorex<T, A, D> down = narrow(downstream);
+        Supplierex<A> downstreamSupplier = down.supplier();
+        BiConsumerex<A, T> downstreamAccumulator = down.accumulator();
+        BinaryOperatorex<A> downstreamCombiner = down.combiner();
+        Functionex<A, D> downstreamFinisher = down.finisher();
+        boolean identityFinish = down.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH);
+        return new CollectorexImpl<T, Map<K, A>, M>((Supplierex<Map<K, A>>) (Supplierex<?>) mapFactory, (map, t) -> {
+            K key = Objects.requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
+            A container = map.get(key);
+            if (container == null) {
+                container = downstreamSupplier.get();
+                map.put(key, container);
+            }
+            downstreamAccumulator.accept(container, t);
+        }, (left, right) -> {
+            for (Map.Entry<K, A> entry : right.entrySet()) {
+                A existing = left.get(entry.getKey());
+                left.put(entry.getKey(), existing == null
+                        ? entry.getValue()
+                        : downstreamCombiner.apply(existing, entry.getValue()));
+            }
+            return left;
+        }, map -> {
+            if (!identityFinish) {
+                for (Map.Entry<K, A> entry : map.entrySet()) {
+                    entry.setValue((A) downstreamFinisher.apply(entry.getValue()));
+                }
+            }
+            return (M) map;
+        }, noCharacteristics());
+    }
+
+    /**
+     * Returns a collector that accumulates the input elements into a
+     * {@code Map} whose keys and values are the results of applying the
+     * provided mapping functions. A duplicate key fails the collection with
+     * an {@link IllegalStateException}.
+     *
+     * @param keyMapper   a mapping function to produce keys
+     * @param valueMapper a mapping function to produce values
+     * @param <T>         the type of the input elements
+     * @param <K>         the output type of the key mapping function
+     * @param <U>         the output type of the value mapping function
+     * @return a collector which collects elements into a {@code Map}
+     */
+    public static <T, K, U> Collectorex<T, ?, Map<K, U>> toMapex(Functionex<? super T, ? extends K> keyMapper,
+                                                               Functionex<? super T, ? extends U> valueMapper) {
+        return toMapex(keyMapper, valueMapper, (left, right) -> {
+            throw new IllegalStateException("Duplicate key (attempted merging values " + left + " and " + right + ")");
+        });
+    }
+
+    /**
+     * Returns a collector that accumulates the input elements into a
+     * {@code Map} whose keys and values are the results of applying the
+     * provided mapping functions, merging the values of duplicate keys with
+     * {@code mergeFunction}.
+     *
+     * @param keyMapper     a mapping function to produce keys
+     * @param valueMapper   a mapping function to produce values
+     * @param mergeFunction a function to resolve collisions between values
+     *                      associated with the same key
+     * @param <T>           the type of the input elements
+     * @param <K>           the output type of the key mapping function
+     * @param <U>           the output type of the value mapping function
+     * @return a collector which collects elements into a {@code Map}
+     */
+    public static <T, K, U> Collectorex<T, ?, Map<K, U>> toMapex(Functionex<? super T, ? extends K> keyMapper,
+                                                               Functionex<? super T, ? extends U> valueMapper,
+                                                               BinaryOperatorex<U> mergeFunction) {
+        Objects.requireNonNull(keyMapper);
+        Objects.requireNonNull(valueMapper);
+        Objects.requireNonNull(mergeFunction);
+        return Collectorex.<T, Map<K, U>>of(HashMap::new,
+                (map, t) -> merge(map, keyMapper.apply(t), valueMapper.apply(t), mergeFunction),
+                (left, right) -> {
+                    for (Map.Entry<K, U> entry : right.entrySet()) {
+                        merge(left, entry.getKey(), entry.getValue(), mergeFunction);
+                    }
+                    return left;
+                });
+    }
+
+    private static <K, U> void merge(Map<K, U> map, K key, U value, BinaryOperatorex<U> mergeFunction)
+            throws Exception {
+        Objects.requireNonNull(value);
+        U existing = map.get(key);
+        map.put(key, existing == null ? value : mergeFunction.apply(existing, value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, A, R> Collectorex<T, A, R> narrow(Collectorex<? super T, A, R> collector) {
+        return (Collectorex<T, A, R>) collector;
+    }
+
+    private static Set<Collector.Characteristics> noCharacteristics() {
+        return Collections.emptySet();
+    }
+
+    private static long[] combineLongs(long[] left, long[] right) {
+        left[0] += right[0];
+        left[1] += right[1];
+        return left;
+    }
+
+    /**
+     * Adds {@code value} to the compensated sum held in {@code a[0]} (the
+     * high-order bits) and {@code a[1]} (the negated compensation).
+     */
+    private static void sumWithCompensation(double[] a, double value) {
+        double corrected = value - a[1];
+        double sum = a[0];
+        double next = sum + corrected;
+        a[1] = (next - sum) - corrected;
+        a[0] = next;
+    }
+
+    /**
+     * Returns the compensated sum, or the simple sum in {@code a[2]} if the
+     * compensated sum is NaN because of infinities of both signs.
+     */
+    private static double computeFinalSum(double[] a) {
+        double sum = a[0] - a[1];
+        double simpleSum = a[a.length - 1];
+        if (Double.isNaN(sum) && Double.isInfinite(simpleSum)) {
+            return simpleSum;
+        }
+        return sum;
+    }
+}
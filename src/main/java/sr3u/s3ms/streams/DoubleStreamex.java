@@ -0,0 +1,542 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.primitive.DoubleToIntFunctionex;
+import sr3u.functionalex.primitive.DoubleToLongFunctionex;
+import sr3u.functionalex.primitive.doublefloat.DoubleConsumerex;
+import sr3u.functionalex.primitive.doublefloat.DoubleFunctionex;
+import sr3u.functionalex.primitive.doublefloat.DoublePredicatex;
+import sr3u.functionalex.primitive.doublefloat.DoubleUnaryOperatorex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+import sr3u.s3ms.optionals.OptionalDoubleex;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * A checked exceptions-friendly wrapper for {@link DoubleStream}.
+ *
+ * <p>This is the {@code double} primitive specialization of {@link Streamex}.
+ * Stateless stages are fused the same way, and values stay unboxed while
+ * passing through them, including the conversions to {@link IntStreamex}
+ * and {@link LongStreamex}.
+ *
+ * @see Streamex
+ * @since 1.8.0.0
+ */
+public class DoubleStreamex {
+    private final Pipeline pipeline;
+
+    DoubleStreamex(Pipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} wrapper of the specified
+     * {@code DoubleStream}.
+     *
+     * @param stream the stream to be wrapped
+     * @return a {@code DoubleStreamex} over the elements of {@code stream}
+     */
+    public static DoubleStreamex ofStream(DoubleStream stream) {
+        return new DoubleStreamex(Pipeline.of(Objects.requireNonNull(stream), Shape.DOUBLE));
+    }
+
+    /**
+     * Returns a sequential ordered {@code DoubleStreamex} whose elements are
+     * the specified values.
+     *
+     * @param values the elements of the new stream
+     * @return the new stream
+     */
+    public static DoubleStreamex of(double... values) {
+        return ofStream(DoubleStream.of(values));
+    }
+
+    /**
+     * Returns an empty sequential {@code DoubleStreamex}.
+     *
+     * @return an empty sequential stream
+     */
+    public static DoubleStreamex empty() {
+        return ofStream(DoubleStream.empty());
+    }
+
+    private DoubleStreamex then(Stage next) {
+        return new DoubleStreamex(pipeline.then(next));
+    }
+
+    private DoubleStreamex barrier(DoubleStream stream) {
+        return new DoubleStreamex(pipeline.barrier(stream, Shape.DOUBLE));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    public DoubleStreamex filter(DoublePredicate predicate) {
+        return filterex(predicate::test);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    public DoubleStreamex filterex(DoublePredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfDouble) value -> {
+                    if (predicate.test(value)) {
+                        downstream.accept(value);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public DoubleStreamex map(DoubleUnaryOperator mapper) {
+        return mapex(mapper::applyAsDouble);
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public DoubleStreamex mapex(DoubleUnaryOperatorex mapper) {
+        Objects.requireNonNull(mapper);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfDouble) value -> downstream.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    /**
+     * Returns an object-valued {@code Streamex} consisting of the results of
+     * applying the given function to the elements of this stream.
+     *
+     * @param <U>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public <U> Streamex<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        return mapToObjex(mapper::apply);
+    }
+
+    /**
+     * Returns an object-valued {@code Streamex} consisting of the results of
+     * applying the given function to the elements of this stream.
+     *
+     * @param <U>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public <U> Streamex<U> mapToObjex(DoubleFunctionex<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Streamex<>(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                Sink<Object> sink = Sink.of(downstream);
+                return (Sink.OfDouble) value -> sink.accept(mapper.apply(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns an {@code IntStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public IntStreamex mapToInt(DoubleToIntFunction mapper) {
+        return mapToIntex(mapper::applyAsInt);
+    }
+
+    /**
+     * Returns an {@code IntStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public IntStreamex mapToIntex(DoubleToIntFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        return new IntStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfDouble) value -> downstream.accept(mapper.applyAsInt(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code LongStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public LongStreamex mapToLong(DoubleToLongFunction mapper) {
+        return mapToLongex(mapper::applyAsLong);
+    }
+
+    /**
+     * Returns a {@code LongStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public LongStreamex mapToLongex(DoubleToLongFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        return new LongStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfDouble) value -> downstream.accept(mapper.applyAsLong(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code Streamex} consisting of the elements of this stream,
+     * each boxed to a {@code Double}.
+     *
+     * @return a {@code Streamex} consistent of the elements of this stream,
+     * each boxed to a {@code Double}
+     */
+    public Streamex<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    public DoubleStreamex peek(DoubleConsumer action) {
+        return peekex(action::accept);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    public DoubleStreamex peekex(DoubleConsumerex action) {
+        Objects.requireNonNull(action);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfDouble) value -> {
+                    action.accept(value);
+                    downstream.accept(value);
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return the new stream
+     */
+    public DoubleStreamex distinct() {
+        return barrier(toStream().distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted
+     * order.
+     *
+     * @return the new stream
+     */
+    public DoubleStreamex sorted() {
+        return barrier(toStream().sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated
+     * to be no longer than {@code maxSize} in length.
+     *
+     * @param maxSize the number of elements the stream should be limited to
+     * @return the new stream
+     */
+    public DoubleStreamex limit(long maxSize) {
+        return barrier(toStream().limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream
+     * after discarding the first {@code n} elements of the stream.
+     *
+     * @param n the number of leading elements to skip
+     * @return the new stream
+     */
+    public DoubleStreamex skip(long n) {
+        return barrier(toStream().skip(n));
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return a parallel stream
+     */
+    public DoubleStreamex parallel() {
+        return new DoubleStreamex(pipeline.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel and reacts to exceptions
+     * that are not handled by a terminal handler as selected by {@code mode}.
+     *
+     * @param mode how unhandled exceptions of the workers are reported
+     * @return a parallel stream
+     * @see ParallelFailureMode
+     */
+    public DoubleStreamex parallel(ParallelFailureMode mode) {
+        return new DoubleStreamex(pipeline.parallel(mode));
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return a sequential stream
+     */
+    public DoubleStreamex sequential() {
+        return new DoubleStreamex(pipeline.sequential());
+    }
+
+    /**
+     * Returns whether this stream, if a terminal operation were to be executed,
+     * would execute in parallel.
+     *
+     * @return {@code true} if this stream would execute in parallel
+     */
+    public boolean isParallel() {
+        return pipeline.isParallel();
+    }
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEach(DoubleConsumer action) {
+        return forEachex(action::accept);
+    }
+
+    /**
+     * Performs an action for each element of this stream. The action is fused
+     * with the preceding stateless stages.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEachex(DoubleConsumerex action) {
+        DoubleStream stream = peekex(action).toStream();
+        return pipeline.op(() -> {
+            stream.forEach(value -> {
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Returns the sum of elements in this stream.
+     *
+     * @return a deferred operation that yields the sum of elements
+     */
+    public Op<Double> sum() {
+        DoubleStream stream = toStream();
+        return pipeline.op(stream::sum);
+    }
+
+    /**
+     * Returns the count of elements in this stream.
+     *
+     * @return a deferred operation that yields the count of elements
+     */
+    public Op<Long> count() {
+        DoubleStream stream = toStream();
+        return pipeline.op(stream::count);
+    }
+
+    /**
+     * Returns a {@code DoubleSummaryStatistics} describing various summary
+     * data about the elements of this stream.
+     *
+     * @return a deferred operation that yields the summary statistics
+     */
+    public Op<DoubleSummaryStatistics> summaryStatistics() {
+        DoubleStream stream = toStream();
+        return pipeline.op(stream::summaryStatistics);
+    }
+
+    /**
+     * Returns the minimum element of this stream.
+     *
+     * @return a deferred operation that yields the minimum element, or an
+     * empty {@code OptionalDoubleex} if this stream is empty
+     */
+    public Op<OptionalDoubleex> min() {
+        DoubleStream stream = toStream();
+        return pipeline.op(() -> OptionalDoubleex.ofOptional(stream.min()));
+    }
+
+    /**
+     * Returns the maximum element of this stream.
+     *
+     * @return a deferred operation that yields the maximum element, or an
+     * empty {@code OptionalDoubleex} if this stream is empty
+     */
+    public Op<OptionalDoubleex> max() {
+        DoubleStream stream = toStream();
+        return pipeline.op(() -> OptionalDoubleex.ofOptional(stream.max()));
+    }
+
+    /**
+     * Returns the arithmetic mean of elements of this stream.
+     *
+     * @return a deferred operation that yields the average, or an empty
+     * {@code OptionalDoubleex} if this stream is empty
+     */
+    public Op<OptionalDoubleex> average() {
+        DoubleStream stream = toStream();
+        return pipeline.op(() -> OptionalDoubleex.ofOptional(stream.average()));
+    }
+
+    /**
+     * Returns the first element of this stream, or an empty
+     * {@code OptionalDoubleex} if the stream is empty.
+     *
+     * @return a deferred operation that yields the first element
+     */
+    public Op<OptionalDoubleex> findFirst() {
+        DoubleStream stream = toStream();
+        return pipeline.op(() -> OptionalDoubleex.ofOptional(stream.findFirst()));
+    }
+
+    /**
+     * Returns some element of this stream, or an empty
+     * {@code OptionalDoubleex} if the stream is empty.
+     *
+     * @return a deferred operation that yields some element
+     */
+    public Op<OptionalDoubleex> findAny() {
+        DoubleStream stream = toStream();
+        return pipeline.op(() -> OptionalDoubleex.ofOptional(stream.findAny()));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the provided
+     * identity value and an associative accumulation function.
+     *
+     * @param identity the identity value for the accumulating function
+     * @param op       a function for combining two values
+     * @return a deferred operation that yields the result of the reduction
+     */
+    public Op<Double> reduce(double identity, DoubleBinaryOperator op) {
+        DoubleStream stream = toStream();
+        return pipeline.op(() -> stream.reduce(identity, op));
+    }
+
+    /**
+     * Returns an array containing the elements of this stream.
+     *
+     * @return a deferred operation that yields the array
+     */
+    public Op<double[]> toArray() {
+        DoubleStream stream = toStream();
+        return pipeline.op(stream::toArray);
+    }
+
+    /**
+     * Returns whether any elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception do not match.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> anyMatchex(DoublePredicatex predicate) {
+        DoubleStream stream = filterex(predicate).toStream();
+        return pipeline.op(() -> stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns whether all elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> allMatchex(DoublePredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        DoubleStream stream = filterex(value -> !predicate.test(value)).toStream();
+        return pipeline.op(() -> !stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns whether no elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> noneMatchex(DoublePredicatex predicate) {
+        DoubleStream stream = filterex(predicate).toStream();
+        return pipeline.op(() -> !stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns a plain {@link DoubleStream} running this pipeline. Exceptions
+     * thrown by the stages are passed to the pipeline's
+     * {@link ExceptionHandlerChain} when the returned stream is consumed.
+     *
+     * @return the underlying stream
+     */
+    public DoubleStream toStream() {
+        return pipeline.doubleStream();
+    }
+}
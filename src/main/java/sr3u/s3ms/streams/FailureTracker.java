@@ -0,0 +1,52 @@
+package sr3u.s3ms.streams;
+
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.StackTraceMode;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The failure state shared by all spliterators of a pipeline that runs with
+ * a {@link ParallelFailureMode}. Spliterators buffer collected exceptions
+ * privately and merge them here, so recording a failure never contends.
+ */
+final class FailureTracker {
+    final ParallelFailureMode mode;
+    private final ConcurrentLinkedQueue<Throwable> collected = new ConcurrentLinkedQueue<>();
+    private volatile boolean cancelled;
+
+    FailureTracker(ParallelFailureMode mode) {
+        this.mode = mode;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    void merge(List<Throwable> failures) {
+        collected.addAll(failures);
+    }
+
+    /**
+     * Called when the terminal operation has completed. Throws the collected
+     * exceptions, if there are any: the first one wrapped according to
+     * {@code stackTraceMode}, with the others added as suppressed.
+     */
+    void complete(StackTraceMode stackTraceMode) {
+        Iterator<Throwable> failures = collected.iterator();
+        if (!failures.hasNext()) {
+            return;
+        }
+        S3mRuntimeException exception = stackTraceMode.wrap(failures.next());
+        while (failures.hasNext()) {
+            exception.addSuppressed(failures.next());
+        }
+        throw exception;
+    }
+}
@@ -0,0 +1,484 @@
+package sr3u.s3ms.streams;
+
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator} that pushes every element of the source through a
+ * fused chain of stateless stages. The whole chain runs inside a single
+ * try/catch, and every exception it throws is passed to the pipeline's
+ * {@link ExceptionHandlerChain}. An element whose processing failed is
+ * dropped if a terminal handler has handled the exception.
+ *
+ * <p>Primitive sources are fed through the primitive consumer interfaces,
+ * and primitive results are handed to primitive actions, so a pipeline of
+ * primitive stages does not box.
+ *
+ * @param <T> the type of the elements produced by the last stage
+ */
+abstract class FusedSpliterator<T> implements Consumer<Object>, IntConsumer, LongConsumer, DoubleConsumer {
+    private static final int CHARACTERISTICS_MASK = Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.CONCURRENT;
+
+    final Pipeline pipeline;
+    private final Spliterator<?> source;
+    private final ExceptionHandlerChain exceptionHandlerChain;
+    private final FailureTracker failures;
+    private final Sink<?> head;
+
+    private boolean advancing;
+    private boolean emitted;
+    private ArrayDeque<Object> overflow;
+    private List<Throwable> collected;
+
+    FusedSpliterator(Pipeline pipeline, Spliterator<?> source) {
+        this.pipeline = pipeline;
+        this.source = source;
+        this.exceptionHandlerChain = pipeline.exceptionHandlerChain;
+        this.failures = pipeline.failures;
+        this.head = Stage.wrapAll(pipeline.stage, terminal());
+    }
+
+    /**
+     * Returns the sink that hands the results of the last stage to the
+     * current action.
+     */
+    abstract Sink<?> terminal();
+
+    /**
+     * Returns {@code true} if the current value has to be buffered because a
+     * one-to-many stage produced more values than {@code tryAdvance} may hand
+     * out, and marks a value as emitted otherwise.
+     */
+    final boolean overflowing() {
+        if (advancing && emitted) {
+            return true;
+        }
+        emitted = true;
+        return false;
+    }
+
+    final void buffer(Object value) {
+        if (overflow == null) {
+            overflow = new ArrayDeque<>();
+        }
+        overflow.add(value);
+    }
+
+    final boolean hasBuffered() {
+        return overflow != null && !overflow.isEmpty();
+    }
+
+    final Object pollBuffered() {
+        return overflow.poll();
+    }
+
+    @Override
+    public final void accept(Object t) {
+        try {
+            Sink.of(head).accept(t);
+        } catch (Downstream e) {
+            throw e.getCause();
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public final void accept(int value) {
+        try {
+            head.accept(value);
+        } catch (Downstream e) {
+            throw e.getCause();
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public final void accept(long value) {
+        try {
+            head.accept(value);
+        } catch (Downstream e) {
+            throw e.getCause();
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public final void accept(double value) {
+        try {
+            head.accept(value);
+        } catch (Downstream e) {
+            throw e.getCause();
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    private void fail(Exception e) {
+        if (failures == null) {
+            exceptionHandlerChain.handle(e);
+        } else if (failures.mode == ParallelFailureMode.COLLECT_ALL) {
+            if (!exceptionHandlerChain.getPolicy().tryHandle(e)) {
+                if (collected == null) {
+                    collected = new ArrayList<>();
+                }
+                collected.add(e);
+            }
+        } else {
+            try {
+                exceptionHandlerChain.handle(e);
+            } catch (RuntimeException unhandled) {
+                failures.cancel();
+                throw unhandled;
+            }
+        }
+    }
+
+    /**
+     * Hands the exceptions collected by this spliterator over to the
+     * pipeline's {@link FailureTracker}.
+     */
+    private void flushFailures() {
+        if (collected != null && !collected.isEmpty()) {
+            failures.merge(collected);
+            collected.clear();
+        }
+    }
+
+    private boolean cancelled() {
+        return failures != null && failures.isCancelled();
+    }
+
+    private boolean advanceSource() {
+        switch (pipeline.sourceShape) {
+            case INT:
+                return ((Spliterator.OfInt) source).tryAdvance((IntConsumer) this);
+            case LONG:
+                return ((Spliterator.OfLong) source).tryAdvance((LongConsumer) this);
+            case DOUBLE:
+                return ((Spliterator.OfDouble) source).tryAdvance((DoubleConsumer) this);
+            default:
+                return source.tryAdvance(this);
+        }
+    }
+
+    /**
+     * Pulls source elements until the stages emit a value or the source is
+     * exhausted.
+     */
+    final boolean advance() {
+        advancing = true;
+        emitted = false;
+        try {
+            while (!emitted) {
+                if (cancelled() || !advanceSource()) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            advancing = false;
+            flushFailures();
+        }
+    }
+
+    final void forEachSource() {
+        if (failures == null) {
+            forEachAll();
+            return;
+        }
+        try {
+            if (failures.mode == ParallelFailureMode.FAIL_FAST) {
+                while (!failures.isCancelled() && advanceSource()) {
+                    // each call pushes one source element through the stages
+                }
+            } else {
+                forEachAll();
+            }
+        } finally {
+            flushFailures();
+        }
+    }
+
+    private void forEachAll() {
+        switch (pipeline.sourceShape) {
+            case INT:
+                ((Spliterator.OfInt) source).forEachRemaining((IntConsumer) this);
+                break;
+            case LONG:
+                ((Spliterator.OfLong) source).forEachRemaining((LongConsumer) this);
+                break;
+            case DOUBLE:
+                ((Spliterator.OfDouble) source).forEachRemaining((DoubleConsumer) this);
+                break;
+            default:
+                source.forEachRemaining(this);
+        }
+    }
+
+    final Spliterator<?> splitSource() {
+        return source.trySplit();
+    }
+
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    public int characteristics() {
+        return source.characteristics() & CHARACTERISTICS_MASK;
+    }
+
+    static final class OfRef<T> extends FusedSpliterator<T> implements Spliterator<T> {
+        private Consumer<? super T> action;
+
+        OfRef(Pipeline pipeline, Spliterator<?> source) {
+            super(pipeline, source);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        Sink<?> terminal() {
+            return t -> {
+                if (overflowing()) {
+                    buffer(t);
+                    return;
+                }
+                try {
+                    action.accept((T) t);
+                } catch (RuntimeException e) {
+                    throw new Downstream(e);
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (hasBuffered()) {
+                action.accept((T) pollBuffered());
+                return true;
+            }
+            this.action = action;
+            try {
+                return advance();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (hasBuffered()) {
+                action.accept((T) pollBuffered());
+            }
+            this.action = action;
+            try {
+                forEachSource();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<?> prefix = splitSource();
+            return prefix == null ? null : new OfRef<>(pipeline, prefix);
+        }
+    }
+
+    static final class OfInt extends FusedSpliterator<Integer> implements Spliterator.OfInt {
+        private IntConsumer action;
+
+        OfInt(Pipeline pipeline, Spliterator<?> source) {
+            super(pipeline, source);
+        }
+
+        @Override
+        Sink<?> terminal() {
+            return (Sink.OfInt) value -> {
+                if (overflowing()) {
+                    buffer(value);
+                    return;
+                }
+                try {
+                    action.accept(value);
+                } catch (RuntimeException e) {
+                    throw new Downstream(e);
+                }
+            };
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (hasBuffered()) {
+                action.accept((Integer) pollBuffered());
+                return true;
+            }
+            this.action = action;
+            try {
+                return advance();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (hasBuffered()) {
+                action.accept((Integer) pollBuffered());
+            }
+            this.action = action;
+            try {
+                forEachSource();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            Spliterator<?> prefix = splitSource();
+            return prefix == null ? null : new FusedSpliterator.OfInt(pipeline, prefix);
+        }
+    }
+
+    static final class OfLong extends FusedSpliterator<Long> implements Spliterator.OfLong {
+        private LongConsumer action;
+
+        OfLong(Pipeline pipeline, Spliterator<?> source) {
+            super(pipeline, source);
+        }
+
+        @Override
+        Sink<?> terminal() {
+            return (Sink.OfLong) value -> {
+                if (overflowing()) {
+                    buffer(value);
+                    return;
+                }
+                try {
+                    action.accept(value);
+                } catch (RuntimeException e) {
+                    throw new Downstream(e);
+                }
+            };
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (hasBuffered()) {
+                action.accept((Long) pollBuffered());
+                return true;
+            }
+            this.action = action;
+            try {
+                return advance();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while (hasBuffered()) {
+                action.accept((Long) pollBuffered());
+            }
+            this.action = action;
+            try {
+                forEachSource();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            Spliterator<?> prefix = splitSource();
+            return prefix == null ? null : new FusedSpliterator.OfLong(pipeline, prefix);
+        }
+    }
+
+    static final class OfDouble extends FusedSpliterator<Double> implements Spliterator.OfDouble {
+        private DoubleConsumer action;
+
+        OfDouble(Pipeline pipeline, Spliterator<?> source) {
+            super(pipeline, source);
+        }
+
+        @Override
+        Sink<?> terminal() {
+            return (Sink.OfDouble) value -> {
+                if (overflowing()) {
+                    buffer(value);
+                    return;
+                }
+                try {
+                    action.accept(value);
+                } catch (RuntimeException e) {
+                    throw new Downstream(e);
+                }
+            };
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (hasBuffered()) {
+                action.accept((Double) pollBuffered());
+                return true;
+            }
+            this.action = action;
+            try {
+                return advance();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            while (hasBuffered()) {
+                action.accept((Double) pollBuffered());
+            }
+            this.action = action;
+            try {
+                forEachSource();
+            } finally {
+                this.action = null;
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            Spliterator<?> prefix = splitSource();
+            return prefix == null ? null : new FusedSpliterator.OfDouble(pipeline, prefix);
+        }
+    }
+
+    /**
+     * Carries an exception thrown by the consumer of this spliterator past the
+     * stage handler, so that only exceptions of the fused stages reach the
+     * {@link ExceptionHandlerChain}.
+     */
+    @SuppressWarnings("serial")
+    private static final class Downstream extends RuntimeException {
+        Downstream(RuntimeException cause) {
+            super(null, cause, false, false);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,602 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.primitive.IntToDoubleFunctionex;
+import sr3u.functionalex.primitive.IntToLongFunctionex;
+import sr3u.functionalex.primitive.integer.IntConsumerex;
+import sr3u.functionalex.primitive.integer.IntFunctionex;
+import sr3u.functionalex.primitive.integer.IntPredicatex;
+import sr3u.functionalex.primitive.integer.IntUnaryOperatorex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+import sr3u.s3ms.optionals.OptionalDoubleex;
+import sr3u.s3ms.optionals.OptionalIntex;
+
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * A checked exceptions-friendly wrapper for {@link IntStream}.
+ *
+ * <p>This is the {@code int} primitive specialization of {@link Streamex}.
+ * Stateless stages are fused the same way, and values stay unboxed while
+ * passing through them, including the conversions to {@link LongStreamex}
+ * and {@link DoubleStreamex}.
+ *
+ * @see Streamex
+ * @since 1.8.0.0
+ */
+public class IntStreamex {
+    private final Pipeline pipeline;
+
+    IntStreamex(Pipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Returns an {@code IntStreamex} wrapper of the specified {@code IntStream}.
+     *
+     * @param stream the stream to be wrapped
+     * @return an {@code IntStreamex} over the elements of {@code stream}
+     */
+    public static IntStreamex ofStream(IntStream stream) {
+        return new IntStreamex(Pipeline.of(Objects.requireNonNull(stream), Shape.INT));
+    }
+
+    /**
+     * Returns a sequential ordered {@code IntStreamex} whose elements are the
+     * specified values.
+     *
+     * @param values the elements of the new stream
+     * @return the new stream
+     */
+    public static IntStreamex of(int... values) {
+        return ofStream(IntStream.of(values));
+    }
+
+    /**
+     * Returns a sequential ordered {@code IntStreamex} from
+     * {@code startInclusive} (inclusive) to {@code endExclusive} (exclusive)
+     * by an incremental step of {@code 1}.
+     *
+     * @param startInclusive the (inclusive) initial value
+     * @param endExclusive   the exclusive upper bound
+     * @return a sequential {@code IntStreamex} for the range of {@code int}
+     * elements
+     */
+    public static IntStreamex range(int startInclusive, int endExclusive) {
+        return ofStream(IntStream.range(startInclusive, endExclusive));
+    }
+
+    /**
+     * Returns a sequential ordered {@code IntStreamex} from
+     * {@code startInclusive} (inclusive) to {@code endInclusive} (inclusive)
+     * by an incremental step of {@code 1}.
+     *
+     * @param startInclusive the (inclusive) initial value
+     * @param endInclusive   the inclusive upper bound
+     * @return a sequential {@code IntStreamex} for the range of {@code int}
+     * elements
+     */
+    public static IntStreamex rangeClosed(int startInclusive, int endInclusive) {
+        return ofStream(IntStream.rangeClosed(startInclusive, endInclusive));
+    }
+
+    /**
+     * Returns an empty sequential {@code IntStreamex}.
+     *
+     * @return an empty sequential stream
+     */
+    public static IntStreamex empty() {
+        return ofStream(IntStream.empty());
+    }
+
+    private IntStreamex then(Stage next) {
+        return new IntStreamex(pipeline.then(next));
+    }
+
+    private IntStreamex barrier(IntStream stream) {
+        return new IntStreamex(pipeline.barrier(stream, Shape.INT));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    public IntStreamex filter(IntPredicate predicate) {
+        return filterex(predicate::test);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    public IntStreamex filterex(IntPredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfInt) value -> {
+                    if (predicate.test(value)) {
+                        downstream.accept(value);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public IntStreamex map(IntUnaryOperator mapper) {
+        return mapex(mapper::applyAsInt);
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public IntStreamex mapex(IntUnaryOperatorex mapper) {
+        Objects.requireNonNull(mapper);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfInt) value -> downstream.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    /**
+     * Returns an object-valued {@code Streamex} consisting of the results of
+     * applying the given function to the elements of this stream.
+     *
+     * @param <U>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public <U> Streamex<U> mapToObj(IntFunction<? extends U> mapper) {
+        return mapToObjex(mapper::apply);
+    }
+
+    /**
+     * Returns an object-valued {@code Streamex} consisting of the results of
+     * applying the given function to the elements of this stream.
+     *
+     * @param <U>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public <U> Streamex<U> mapToObjex(IntFunctionex<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Streamex<>(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                Sink<Object> sink = Sink.of(downstream);
+                return (Sink.OfInt) value -> sink.accept(mapper.apply(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code LongStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public LongStreamex mapToLong(IntToLongFunction mapper) {
+        return mapToLongex(mapper::applyAsLong);
+    }
+
+    /**
+     * Returns a {@code LongStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public LongStreamex mapToLongex(IntToLongFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        return new LongStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfInt) value -> downstream.accept(mapper.applyAsLong(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the results of applying
+     * the given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public DoubleStreamex mapToDouble(IntToDoubleFunction mapper) {
+        return mapToDoubleex(mapper::applyAsDouble);
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the results of applying
+     * the given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public DoubleStreamex mapToDoubleex(IntToDoubleFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        return new DoubleStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfInt) value -> downstream.accept(mapper.applyAsDouble(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code LongStreamex} consisting of the elements of this stream,
+     * converted to {@code long}.
+     *
+     * @return a {@code LongStreamex} consisting of the elements of this stream,
+     * converted to {@code long}
+     */
+    public LongStreamex asLongStreamex() {
+        return new LongStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfInt) value -> downstream.accept((long) value);
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the elements of this
+     * stream, converted to {@code double}.
+     *
+     * @return a {@code DoubleStreamex} consisting of the elements of this
+     * stream, converted to {@code double}
+     */
+    public DoubleStreamex asDoubleStreamex() {
+        return new DoubleStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfInt) value -> downstream.accept((double) value);
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code Streamex} consisting of the elements of this stream,
+     * each boxed to an {@code Integer}.
+     *
+     * @return a {@code Streamex} consistent of the elements of this stream,
+     * each boxed to an {@code Integer}
+     */
+    public Streamex<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    public IntStreamex peek(IntConsumer action) {
+        return peekex(action::accept);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    public IntStreamex peekex(IntConsumerex action) {
+        Objects.requireNonNull(action);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfInt) value -> {
+                    action.accept(value);
+                    downstream.accept(value);
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return the new stream
+     */
+    public IntStreamex distinct() {
+        return barrier(toStream().distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted
+     * order.
+     *
+     * @return the new stream
+     */
+    public IntStreamex sorted() {
+        return barrier(toStream().sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated
+     * to be no longer than {@code maxSize} in length.
+     *
+     * @param maxSize the number of elements the stream should be limited to
+     * @return the new stream
+     */
+    public IntStreamex limit(long maxSize) {
+        return barrier(toStream().limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream
+     * after discarding the first {@code n} elements of the stream.
+     *
+     * @param n the number of leading elements to skip
+     * @return the new stream
+     */
+    public IntStreamex skip(long n) {
+        return barrier(toStream().skip(n));
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return a parallel stream
+     */
+    public IntStreamex parallel() {
+        return new IntStreamex(pipeline.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel and reacts to exceptions
+     * that are not handled by a terminal handler as selected by {@code mode}.
+     *
+     * @param mode how unhandled exceptions of the workers are reported
+     * @return a parallel stream
+     * @see ParallelFailureMode
+     */
+    public IntStreamex parallel(ParallelFailureMode mode) {
+        return new IntStreamex(pipeline.parallel(mode));
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return a sequential stream
+     */
+    public IntStreamex sequential() {
+        return new IntStreamex(pipeline.sequential());
+    }
+
+    /**
+     * Returns whether this stream, if a terminal operation were to be executed,
+     * would execute in parallel.
+     *
+     * @return {@code true} if this stream would execute in parallel
+     */
+    public boolean isParallel() {
+        return pipeline.isParallel();
+    }
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEach(IntConsumer action) {
+        return forEachex(action::accept);
+    }
+
+    /**
+     * Performs an action for each element of this stream. The action is fused
+     * with the preceding stateless stages.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEachex(IntConsumerex action) {
+        IntStream stream = peekex(action).toStream();
+        return pipeline.op(() -> {
+            stream.forEach(value -> {
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Returns the sum of elements in this stream.
+     *
+     * @return a deferred operation that yields the sum of elements
+     */
+    public Op<Integer> sum() {
+        IntStream stream = toStream();
+        return pipeline.op(stream::sum);
+    }
+
+    /**
+     * Returns the count of elements in this stream.
+     *
+     * @return a deferred operation that yields the count of elements
+     */
+    public Op<Long> count() {
+        IntStream stream = toStream();
+        return pipeline.op(stream::count);
+    }
+
+    /**
+     * Returns an {@code IntSummaryStatistics} describing various summary data
+     * about the elements of this stream.
+     *
+     * @return a deferred operation that yields the summary statistics
+     */
+    public Op<IntSummaryStatistics> summaryStatistics() {
+        IntStream stream = toStream();
+        return pipeline.op(stream::summaryStatistics);
+    }
+
+    /**
+     * Returns the minimum element of this stream.
+     *
+     * @return a deferred operation that yields the minimum element, or an
+     * empty {@code OptionalIntex} if this stream is empty
+     */
+    public Op<OptionalIntex> min() {
+        IntStream stream = toStream();
+        return pipeline.op(() -> OptionalIntex.ofOptional(stream.min()));
+    }
+
+    /**
+     * Returns the maximum element of this stream.
+     *
+     * @return a deferred operation that yields the maximum element, or an
+     * empty {@code OptionalIntex} if this stream is empty
+     */
+    public Op<OptionalIntex> max() {
+        IntStream stream = toStream();
+        return pipeline.op(() -> OptionalIntex.ofOptional(stream.max()));
+    }
+
+    /**
+     * Returns the arithmetic mean of elements of this stream.
+     *
+     * @return a deferred operation that yields the average, or an empty
+     * {@code OptionalDoubleex} if this stream is empty
+     */
+    public Op<OptionalDoubleex> average() {
+        IntStream stream = toStream();
+        return pipeline.op(() -> OptionalDoubleex.ofOptional(stream.average()));
+    }
+
+    /**
+     * Returns the first element of this stream, or an empty
+     * {@code OptionalIntex} if the stream is empty.
+     *
+     * @return a deferred operation that yields the first element
+     */
+    public Op<OptionalIntex> findFirst() {
+        IntStream stream = toStream();
+        return pipeline.op(() -> OptionalIntex.ofOptional(stream.findFirst()));
+    }
+
+    /**
+     * Returns some element of this stream, or an empty
+     * {@code OptionalIntex} if the stream is empty.
+     *
+     * @return a deferred operation that yields some element
+     */
+    public Op<OptionalIntex> findAny() {
+        IntStream stream = toStream();
+        return pipeline.op(() -> OptionalIntex.ofOptional(stream.findAny()));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the provided
+     * identity value and an associative accumulation function.
+     *
+     * @param identity the identity value for the accumulating function
+     * @param op       a function for combining two values
+     * @return a deferred operation that yields the result of the reduction
+     */
+    public Op<Integer> reduce(int identity, IntBinaryOperator op) {
+        IntStream stream = toStream();
+        return pipeline.op(() -> stream.reduce(identity, op));
+    }
+
+    /**
+     * Returns an array containing the elements of this stream.
+     *
+     * @return a deferred operation that yields the array
+     */
+    public Op<int[]> toArray() {
+        IntStream stream = toStream();
+        return pipeline.op(stream::toArray);
+    }
+
+    /**
+     * Returns whether any elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception do not match.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> anyMatchex(IntPredicatex predicate) {
+        IntStream stream = filterex(predicate).toStream();
+        return pipeline.op(() -> stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns whether all elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> allMatchex(IntPredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        IntStream stream = filterex(value -> !predicate.test(value)).toStream();
+        return pipeline.op(() -> !stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns whether no elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> noneMatchex(IntPredicatex predicate) {
+        IntStream stream = filterex(predicate).toStream();
+        return pipeline.op(() -> !stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns a plain {@link IntStream} running this pipeline. Exceptions
+     * thrown by the stages are passed to the pipeline's
+     * {@link ExceptionHandlerChain} when the returned stream is consumed.
+     *
+     * @return the underlying stream
+     */
+    public IntStream toStream() {
+        return pipeline.intStream();
+    }
+}
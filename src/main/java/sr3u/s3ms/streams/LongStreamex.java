@@ -0,0 +1,587 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.primitive.LongToDoubleFunctionex;
+import sr3u.functionalex.primitive.LongToIntFunctionex;
+import sr3u.functionalex.primitive.longinteger.LongConsumerex;
+import sr3u.functionalex.primitive.longinteger.LongFunctionex;
+import sr3u.functionalex.primitive.longinteger.LongPredicatex;
+import sr3u.functionalex.primitive.longinteger.LongUnaryOperatorex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+import sr3u.s3ms.optionals.OptionalDoubleex;
+import sr3u.s3ms.optionals.OptionalLongex;
+
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * A checked exceptions-friendly wrapper for {@link LongStream}.
+ *
+ * <p>This is the {@code long} primitive specialization of {@link Streamex}.
+ * Stateless stages are fused the same way, and values stay unboxed while
+ * passing through them, including the conversions to {@link IntStreamex}
+ * and {@link DoubleStreamex}.
+ *
+ * @see Streamex
+ * @since 1.8.0.0
+ */
+public class LongStreamex {
+    private final Pipeline pipeline;
+
+    LongStreamex(Pipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Returns a {@code LongStreamex} wrapper of the specified
+     * {@code LongStream}.
+     *
+     * @param stream the stream to be wrapped
+     * @return a {@code LongStreamex} over the elements of {@code stream}
+     */
+    public static LongStreamex ofStream(LongStream stream) {
+        return new LongStreamex(Pipeline.of(Objects.requireNonNull(stream), Shape.LONG));
+    }
+
+    /**
+     * Returns a sequential ordered {@code LongStreamex} whose elements are
+     * the specified values.
+     *
+     * @param values the elements of the new stream
+     * @return the new stream
+     */
+    public static LongStreamex of(long... values) {
+        return ofStream(LongStream.of(values));
+    }
+
+    /**
+     * Returns a sequential ordered {@code LongStreamex} from
+     * {@code startInclusive} (inclusive) to {@code endExclusive} (exclusive)
+     * by an incremental step of {@code 1}.
+     *
+     * @param startInclusive the (inclusive) initial value
+     * @param endExclusive   the exclusive upper bound
+     * @return a sequential {@code LongStreamex} for the range of {@code long}
+     * elements
+     */
+    public static LongStreamex range(long startInclusive, long endExclusive) {
+        return ofStream(LongStream.range(startInclusive, endExclusive));
+    }
+
+    /**
+     * Returns a sequential ordered {@code LongStreamex} from
+     * {@code startInclusive} (inclusive) to {@code endInclusive} (inclusive)
+     * by an incremental step of {@code 1}.
+     *
+     * @param startInclusive the (inclusive) initial value
+     * @param endInclusive   the inclusive upper bound
+     * @return a sequential {@code LongStreamex} for the range of {@code long}
+     * elements
+     */
+    public static LongStreamex rangeClosed(long startInclusive, long endInclusive) {
+        return ofStream(LongStream.rangeClosed(startInclusive, endInclusive));
+    }
+
+    /**
+     * Returns an empty sequential {@code LongStreamex}.
+     *
+     * @return an empty sequential stream
+     */
+    public static LongStreamex empty() {
+        return ofStream(LongStream.empty());
+    }
+
+    private LongStreamex then(Stage next) {
+        return new LongStreamex(pipeline.then(next));
+    }
+
+    private LongStreamex barrier(LongStream stream) {
+        return new LongStreamex(pipeline.barrier(stream, Shape.LONG));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    public LongStreamex filter(LongPredicate predicate) {
+        return filterex(predicate::test);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    public LongStreamex filterex(LongPredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfLong) value -> {
+                    if (predicate.test(value)) {
+                        downstream.accept(value);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public LongStreamex map(LongUnaryOperator mapper) {
+        return mapex(mapper::applyAsLong);
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public LongStreamex mapex(LongUnaryOperatorex mapper) {
+        Objects.requireNonNull(mapper);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfLong) value -> downstream.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    /**
+     * Returns an object-valued {@code Streamex} consisting of the results of
+     * applying the given function to the elements of this stream.
+     *
+     * @param <U>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public <U> Streamex<U> mapToObj(LongFunction<? extends U> mapper) {
+        return mapToObjex(mapper::apply);
+    }
+
+    /**
+     * Returns an object-valued {@code Streamex} consisting of the results of
+     * applying the given function to the elements of this stream.
+     *
+     * @param <U>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public <U> Streamex<U> mapToObjex(LongFunctionex<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Streamex<>(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                Sink<Object> sink = Sink.of(downstream);
+                return (Sink.OfLong) value -> sink.accept(mapper.apply(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns an {@code IntStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public IntStreamex mapToInt(LongToIntFunction mapper) {
+        return mapToIntex(mapper::applyAsInt);
+    }
+
+    /**
+     * Returns an {@code IntStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public IntStreamex mapToIntex(LongToIntFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        return new IntStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfLong) value -> downstream.accept(mapper.applyAsInt(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the results of applying
+     * the given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public DoubleStreamex mapToDouble(LongToDoubleFunction mapper) {
+        return mapToDoubleex(mapper::applyAsDouble);
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the results of applying
+     * the given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public DoubleStreamex mapToDoubleex(LongToDoubleFunctionex mapper) {
+        Objects.requireNonNull(mapper);
+        return new DoubleStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfLong) value -> downstream.accept(mapper.applyAsDouble(value));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the elements of this
+     * stream, converted to {@code double}.
+     *
+     * @return a {@code DoubleStreamex} consisting of the elements of this
+     * stream, converted to {@code double}
+     */
+    public DoubleStreamex asDoubleStreamex() {
+        return new DoubleStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfLong) value -> downstream.accept((double) value);
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code Streamex} consisting of the elements of this stream,
+     * each boxed to a {@code Long}.
+     *
+     * @return a {@code Streamex} consistent of the elements of this stream,
+     * each boxed to a {@code Long}
+     */
+    public Streamex<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    public LongStreamex peek(LongConsumer action) {
+        return peekex(action::accept);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    public LongStreamex peekex(LongConsumerex action) {
+        Objects.requireNonNull(action);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return (Sink.OfLong) value -> {
+                    action.accept(value);
+                    downstream.accept(value);
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return the new stream
+     */
+    public LongStreamex distinct() {
+        return barrier(toStream().distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted
+     * order.
+     *
+     * @return the new stream
+     */
+    public LongStreamex sorted() {
+        return barrier(toStream().sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated
+     * to be no longer than {@code maxSize} in length.
+     *
+     * @param maxSize the number of elements the stream should be limited to
+     * @return the new stream
+     */
+    public LongStreamex limit(long maxSize) {
+        return barrier(toStream().limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream
+     * after discarding the first {@code n} elements of the stream.
+     *
+     * @param n the number of leading elements to skip
+     * @return the new stream
+     */
+    public LongStreamex skip(long n) {
+        return barrier(toStream().skip(n));
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return a parallel stream
+     */
+    public LongStreamex parallel() {
+        return new LongStreamex(pipeline.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel and reacts to exceptions
+     * that are not handled by a terminal handler as selected by {@code mode}.
+     *
+     * @param mode how unhandled exceptions of the workers are reported
+     * @return a parallel stream
+     * @see ParallelFailureMode
+     */
+    public LongStreamex parallel(ParallelFailureMode mode) {
+        return new LongStreamex(pipeline.parallel(mode));
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return a sequential stream
+     */
+    public LongStreamex sequential() {
+        return new LongStreamex(pipeline.sequential());
+    }
+
+    /**
+     * Returns whether this stream, if a terminal operation were to be executed,
+     * would execute in parallel.
+     *
+     * @return {@code true} if this stream would execute in parallel
+     */
+    public boolean isParallel() {
+        return pipeline.isParallel();
+    }
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEach(LongConsumer action) {
+        return forEachex(action::accept);
+    }
+
+    /**
+     * Performs an action for each element of this stream. The action is fused
+     * with the preceding stateless stages.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEachex(LongConsumerex action) {
+        LongStream stream = peekex(action).toStream();
+        return pipeline.op(() -> {
+            stream.forEach(value -> {
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Returns the sum of elements in this stream.
+     *
+     * @return a deferred operation that yields the sum of elements
+     */
+    public Op<Long> sum() {
+        LongStream stream = toStream();
+        return pipeline.op(stream::sum);
+    }
+
+    /**
+     * Returns the count of elements in this stream.
+     *
+     * @return a deferred operation that yields the count of elements
+     */
+    public Op<Long> count() {
+        LongStream stream = toStream();
+        return pipeline.op(stream::count);
+    }
+
+    /**
+     * Returns a {@code LongSummaryStatistics} describing various summary data
+     * about the elements of this stream.
+     *
+     * @return a deferred operation that yields the summary statistics
+     */
+    public Op<LongSummaryStatistics> summaryStatistics() {
+        LongStream stream = toStream();
+        return pipeline.op(stream::summaryStatistics);
+    }
+
+    /**
+     * Returns the minimum element of this stream.
+     *
+     * @return a deferred operation that yields the minimum element, or an
+     * empty {@code OptionalLongex} if this stream is empty
+     */
+    public Op<OptionalLongex> min() {
+        LongStream stream = toStream();
+        return pipeline.op(() -> OptionalLongex.ofOptional(stream.min()));
+    }
+
+    /**
+     * Returns the maximum element of this stream.
+     *
+     * @return a deferred operation that yields the maximum element, or an
+     * empty {@code OptionalLongex} if this stream is empty
+     */
+    public Op<OptionalLongex> max() {
+        LongStream stream = toStream();
+        return pipeline.op(() -> OptionalLongex.ofOptional(stream.max()));
+    }
+
+    /**
+     * Returns the arithmetic mean of elements of this stream.
+     *
+     * @return a deferred operation that yields the average, or an empty
+     * {@code OptionalDoubleex} if this stream is empty
+     */
+    public Op<OptionalDoubleex> average() {
+        LongStream stream = toStream();
+        return pipeline.op(() -> OptionalDoubleex.ofOptional(stream.average()));
+    }
+
+    /**
+     * Returns the first element of this stream, or an empty
+     * {@code OptionalLongex} if the stream is empty.
+     *
+     * @return a deferred operation that yields the first element
+     */
+    public Op<OptionalLongex> findFirst() {
+        LongStream stream = toStream();
+        return pipeline.op(() -> OptionalLongex.ofOptional(stream.findFirst()));
+    }
+
+    /**
+     * Returns some element of this stream, or an empty
+     * {@code OptionalLongex} if the stream is empty.
+     *
+     * @return a deferred operation that yields some element
+     */
+    public Op<OptionalLongex> findAny() {
+        LongStream stream = toStream();
+        return pipeline.op(() -> OptionalLongex.ofOptional(stream.findAny()));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the provided
+     * identity value and an associative accumulation function.
+     *
+     * @param identity the identity value for the accumulating function
+     * @param op       a function for combining two values
+     * @return a deferred operation that yields the result of the reduction
+     */
+    public Op<Long> reduce(long identity, LongBinaryOperator op) {
+        LongStream stream = toStream();
+        return pipeline.op(() -> stream.reduce(identity, op));
+    }
+
+    /**
+     * Returns an array containing the elements of this stream.
+     *
+     * @return a deferred operation that yields the array
+     */
+    public Op<long[]> toArray() {
+        LongStream stream = toStream();
+        return pipeline.op(stream::toArray);
+    }
+
+    /**
+     * Returns whether any elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception do not match.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> anyMatchex(LongPredicatex predicate) {
+        LongStream stream = filterex(predicate).toStream();
+        return pipeline.op(() -> stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns whether all elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> allMatchex(LongPredicatex predicate) {
+        Objects.requireNonNull(predicate);
+        LongStream stream = filterex(value -> !predicate.test(value)).toStream();
+        return pipeline.op(() -> !stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns whether no elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> noneMatchex(LongPredicatex predicate) {
+        LongStream stream = filterex(predicate).toStream();
+        return pipeline.op(() -> !stream.findAny().isPresent());
+    }
+
+    /**
+     * Returns a plain {@link LongStream} running this pipeline. Exceptions
+     * thrown by the stages are passed to the pipeline's
+     * {@link ExceptionHandlerChain} when the returned stream is consumed.
+     *
+     * @return the underlying stream
+     */
+    public LongStream toStream() {
+        return pipeline.longStream();
+    }
+}
@@ -0,0 +1,25 @@
+package sr3u.s3ms.streams;
+
+/**
+ * Selects how a stream pipeline reacts to exceptions that no terminal handler
+ * of its {@link sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain}
+ * handles, which matters most when the pipeline runs in parallel.
+ *
+ * @since 1.8.0.0
+ */
+public enum ParallelFailureMode {
+    /**
+     * The first unhandled exception is rethrown, and all workers of the
+     * pipeline stop pulling elements from the source as soon as they notice
+     * it.
+     */
+    FAIL_FAST,
+    /**
+     * Unhandled exceptions do not stop the pipeline. Each worker collects
+     * them in a buffer of its own, and when the terminal operation completes
+     * they are rethrown together as one
+     * {@link sr3u.s3ms.S3mRuntimeException} whose cause is the first
+     * collected exception, with the remaining ones suppressed.
+     */
+    COLLECT_ALL
+}
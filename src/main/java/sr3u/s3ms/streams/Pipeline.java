@@ -0,0 +1,119 @@
+package sr3u.s3ms.streams;
+
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The state shared by all stream wrappers: the JDK stream up to the last
+ * stateful stage, the stateless stages fused after it and the
+ * {@link ExceptionHandlerChain} of the whole pipeline.
+ *
+ * <p>If there are no fused stages, the source produces values of the shape
+ * of the wrapper itself.
+ */
+final class Pipeline {
+    final BaseStream<?, ?> source;
+    final Shape sourceShape;
+    final Stage stage;
+    final ExceptionHandlerChain exceptionHandlerChain;
+    /**
+     * The failure state of a pipeline with a {@link ParallelFailureMode}, or
+     * {@code null} if unhandled exceptions are rethrown as they occur.
+     */
+    final FailureTracker failures;
+
+    Pipeline(BaseStream<?, ?> source, Shape sourceShape, Stage stage, ExceptionHandlerChain exceptionHandlerChain,
+             FailureTracker failures) {
+        this.source = source;
+        this.sourceShape = sourceShape;
+        this.stage = stage;
+        this.exceptionHandlerChain = exceptionHandlerChain;
+        this.failures = failures;
+    }
+
+    static Pipeline of(BaseStream<?, ?> source, Shape sourceShape) {
+        return new Pipeline(source, sourceShape, null, new ExceptionHandlerChain(), null);
+    }
+
+    Pipeline then(Stage next) {
+        return new Pipeline(source, sourceShape, next, exceptionHandlerChain, failures);
+    }
+
+    Pipeline barrier(BaseStream<?, ?> stream, Shape shape) {
+        return new Pipeline(stream, shape, null, exceptionHandlerChain, failures);
+    }
+
+    Pipeline parallel() {
+        return new Pipeline(source.parallel(), sourceShape, stage, exceptionHandlerChain, failures);
+    }
+
+    Pipeline parallel(ParallelFailureMode mode) {
+        return new Pipeline(source.parallel(), sourceShape, stage, exceptionHandlerChain,
+                new FailureTracker(Objects.requireNonNull(mode)));
+    }
+
+    Pipeline sequential() {
+        return new Pipeline(source.sequential(), sourceShape, stage, exceptionHandlerChain, failures);
+    }
+
+    /**
+     * Returns the deferred terminal operation that runs {@code terminal},
+     * which consumes a stream of this pipeline.
+     */
+    <R> Op<R> op(Supplier<R> terminal) {
+        if (failures == null) {
+            return new Op<>(terminal, exceptionHandlerChain);
+        }
+        return new Op<>(() -> {
+            R result = terminal.get();
+            failures.complete(exceptionHandlerChain.getStackTraceMode());
+            return result;
+        }, exceptionHandlerChain);
+    }
+
+    boolean isParallel() {
+        return source.isParallel();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Stream<T> stream() {
+        if (stage == null) {
+            return (Stream<T>) source;
+        }
+        return StreamSupport.stream(new FusedSpliterator.OfRef<T>(this, source.spliterator()), isParallel())
+                .onClose(source::close);
+    }
+
+    IntStream intStream() {
+        if (stage == null) {
+            return (IntStream) source;
+        }
+        return StreamSupport.intStream(new FusedSpliterator.OfInt(this, source.spliterator()), isParallel())
+                .onClose(source::close);
+    }
+
+    LongStream longStream() {
+        if (stage == null) {
+            return (LongStream) source;
+        }
+        return StreamSupport.longStream(new FusedSpliterator.OfLong(this, source.spliterator()), isParallel())
+                .onClose(source::close);
+    }
+
+    DoubleStream doubleStream() {
+        if (stage == null) {
+            return (DoubleStream) source;
+        }
+        return StreamSupport.doubleStream(new FusedSpliterator.OfDouble(this, source.spliterator()), isParallel())
+                .onClose(source::close);
+    }
+}
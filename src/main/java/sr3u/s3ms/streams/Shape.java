@@ -0,0 +1,11 @@
+package sr3u.s3ms.streams;
+
+/**
+ * The kind of values a pipeline stage produces.
+ */
+enum Shape {
+    REFERENCE,
+    INT,
+    LONG,
+    DOUBLE
+}
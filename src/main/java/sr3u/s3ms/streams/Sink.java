@@ -0,0 +1,67 @@
+package sr3u.s3ms.streams;
+
+/**
+ * A push-based receiver of pipeline elements.
+ *
+ * <p>Consecutive stateless stages of a {@link Streamex} are wrapped into a
+ * single chain of sinks, so every element travels through all of them within
+ * one call made by the source, under one exception handler. A stage calls the
+ * {@code accept} overload matching the shape of the values it produces, so
+ * primitive values pass through primitive stages without boxing.
+ *
+ * @param <T> the type of the accepted elements
+ */
+@FunctionalInterface
+interface Sink<T> {
+    void accept(T t) throws Exception;
+
+    default void accept(int value) throws Exception {
+        throw new IllegalStateException("Sink does not accept int values");
+    }
+
+    default void accept(long value) throws Exception {
+        throw new IllegalStateException("Sink does not accept long values");
+    }
+
+    default void accept(double value) throws Exception {
+        throw new IllegalStateException("Sink does not accept double values");
+    }
+
+    @SuppressWarnings("unchecked")
+    static Sink<Object> of(Sink<?> sink) {
+        return (Sink<Object>) sink;
+    }
+
+    @FunctionalInterface
+    interface OfInt extends Sink<Integer> {
+        @Override
+        void accept(int value) throws Exception;
+
+        @Override
+        default void accept(Integer value) throws Exception {
+            accept(value.intValue());
+        }
+    }
+
+    @FunctionalInterface
+    interface OfLong extends Sink<Long> {
+        @Override
+        void accept(long value) throws Exception;
+
+        @Override
+        default void accept(Long value) throws Exception {
+            accept(value.longValue());
+        }
+    }
+
+    @FunctionalInterface
+    interface OfDouble extends Sink<Double> {
+        @Override
+        void accept(double value) throws Exception;
+
+        @Override
+        default void accept(Double value) throws Exception {
+            accept(value.doubleValue());
+        }
+    }
+}
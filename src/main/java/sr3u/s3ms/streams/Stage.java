@@ -0,0 +1,28 @@
+package sr3u.s3ms.streams;
+
+/**
+ * A stateless pipeline stage. Stages form a singly-linked list from the last
+ * one back to the source and are turned into one {@link Sink} chain only when
+ * the pipeline is evaluated.
+ */
+abstract class Stage {
+    final Stage upstream;
+
+    Stage(Stage upstream) {
+        this.upstream = upstream;
+    }
+
+    /**
+     * Returns a sink that performs this stage and passes the results to
+     * {@code downstream}.
+     */
+    abstract Sink<?> wrap(Sink<?> downstream);
+
+    static Sink<?> wrapAll(Stage last, Sink<?> terminal) {
+        Sink<?> sink = terminal;
+        for (Stage stage = last; stage != null; stage = stage.upstream) {
+            sink = stage.wrap(sink);
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,776 @@
+package sr3u.s3ms.streams;
+
+import sr3u.functionalex.Consumerex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Predicatex;
+import sr3u.functionalex.primitive.doublefloat.ToDoubleFunctionex;
+import sr3u.functionalex.primitive.integer.ToIntFunctionex;
+import sr3u.functionalex.primitive.longinteger.ToLongFunctionex;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+import sr3u.s3ms.optionals.Optionalex;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A checked exceptions-friendly wrapper for {@link Stream}.
+ *
+ * <p>Stateless stages ({@code map}, {@code filter}, {@code peek},
+ * {@code flatMap} and their {@code *ex} counterparts) are not handed to the
+ * underlying {@code Stream} one by one. Consecutive stateless stages are fused
+ * into a single chain of sinks that each element passes through within one
+ * call, guarded by one try/catch. Stateful stages ({@code distinct},
+ * {@code sorted}, {@code limit}, {@code skip}) and terminal operations
+ * delegate to the underlying {@code Stream}.
+ *
+ * <p>All stages of a pipeline share one {@link ExceptionHandlerChain}.
+ * Terminal operations return an {@link Op}, so handlers are registered once
+ * per pipeline, e.g.
+ *
+ * <pre>{@code
+ *     List<Record> records = Streamex.ofCollection(lines)
+ *             .mapex(Record::parse)
+ *             .filterex(Record::isValid)
+ *             .toList()
+ *             .print()
+ *             .terminate();
+ * }</pre>
+ * <p>
+ * If a stage throws and a terminal handler handles the exception, the element
+ * is dropped from the pipeline. Otherwise the exception is rethrown as
+ * {@link sr3u.s3ms.S3mRuntimeException}.
+ *
+ * @param <T> the type of the stream elements
+ * @since 1.8.0.0
+ */
+public class Streamex<T> {
+    private final Pipeline pipeline;
+
+    Streamex(Pipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Returns a {@code Streamex} wrapper of the specified {@code Stream}.
+     *
+     * @param <T>    the type of stream elements
+     * @param stream the stream to be wrapped
+     * @return a {@code Streamex} over the elements of {@code stream}
+     */
+    public static <T> Streamex<T> ofStream(Stream<T> stream) {
+        return new Streamex<>(Pipeline.of(Objects.requireNonNull(stream), Shape.REFERENCE));
+    }
+
+    /**
+     * Returns a sequential {@code Streamex} over the elements of the specified
+     * collection.
+     *
+     * @param <T>        the type of stream elements
+     * @param collection the collection to be streamed
+     * @return a {@code Streamex} over the elements of {@code collection}
+     */
+    public static <T> Streamex<T> ofCollection(Collection<T> collection) {
+        return ofStream(collection.stream());
+    }
+
+    /**
+     * Returns a sequential ordered {@code Streamex} whose elements are the
+     * specified values.
+     *
+     * @param <T>    the type of stream elements
+     * @param values the elements of the new stream
+     * @return the new stream
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Streamex<T> of(T... values) {
+        return ofStream(Arrays.stream(values));
+    }
+
+    /**
+     * Returns an empty sequential {@code Streamex}.
+     *
+     * @param <T> the type of stream elements
+     * @return an empty sequential stream
+     */
+    public static <T> Streamex<T> empty() {
+        return ofStream(Stream.empty());
+    }
+
+    private <R> Streamex<R> then(Stage next) {
+        return new Streamex<>(pipeline.then(next));
+    }
+
+    private <R> Streamex<R> barrier(Stream<R> stream) {
+        return new Streamex<>(pipeline.barrier(stream, Shape.REFERENCE));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    public Streamex<T> filter(Predicate<? super T> predicate) {
+        return filterex(predicate::test);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream that match
+     * the given predicate.
+     *
+     * @param predicate a predicate to apply to each element to determine if it
+     *                  should be included
+     * @return the new stream
+     */
+    @SuppressWarnings("unchecked")
+    public Streamex<T> filterex(Predicatex<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> sink) {
+                Sink<Object> downstream = Sink.of(sink);
+                return t -> {
+                    if (predicate.test((T) t)) {
+                        downstream.accept(t);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param <R>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public <R> Streamex<R> map(Function<? super T, ? extends R> mapper) {
+        return mapex(mapper::apply);
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * function to the elements of this stream.
+     *
+     * @param <R>    the element type of the new stream
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Streamex<R> mapex(Functionex<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> sink) {
+                Sink<Object> downstream = Sink.of(sink);
+                return t -> downstream.accept(mapper.apply((T) t));
+            }
+        });
+    }
+
+    /**
+     * Returns an {@code IntStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public IntStreamex mapToInt(ToIntFunction<? super T> mapper) {
+        return mapToIntex(mapper::applyAsInt);
+    }
+
+    /**
+     * Returns an {@code IntStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    @SuppressWarnings("unchecked")
+    public IntStreamex mapToIntex(ToIntFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return new IntStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return t -> downstream.accept(mapper.applyAsInt((T) t));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code LongStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public LongStreamex mapToLong(ToLongFunction<? super T> mapper) {
+        return mapToLongex(mapper::applyAsLong);
+    }
+
+    /**
+     * Returns a {@code LongStreamex} consisting of the results of applying the
+     * given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    @SuppressWarnings("unchecked")
+    public LongStreamex mapToLongex(ToLongFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LongStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return t -> downstream.accept(mapper.applyAsLong((T) t));
+            }
+        }));
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the results of applying
+     * the given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    public DoubleStreamex mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return mapToDoubleex(mapper::applyAsDouble);
+    }
+
+    /**
+     * Returns a {@code DoubleStreamex} consisting of the results of applying
+     * the given function to the elements of this stream.
+     *
+     * @param mapper a function to apply to each element
+     * @return the new stream
+     */
+    @SuppressWarnings("unchecked")
+    public DoubleStreamex mapToDoubleex(ToDoubleFunctionex<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        return new DoubleStreamex(pipeline.then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> downstream) {
+                return t -> downstream.accept(mapper.applyAsDouble((T) t));
+            }
+        }));
+    }
+
+    /**
+     * Returns a stream consisting of the results of replacing each element of
+     * this stream with the contents of a mapped stream produced by applying
+     * the provided mapping function to each element. Each mapped stream is
+     * closed after its contents have been placed into this stream.
+     *
+     * @param <R>    the element type of the new stream
+     * @param mapper a function to apply to each element which produces a
+     *               stream of new values
+     * @return the new stream
+     */
+    public <R> Streamex<R> flatMap(Function<? super T, ? extends Stream<? extends R>> mapper) {
+        return flatMapex(mapper::apply);
+    }
+
+    /**
+     * Returns a stream consisting of the results of replacing each element of
+     * this stream with the contents of a mapped stream produced by applying
+     * the provided mapping function to each element. Each mapped stream is
+     * closed after its contents have been placed into this stream.
+     *
+     * @param <R>    the element type of the new stream
+     * @param mapper a function to apply to each element which produces a
+     *               stream of new values
+     * @return the new stream
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Streamex<R> flatMapex(Functionex<? super T, ? extends Stream<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> sink) {
+                Sink<Object> downstream = Sink.of(sink);
+                return t -> {
+                    try (Stream<? extends R> result = mapper.apply((T) t)) {
+                        if (result != null) {
+                            Iterator<? extends R> iterator = result.iterator();
+                            while (iterator.hasNext()) {
+                                downstream.accept(iterator.next());
+                            }
+                        }
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    public Streamex<T> peek(Consumer<? super T> action) {
+        return peekex(action::accept);
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, additionally
+     * performing the provided action on each element as elements are consumed
+     * from the resulting stream.
+     *
+     * @param action an action to perform on the elements as they are consumed
+     *               from the stream
+     * @return the new stream
+     */
+    @SuppressWarnings("unchecked")
+    public Streamex<T> peekex(Consumerex<? super T> action) {
+        Objects.requireNonNull(action);
+        return then(new Stage(pipeline.stage) {
+            @Override
+            Sink<?> wrap(Sink<?> sink) {
+                Sink<Object> downstream = Sink.of(sink);
+                return t -> {
+                    action.accept((T) t);
+                    downstream.accept(t);
+                };
+            }
+        });
+    }
+
+    /**
+     * A shortcut for {@code filter(Objects::nonNull)}
+     */
+    public Streamex<T> nonNull() {
+        return filter(Objects::nonNull);
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream.
+     *
+     * @return the new stream
+     */
+    public Streamex<T> distinct() {
+        return barrier(toStream().distinct());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, sorted
+     * according to natural order.
+     *
+     * @return the new stream
+     */
+    public Streamex<T> sorted() {
+        return barrier(toStream().sorted());
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, sorted
+     * according to the provided {@code Comparator}.
+     *
+     * @param comparator a {@code Comparator} to be used to compare stream
+     *                   elements
+     * @return the new stream
+     */
+    public Streamex<T> sorted(Comparator<? super T> comparator) {
+        return barrier(toStream().sorted(comparator));
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * blocking function to the elements of this stream, with up to
+     * {@code maxConcurrency} calls running at the same time. Each call runs on
+     * a virtual thread if the JVM supports them, and on a bounded pool of
+     * platform threads otherwise. The results keep the order of the elements.
+     *
+     * <p>Elements are read ahead of the consumer by at most
+     * {@code maxConcurrency}. An element whose call threw an exception that a
+     * terminal handler handled is dropped.
+     *
+     * @param <R>            the element type of the new stream
+     * @param maxConcurrency the maximal number of calls in flight
+     * @param mapper         a blocking function to apply to each element
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxConcurrency} is less than 1
+     */
+    public <R> Streamex<R> mapAsyncex(int maxConcurrency, Functionex<? super T, ? extends R> mapper) {
+        return mapAsyncex(maxConcurrency, mapper, null);
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given
+     * blocking function to the elements of this stream on {@code executor},
+     * with up to {@code maxConcurrency} calls running at the same time. The
+     * results keep the order of the elements.
+     *
+     * @param <R>            the element type of the new stream
+     * @param maxConcurrency the maximal number of calls in flight
+     * @param mapper         a blocking function to apply to each element
+     * @param executor       the executor that runs the calls, or {@code null}
+     *                       to use virtual threads or a bounded platform pool
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxConcurrency} is less than 1
+     * @see #mapAsyncex(int, Functionex)
+     */
+    public <R> Streamex<R> mapAsyncex(int maxConcurrency, Functionex<? super T, ? extends R> mapper, Executor executor) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        Objects.requireNonNull(mapper);
+        Stream<T> upstream = toStream();
+        AsyncMapSpliterator<T, R> spliterator = new AsyncMapSpliterator<>(upstream.spliterator(), maxConcurrency,
+                mapper, pipeline.exceptionHandlerChain, executor);
+        return barrier(StreamSupport.stream(spliterator, false)
+                .onClose(spliterator::cancel)
+                .onClose(upstream::close));
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given bulk
+     * function to the elements of this stream in batches of at most
+     * {@code maxBatchSize} elements. The function is called once per batch
+     * and must return one result per element, in the order of the batch.
+     *
+     * <p>An exception thrown by the function is passed to the exception
+     * handlers once for the whole batch; if a terminal handler handled it,
+     * every element of the batch is dropped.
+     *
+     * <p>Batches are formed and mapped one at a time, in encounter order. If
+     * this stream is parallel, the stream returned stays parallel: its
+     * later stages run in parallel on the mapped results.
+     *
+     * @param <R>          the element type of the new stream
+     * @param maxBatchSize the maximal number of elements per call
+     * @param mapper       a function to apply to each batch
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxBatchSize} is less than 1
+     */
+    public <R> Streamex<R> mapBatchex(int maxBatchSize, Functionex<? super List<T>, ? extends List<? extends R>> mapper) {
+        return mapBatchex(maxBatchSize, null, mapper);
+    }
+
+    /**
+     * Returns a stream consisting of the results of applying the given bulk
+     * function to the elements of this stream in batches of at most
+     * {@code maxBatchSize} elements. A batch is also closed when an element
+     * arrives {@code maxLinger} or later after the first element of the
+     * batch, so a slow source does not hold back its results indefinitely.
+     *
+     * @param <R>          the element type of the new stream
+     * @param maxBatchSize the maximal number of elements per call
+     * @param maxLinger    the time after which a batch is closed, or
+     *                     {@code null} for no limit
+     * @param mapper       a function to apply to each batch
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxBatchSize} is less than 1
+     *                                  or {@code maxLinger} is negative
+     * @see #mapBatchex(int, Functionex)
+     */
+    public <R> Streamex<R> mapBatchex(int maxBatchSize, Duration maxLinger,
+                                      Functionex<? super List<T>, ? extends List<? extends R>> mapper) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (maxLinger != null && maxLinger.isNegative()) {
+            throw new IllegalArgumentException("maxLinger must not be negative: " + maxLinger);
+        }
+        Objects.requireNonNull(mapper);
+        long lingerNanos = maxLinger == null ? Long.MAX_VALUE : BatchingConsumer.toNanos(maxLinger);
+        Stream<T> upstream = toStream();
+        BatchSpliterator<T, R> spliterator = new BatchSpliterator<>(upstream.spliterator(), maxBatchSize,
+                lingerNanos, mapper, pipeline.exceptionHandlerChain);
+        return barrier(StreamSupport.stream(spliterator, upstream.isParallel()).onClose(upstream::close));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream, truncated
+     * to be no longer than {@code maxSize} in length.
+     *
+     * @param maxSize the number of elements the stream should be limited to
+     * @return the new stream
+     */
+    public Streamex<T> limit(long maxSize) {
+        return barrier(toStream().limit(maxSize));
+    }
+
+    /**
+     * Returns a stream consisting of the remaining elements of this stream
+     * after discarding the first {@code n} elements of the stream.
+     *
+     * @param n the number of leading elements to skip
+     * @return the new stream
+     */
+    public Streamex<T> skip(long n) {
+        return barrier(toStream().skip(n));
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel.
+     *
+     * @return a parallel stream
+     */
+    public Streamex<T> parallel() {
+        return new Streamex<>(pipeline.parallel());
+    }
+
+    /**
+     * Returns an equivalent stream that is parallel and reacts to exceptions
+     * that are not handled by a terminal handler as selected by {@code mode}.
+     *
+     * @param mode how unhandled exceptions of the workers are reported
+     * @return a parallel stream
+     * @see ParallelFailureMode
+     */
+    public Streamex<T> parallel(ParallelFailureMode mode) {
+        return new Streamex<>(pipeline.parallel(mode));
+    }
+
+    /**
+     * Returns an equivalent stream that is sequential.
+     *
+     * @return a sequential stream
+     */
+    public Streamex<T> sequential() {
+        return new Streamex<>(pipeline.sequential());
+    }
+
+    /**
+     * Returns whether this stream, if a terminal operation were to be executed,
+     * would execute in parallel.
+     *
+     * @return {@code true} if this stream would execute in parallel
+     */
+    public boolean isParallel() {
+        return pipeline.isParallel();
+    }
+
+    /**
+     * Performs an action for each element of this stream.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEach(Consumer<? super T> action) {
+        return forEachex(action::accept);
+    }
+
+    /**
+     * Performs an action for each element of this stream. The action is fused
+     * with the preceding stateless stages. If the action is a
+     * {@link BatchingConsumer}, its last, partial batch is handed over when
+     * the stream is exhausted, and an exception of that batch is passed to
+     * this stream's exception handlers.
+     *
+     * @param action an action to perform on the elements
+     * @return a deferred operation that runs the pipeline
+     */
+    public Op<Void> forEachex(Consumerex<? super T> action) {
+        Stream<T> stream = peekex(action).toStream();
+        BatchingConsumer<?> batching = action instanceof BatchingConsumer ? (BatchingConsumer<?>) action : null;
+        return pipeline.op(() -> {
+            stream.forEach(t -> {
+            });
+            if (batching != null) {
+                batching.flush(pipeline.exceptionHandlerChain);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Performs a mutable reduction operation on the elements of this stream
+     * using a {@code Collector}.
+     *
+     * @param <R>       the type of the result
+     * @param <A>       the intermediate accumulation type of the {@code Collector}
+     * @param collector the {@code Collector} describing the reduction
+     * @return a deferred operation that yields the result of the reduction
+     */
+    public <R, A> Op<R> collect(Collector<? super T, A, R> collector) {
+        Stream<T> stream = toStream();
+        return pipeline.op(() -> stream.collect(collector));
+    }
+
+    /**
+     * Performs a mutable reduction operation on the elements of this stream
+     * using a {@code Collectorex}. Exceptions thrown by the collector's
+     * functions are passed to this stream's exception handlers; an element
+     * whose accumulation failed with a handled exception is skipped.
+     *
+     * @param <R>       the type of the result
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param collector the {@code Collectorex} describing the reduction
+     * @return a deferred operation that yields the result of the reduction
+     * @see Collectorsex
+     */
+    public <R, A> Op<R> collectex(Collectorex<? super T, A, R> collector) {
+        return collect(collector.toCollector(pipeline.exceptionHandlerChain));
+    }
+
+    /**
+     * A shortcut for {@code collect(Collectors.toList())}
+     */
+    public Op<List<T>> toList() {
+        return collect(Collectors.toList());
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using the provided
+     * identity value and an associative accumulation function.
+     *
+     * @param identity    the identity value for the accumulating function
+     * @param accumulator a function for combining two values
+     * @return a deferred operation that yields the result of the reduction
+     */
+    public Op<T> reduce(T identity, BinaryOperator<T> accumulator) {
+        Stream<T> stream = toStream();
+        return pipeline.op(() -> stream.reduce(identity, accumulator));
+    }
+
+    /**
+     * Performs a reduction on the elements of this stream, using an
+     * associative accumulation function.
+     *
+     * @param accumulator a function for combining two values
+     * @return a deferred operation that yields an {@code Optionalex} describing
+     * the result of the reduction
+     */
+    public Op<Optionalex<T>> reduce(BinaryOperator<T> accumulator) {
+        Stream<T> stream = toStream();
+        return pipeline.op(() -> toOptionalex(stream.reduce(accumulator)));
+    }
+
+    /**
+     * Returns the minimum element of this stream according to the provided
+     * {@code Comparator}.
+     *
+     * @param comparator a {@code Comparator} to compare elements of this stream
+     * @return a deferred operation that yields the minimum element
+     */
+    public Op<Optionalex<T>> min(Comparator<? super T> comparator) {
+        return reduce(BinaryOperator.minBy(comparator));
+    }
+
+    /**
+     * Returns the maximum element of this stream according to the provided
+     * {@code Comparator}.
+     *
+     * @param comparator a {@code Comparator} to compare elements of this stream
+     * @return a deferred operation that yields the maximum element
+     */
+    public Op<Optionalex<T>> max(Comparator<? super T> comparator) {
+        return reduce(BinaryOperator.maxBy(comparator));
+    }
+
+    /**
+     * Returns the count of elements in this stream.
+     *
+     * @return a deferred operation that yields the count of elements
+     */
+    public Op<Long> count() {
+        Stream<T> stream = toStream();
+        return pipeline.op(stream::count);
+    }
+
+    /**
+     * Returns the first element of this stream, or an empty
+     * {@code Optionalex} if the stream is empty.
+     *
+     * @return a deferred operation that yields the first element
+     */
+    public Op<Optionalex<T>> findFirst() {
+        Stream<T> stream = toStream();
+        return pipeline.op(() -> toOptionalex(stream.findFirst()));
+    }
+
+    /**
+     * Returns some element of this stream, or an empty {@code Optionalex} if
+     * the stream is empty.
+     *
+     * @return a deferred operation that yields some element
+     */
+    public Op<Optionalex<T>> findAny() {
+        Stream<T> stream = toStream();
+        return pipeline.op(() -> toOptionalex(stream.findAny()));
+    }
+
+    /**
+     * Returns whether any elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception do not match.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> anyMatchex(Predicatex<? super T> predicate) {
+        Stream<T> stream = filterex(predicate).toStream();
+        return pipeline.op(() -> stream.anyMatch(t -> true));
+    }
+
+    /**
+     * Returns whether all elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> allMatchex(Predicatex<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        Stream<T> stream = filterex(t -> !predicate.test(t)).toStream();
+        return pipeline.op(() -> stream.noneMatch(t -> true));
+    }
+
+    /**
+     * Returns whether no elements of this stream match the provided
+     * predicate. Elements for which the predicate fails with a handled
+     * exception are not taken into account.
+     *
+     * @param predicate a predicate to apply to elements of this stream
+     * @return a deferred operation that yields the result of the match
+     */
+    public Op<Boolean> noneMatchex(Predicatex<? super T> predicate) {
+        Stream<T> stream = filterex(predicate).toStream();
+        return pipeline.op(() -> stream.noneMatch(t -> true));
+    }
+
+    /**
+     * Returns a plain {@link Stream} running this pipeline. Exceptions thrown
+     * by the stages are passed to the pipeline's {@link ExceptionHandlerChain}
+     * when the returned stream is consumed.
+     *
+     * @return the underlying stream
+     */
+    public Stream<T> toStream() {
+        return pipeline.stream();
+    }
+
+    private static <T> Optionalex<T> toOptionalex(Optional<T> optional) {
+        return optional.isPresent() ? Optionalex.of(optional.get()) : Optionalex.empty();
+    }
+}
@@ -0,0 +1,34 @@
+package sr3u.s3ms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An exception passed to an {@code ExceptionHandlerChain} or
+ * {@code ExceptionPolicy}. The default threshold keeps only handling that
+ * took at least 10 microseconds; record every exception with
+ * {@code s3ms.ExceptionHandled#threshold=0 ms}.
+ */
+@Name("s3ms.ExceptionHandled")
+@Label("Exception Handled")
+@Category("s3ms")
+@Description("An exception was offered to the handlers of an exception policy")
+@Threshold("10 us")
+@StackTrace(true)
+class ExceptionHandledEvent extends Event {
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Handler")
+    @Description("The class of the terminal handler that handled the exception")
+    String handler;
+
+    @Label("Handled")
+    @Description("Whether a terminal handler handled the exception; otherwise it was rethrown")
+    boolean handled;
+}
@@ -0,0 +1,57 @@
+package sr3u.s3ms.jfr;
+
+/**
+ * Emits Java Flight Recorder events for exception handling and {@code Op}
+ * evaluation: {@link ExceptionHandledEvent s3ms.ExceptionHandled} and
+ * {@link OpTerminatedEvent s3ms.OpTerminated}.
+ *
+ * <p>The methods are meant for the library itself. {@code begin} methods
+ * return {@code null} when the event is disabled, and the matching
+ * {@code end} method must only be called with a non-null token.
+ *
+ * @since 1.8.0.0
+ */
+public final class JfrEvents {
+    private JfrEvents() {
+    }
+
+    public static Object beginExceptionHandled() {
+        ExceptionHandledEvent event = new ExceptionHandledEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void endExceptionHandled(Object token, Throwable t, Object handler) {
+        ExceptionHandledEvent event = (ExceptionHandledEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.exceptionClass = t.getClass();
+            event.handler = handler == null ? null : handler.getClass().getName();
+            event.handled = handler != null;
+            event.commit();
+        }
+    }
+
+    public static Object beginOpTerminated() {
+        OpTerminatedEvent event = new OpTerminatedEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void endOpTerminated(Object token, Class<?> op, Throwable failure) {
+        OpTerminatedEvent event = (OpTerminatedEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.opClass = op;
+            event.failed = failure != null;
+            event.exceptionClass = failure == null ? null : failure.getClass();
+            event.commit();
+        }
+    }
+}
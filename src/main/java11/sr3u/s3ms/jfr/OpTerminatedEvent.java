@@ -0,0 +1,30 @@
+package sr3u.s3ms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The evaluation of an {@code Op}. The default threshold keeps only
+ * evaluations that took at least one millisecond.
+ */
+@Name("s3ms.OpTerminated")
+@Label("Op Terminated")
+@Category("s3ms")
+@Description("A deferred operation was evaluated")
+@Threshold("1 ms")
+@StackTrace(true)
+class OpTerminatedEvent extends Event {
+    @Label("Op Class")
+    Class<?> opClass;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+}
@@ -0,0 +1,144 @@
+package sr3u.streamz.exceptionsprocessing;
+
+import org.junit.Test;
+import sr3u.s3ms.exceptionsprocessing.AsyncLoggingHandler;
+import sr3u.s3ms.optionals.Optionalex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class AsyncLoggingHandlerTest {
+
+    @Test
+    public void logsOnBackgroundThread() {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        AsyncLoggingHandler log = AsyncLoggingHandler.builder()
+                .sink(e -> threads.add(Thread.currentThread().getName()))
+                .threadName("test-logger")
+                .build();
+        assertFalse(Optionalex.of("x")
+                .mapex(s -> {
+                    throw new IOException(s);
+                })
+                .print(log)
+                .rethrow()
+                .isPresent());
+        log.close();
+        assertEquals(Collections.singletonList("test-logger"), threads);
+        assertEquals(1, log.getLoggedCount());
+        assertEquals(0, log.getDroppedCount());
+    }
+
+    @Test
+    public void rateLimitsPerClass() {
+        List<Throwable> logged = Collections.synchronizedList(new ArrayList<>());
+        AsyncLoggingHandler log = AsyncLoggingHandler.builder()
+                .sink(logged::add)
+                .rateLimitPerClass(0.001, 2)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            log.handle(new IOException());
+            log.handle(new IllegalStateException());
+        }
+        log.close();
+        assertEquals(4, logged.size());
+        assertEquals(6, log.getRateLimitedCount());
+    }
+
+    @Test
+    public void dropsWhenFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncLoggingHandler log = AsyncLoggingHandler.builder()
+                .capacity(3)
+                .sink(e -> {
+                    blocked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build();
+        log.handle(new IOException());
+        blocked.await();
+        for (int i = 0; i < 10; i++) {
+            log.handle(new IOException());
+        }
+        release.countDown();
+        log.close();
+        assertEquals(5, log.getLoggedCount());
+        assertEquals(6, log.getDroppedCount());
+        log.handle(new IOException());
+        assertEquals(7, log.getDroppedCount());
+    }
+
+    @Test
+    public void parksWhileIdle() throws InterruptedException {
+        List<Throwable> logged = Collections.synchronizedList(new ArrayList<>());
+        AsyncLoggingHandler log = AsyncLoggingHandler.builder()
+                .sink(logged::add)
+                .threadName("idle-logger")
+                .build();
+        Thread drainer = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().equals("idle-logger"))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        awaitState(drainer, Thread.State.WAITING);
+        log.handle(new IOException());
+        while (logged.isEmpty()) {
+            Thread.sleep(1);
+        }
+        awaitState(drainer, Thread.State.WAITING);
+        log.close();
+        assertEquals(1, log.getLoggedCount());
+    }
+
+    @Test
+    public void closeDuringHandling() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            AsyncLoggingHandler log = AsyncLoggingHandler.builder()
+                    .sink(e -> {
+                    })
+                    .build();
+            int producers = 4;
+            int perProducer = 2_000;
+            CountDownLatch started = new CountDownLatch(producers);
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < perProducer; i++) {
+                        log.handle(new IOException());
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            started.await();
+            log.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(producers * perProducer, log.getLoggedCount() + log.getDroppedCount());
+        }
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        for (int i = 0; i < 1000 && thread.getState() != state; i++) {
+            Thread.sleep(1);
+        }
+        assertEquals(state, thread.getState());
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncLoggingHandler.builder().capacity(0));
+        assertThrows(IllegalArgumentException.class, () -> AsyncLoggingHandler.builder().rateLimitPerClass(0, 1));
+    }
+}
@@ -0,0 +1,94 @@
+package sr3u.streamz.exceptionsprocessing;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
+import sr3u.s3ms.exceptionsprocessing.StackTraceMode;
+import sr3u.s3ms.exceptionsprocessing.Wrapper;
+import sr3u.s3ms.optionals.Optionalex;
+import sr3u.s3ms.streams.Streamex;
+import sr3u.streamz.test.Fixtures;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+import static sr3u.streamz.test.Fixtures.parse;
+
+public class ExceptionPolicyTest {
+
+    @Test
+    public void wrapper() {
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        ExceptionPolicy policy = ExceptionPolicy.builder()
+                .handle(IOException.class, e -> handled.add(e.getMessage()))
+                .build();
+        Function<String, Integer> parse = Wrapper.wrapFunction(Fixtures::parse, policy);
+        Predicate<String> positive = Wrapper.wrapPredicate(s -> parse(s) > 0, policy);
+        assertEquals(Integer.valueOf(1), parse.apply("1"));
+        assertNull(parse.apply(""));
+        assertFalse(positive.test(""));
+        assertNull(Wrapper.wrapSupplier(() -> parse(""), policy).get());
+        Wrapper.wrapConsumer(Fixtures::parse, policy).accept("");
+        Wrapper.<String, String>wrapBiConsumer((a, b) -> parse(a + b), policy).accept("", "");
+        assertEquals(Arrays.asList("empty", "empty", "empty", "empty", "empty"), handled);
+        assertThrows(S3mRuntimeException.class, () -> Wrapper.wrapFunction((String s) -> Integer.parseInt(s), policy).apply("x"));
+    }
+
+    @Test
+    public void optionalex() {
+        ExceptionPolicy policy = ExceptionPolicy.builder()
+                .handle(IOException.class, e -> {
+                })
+                .build();
+        assertEquals(Optionalex.of(1), Optionalex.of("1").mapex(Fixtures::parse, policy));
+        assertFalse(Optionalex.of("").mapex(Fixtures::parse, policy).isPresent());
+        assertFalse(Optionalex.of("").filterex(s -> parse(s) > 0, policy).isPresent());
+        assertFalse(Optionalex.of("").flatMapex(s -> Optional.of(parse(s)), policy).isPresent());
+        assertEquals(Integer.valueOf(2), Optionalex.<Integer>empty().orElseGetex(() -> parse("2"), policy));
+        assertNull(Optionalex.<Integer>empty().orElseGetex(() -> parse(""), policy));
+        assertThrows(S3mRuntimeException.class, () -> Optionalex.of("x").mapex(Integer::parseInt, policy));
+    }
+
+    @Test
+    public void chainDoesNotModifySharedPolicy() {
+        List<String> handled = new ArrayList<>();
+        ExceptionPolicy policy = ExceptionPolicy.builder()
+                .handle(IllegalStateException.class, e -> handled.add("policy"))
+                .stackTraceMode(StackTraceMode.STACKLESS)
+                .build();
+        ExceptionHandlerChain chain = new ExceptionHandlerChain(policy);
+        chain.addHandler(e -> handled.add("chain"));
+        chain.handle(new IllegalStateException());
+        chain.handle(new IOException());
+        assertEquals(Arrays.asList("policy", "chain"), handled);
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class, () -> policy.handle(new IOException()));
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(StackTraceMode.STACKLESS, chain.getStackTraceMode());
+    }
+
+    @Test
+    public void pipelineChainDispatchesOnceIndexed() {
+        List<String> handled = new ArrayList<>();
+        List<Integer> parsed = Streamex.ofCollection(Collections.nCopies(20, ""))
+                .mapex(s -> handled.size() % 2 == 0 ? parse(s) : Integer.valueOf(s.charAt(0)))
+                .toList()
+                .handle(IllegalStateException.class, e -> handled.add("state"))
+                .handle(IOException.class, e -> handled.add("io"))
+                .handle(IndexOutOfBoundsException.class, e -> handled.add("index"))
+                .handle(RuntimeException.class, e -> handled.add("runtime"))
+                .rethrow();
+        assertTrue(parsed.isEmpty());
+        assertEquals(20, handled.size());
+        for (int i = 0; i < handled.size(); i += 2) {
+            assertEquals(Arrays.asList("io", "index"), handled.subList(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package sr3u.streamz.exceptionsprocessing;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandler;
+import sr3u.s3ms.exceptionsprocessing.ExceptionHandlerChain;
+import sr3u.s3ms.exceptionsprocessing.Op;
+import sr3u.s3ms.optionals.Optionalex;
+import sr3u.s3ms.streams.Streamex;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class OpTest {
+
+    @Test
+    public void fullStackTrace() {
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class, () -> failing().rethrow());
+        assertTrue(e.getStackTrace().length > 0);
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    public void stackless() {
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class, () -> failing().stackless().rethrow());
+        assertEquals(0, e.getStackTrace().length);
+        assertTrue(e.getCause() instanceof IOException);
+        assertTrue(e.getCause().getStackTrace().length > 0);
+    }
+
+    @Test
+    public void streamexStackless() {
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class, () -> Streamex.of(1, 2)
+                .mapex(OpTest::fail)
+                .toList()
+                .stackless()
+                .rethrow());
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    public void typedHandlers() {
+        List<String> handled = new ArrayList<>();
+        assertEquals(Arrays.asList(2, 4), Streamex.of(1, 2, 3, 4)
+                .mapex(OpTest::check)
+                .toList()
+                .handle(IllegalStateException.class, e -> handled.add("state"))
+                .handle(IOException.class, e -> handled.add(e.getMessage()))
+                .rethrow());
+        assertEquals(Arrays.asList("1", "3"), handled);
+        assertThrows(S3mRuntimeException.class, () -> Streamex.of(1)
+                .mapex(OpTest::check)
+                .toList()
+                .handle(IllegalStateException.class, e -> handled.add("state"))
+                .rethrow());
+    }
+
+    @Test
+    public void nonTerminalTypedHandlers() {
+        List<String> handled = new ArrayList<>();
+        ExceptionHandlerChain chain = new ExceptionHandlerChain();
+        chain.addHandler(ExceptionHandler.of(Exception.class, e -> handled.add("exception"), false));
+        chain.addHandler(ExceptionHandler.of(RuntimeException.class, e -> handled.add("runtime")));
+        chain.addHandler(ExceptionHandler.of(IOException.class, e -> handled.add("io")));
+        chain.handle(new FileNotFoundException());
+        chain.handle(new IllegalArgumentException());
+        assertEquals(Arrays.asList("exception", "io", "exception", "runtime"), handled);
+        assertThrows(S3mRuntimeException.class, () -> chain.handle(new AssertionError()));
+    }
+
+    @Test
+    public void cached() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Op<Optionalex<Integer>> op = Optionalex.of(1).ifPresentex(i -> calls.incrementAndGet()).cached();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(op::rethrow);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Optionalex.of(1), op.rethrow());
+        assertEquals(1, calls.get());
+        assertSame(op, op.cached());
+    }
+
+    @Test
+    public void cachedFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Op<Integer> op = new Op<Integer>(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException();
+        }, new ExceptionHandlerChain()).cached();
+        RuntimeException first = assertThrows(IllegalStateException.class, op::rethrow);
+        assertSame(first, assertThrows(IllegalStateException.class, op::rethrow));
+        assertEquals(1, calls.get());
+    }
+
+    private static Op<Integer> failing() {
+        ExceptionHandlerChain chain = new ExceptionHandlerChain();
+        return new Op<>(() -> {
+            try {
+                return fail(1);
+            } catch (IOException e) {
+                chain.handle(e);
+                return null;
+            }
+        }, chain);
+    }
+
+    private static Integer check(Integer i) throws IOException {
+        if (i % 2 == 1) {
+            throw new IOException(String.valueOf(i));
+        }
+        return i;
+    }
+
+    private static Integer fail(Integer i) throws IOException {
+        throw new IOException("failed " + i);
+    }
+}
@@ -0,0 +1,107 @@
+package sr3u.streamz.functionalex;
+
+import org.junit.Test;
+import sr3u.functionalex.Compositions;
+import sr3u.functionalex.Consumerex;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Predicatex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CompositionsTest {
+
+    @Test
+    public void function() throws Exception {
+        Functionex<String, Integer> parse = Compositions.function(String::trim)
+                .andThen(Integer::parseInt)
+                .andThen(Math::abs)
+                .build();
+        assertEquals(Integer.valueOf(12), parse.apply(" -12 "));
+        Functionex<Integer, Integer> longer = Compositions.function((Integer i) -> i + 1)
+                .andThen(i -> i * 2)
+                .andThen(i -> i - 3)
+                .andThen(i -> i * 10)
+                .build();
+        assertEquals(Integer.valueOf(10), longer.apply(1));
+        assertEquals(Integer.valueOf(-210), Compositions.function(longer).andThen(i -> -i).andThen(longer).build().apply(1));
+    }
+
+    @Test
+    public void buildersAreImmutable() throws Exception {
+        Compositions.FunctionBuilder<String, Integer> parse = Compositions.function(String::trim).andThen(Integer::parseInt);
+        Functionex<String, Integer> doubled = parse.andThen(i -> i * 2).build();
+        Functionex<String, String> text = parse.andThen(i -> "#" + i).build();
+        assertEquals(Integer.valueOf(3), parse.build().apply(" 3 "));
+        assertEquals(Integer.valueOf(6), doubled.apply(" 3 "));
+        assertEquals("#3", text.apply(" 3 "));
+        List<String> calls = new ArrayList<>();
+        Compositions.ConsumerBuilder<String> first = Compositions.consumer((String s) -> calls.add("a" + s));
+        first.andThen(s -> calls.add("b" + s));
+        first.build().accept("1");
+        assertEquals(Collections.singletonList("a1"), calls);
+    }
+
+    @Test
+    public void deepChainDoesNotOverflow() throws Exception {
+        List<Functionex<Integer, Integer>> stages = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            stages.add(x -> x + 1);
+        }
+        Functionex<Integer, Integer> chain = Compositions.chain(stages);
+        assertEquals(Integer.valueOf(100_000), chain.apply(0));
+        assertEquals("x", Compositions.<String, String>chain(Collections.emptyList()).apply("x"));
+        Predicatex<Integer> all = Compositions.allOf(Collections.nCopies(100_000, (Predicatex<Integer>) x -> x > 0));
+        assertTrue(all.test(1));
+    }
+
+    @Test
+    public void consumer() throws Exception {
+        List<String> calls = new ArrayList<>();
+        Consumerex<String> two = Compositions.consumer((String s) -> calls.add("a" + s)).andThen(s -> calls.add("b" + s)).build();
+        Consumerex<String> failing = Compositions.consumer(two)
+                .andThen(s -> {
+                    throw new IOException(s);
+                })
+                .andThen(s -> calls.add("never"))
+                .andThen(two)
+                .build();
+        assertThrows(IOException.class, () -> failing.accept("1"));
+        assertEquals(Arrays.asList("a1", "b1"), calls);
+    }
+
+    @Test
+    public void predicates() throws Exception {
+        List<Integer> evaluated = new ArrayList<>();
+        Predicatex<Integer> positive = i -> {
+            evaluated.add(1);
+            return i > 0;
+        };
+        Predicatex<Integer> even = i -> {
+            evaluated.add(2);
+            return i % 2 == 0;
+        };
+        Predicatex<Integer> small = i -> {
+            evaluated.add(3);
+            return i < 10;
+        };
+        Predicatex<Integer> failing = i -> {
+            throw new IOException("clause");
+        };
+        assertTrue(Compositions.allOf(positive, even, small).test(4));
+        assertFalse(Compositions.allOf(positive, even, small).test(-4));
+        assertEquals(Arrays.asList(1, 2, 3, 1), evaluated);
+        assertTrue(Compositions.anyOf(positive, failing).test(1));
+        assertThrows(IOException.class, () -> Compositions.anyOf(positive, failing).test(-1));
+        assertTrue(Compositions.<Integer>allOf().test(1));
+        assertFalse(Compositions.<Integer>anyOf().test(1));
+        Predicatex<Integer> nested = Compositions.allOf(Compositions.allOf(positive, even), Compositions.anyOf(small, even), positive);
+        assertTrue(nested.test(2));
+        assertFalse(nested.test(12 + 1));
+    }
+}
@@ -0,0 +1,155 @@
+package sr3u.streamz.functionalex;
+
+import org.junit.Test;
+import sr3u.functionalex.CacheStats;
+import sr3u.functionalex.Functionex;
+import sr3u.functionalex.MemoizedFunctionex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class FunctionexTest {
+
+    @Test
+    public void memoize() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFunctionex<String, Integer> length = ((Functionex<String, Integer>) s -> {
+            calls.incrementAndGet();
+            return s == null ? -1 : s.length();
+        }).memoize(10);
+        assertEquals(Integer.valueOf(3), length.apply("abc"));
+        assertEquals(Integer.valueOf(3), length.apply("abc"));
+        assertEquals(Integer.valueOf(-1), length.apply(null));
+        assertEquals(Integer.valueOf(-1), length.apply(null));
+        assertEquals(2, calls.get());
+        CacheStats stats = length.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate(), 1e-10);
+        assertEquals(2, length.size());
+        length.invalidateAll();
+        assertEquals(0, length.size());
+        length.apply("abc");
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void boundedWithFrequencyAdmission() throws Exception {
+        MemoizedFunctionex<Integer, Integer> square = ((Functionex<Integer, Integer>) i -> i * i).memoize(10);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                square.apply(i);
+            }
+        }
+        for (int i = 100; i < 200; i++) {
+            assertEquals(Integer.valueOf(i * i), square.apply(i));
+        }
+        assertEquals(10, square.size());
+        long hitsBefore = square.stats().getHitCount();
+        for (int i = 0; i < 10; i++) {
+            square.apply(i);
+        }
+        assertEquals("popular keys survive a scan", hitsBefore + 10, square.stats().getHitCount());
+        assertTrue(square.stats().getRejectionCount() > 0);
+    }
+
+    @Test
+    public void concurrentHits() throws Exception {
+        MemoizedFunctionex<Integer, Integer> square = ((Functionex<Integer, Integer>) i -> i * i).memoize(8);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        int key = i % 16 < 15 ? i % 4 : i;
+                        assertEquals(Integer.valueOf(key * key), square.apply(key));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        CacheStats stats = square.stats();
+        assertEquals(threads * perThread, stats.getHitCount() + stats.getMissCount());
+        assertTrue(square.size() <= 8);
+        long hitsBefore = square.stats().getHitCount();
+        for (int i = 0; i < 4; i++) {
+            square.apply(i);
+        }
+        assertEquals("hot keys stay cached", hitsBefore + 4, square.stats().getHitCount());
+    }
+
+    @Test
+    public void evictsWhenNewKeysBecomePopular() throws Exception {
+        MemoizedFunctionex<Integer, Integer> identity = ((Functionex<Integer, Integer>) i -> i).memoize(4);
+        for (int i = 0; i < 4; i++) {
+            identity.apply(i);
+        }
+        for (int round = 0; round < 3; round++) {
+            for (int i = 10; i < 14; i++) {
+                identity.apply(i);
+            }
+        }
+        assertEquals(4, identity.size());
+        assertTrue(identity.stats().getEvictionCount() > 0);
+    }
+
+    @Test
+    public void exceptions() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Functionex<String, Integer> parse = s -> {
+            calls.incrementAndGet();
+            throw new IOException(s);
+        };
+        MemoizedFunctionex<String, Integer> uncached = parse.memoize(10);
+        assertThrows(IOException.class, () -> uncached.apply("x"));
+        assertThrows(IOException.class, () -> uncached.apply("x"));
+        assertEquals(2, calls.get());
+        MemoizedFunctionex<String, Integer> cached = parse.memoize(10, true);
+        IOException first = assertThrows(IOException.class, () -> cached.apply("x"));
+        assertSame(first, assertThrows(IOException.class, () -> cached.apply("x")));
+        assertEquals(3, calls.get());
+        assertThrows(IllegalArgumentException.class, () -> parse.memoize(0));
+    }
+
+    @Test
+    public void concurrentUse() throws Exception {
+        MemoizedFunctionex<Integer, Integer> negate = ((Functionex<Integer, Integer>) i -> -i).memoize(64);
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger wrong = new AtomicInteger();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    try {
+                        if (negate.apply(i % 200) != -(i % 200)) {
+                            wrong.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        wrong.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, wrong.get());
+        assertTrue(negate.size() <= 64);
+    }
+}
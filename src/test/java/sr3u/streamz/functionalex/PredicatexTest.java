@@ -0,0 +1,64 @@
+package sr3u.streamz.functionalex;
+
+import org.junit.Test;
+import sr3u.functionalex.Predicatex;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PredicatexTest {
+
+    @Test
+    public void allOfAndAnyOf() throws Exception {
+        Predicatex<Integer> positive = i -> i > 0;
+        Predicatex<Integer> even = i -> i % 2 == 0;
+        Predicatex<Integer> all = Predicatex.allOf(positive, even);
+        Predicatex<Integer> any = Predicatex.anyOf(positive, even);
+        for (int i = -1000; i < 1000; i++) {
+            assertEquals(i > 0 && i % 2 == 0, all.test(i));
+            assertEquals(i > 0 || i % 2 == 0, any.test(i));
+        }
+        assertTrue(Predicatex.<Integer>allOf().test(1));
+        assertFalse(Predicatex.<Integer>anyOf().test(1));
+    }
+
+    @Test
+    public void exceptionsAreRelayed() {
+        Predicatex<String> failing = s -> {
+            throw new IOException(s);
+        };
+        Predicatex<String> all = Predicatex.allOf(s -> true, failing);
+        for (int i = 0; i < 1000; i++) {
+            assertThrows(IOException.class, () -> all.test("x"));
+        }
+    }
+
+    @Test
+    public void movesCheapSelectiveClauseFirst() throws Exception {
+        AtomicInteger expensiveCalls = new AtomicInteger();
+        Predicatex<Integer> expensive = i -> {
+            expensiveCalls.incrementAndGet();
+            long until = System.nanoTime() + 20_000;
+            while (System.nanoTime() < until) {
+                // simulates an expensive clause
+            }
+            return true;
+        };
+        Predicatex<Integer> selective = i -> i % 10 == 0;
+        Predicatex<Integer> all = Predicatex.allOf(expensive, selective);
+        for (int i = 0; i < 20_000; i++) {
+            all.test(i);
+        }
+        expensiveCalls.set(0);
+        int matches = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (all.test(i)) {
+                matches++;
+            }
+        }
+        assertEquals(1000, matches);
+        assertTrue("expensive clause evaluated " + expensiveCalls.get() + " times", expensiveCalls.get() < 3000);
+    }
+}
@@ -0,0 +1,95 @@
+package sr3u.streamz.functionalex;
+
+import org.junit.Test;
+import sr3u.functionalex.Supplierex;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class SupplierexTest {
+
+    @Test
+    public void memoize() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplierex<Integer> supplier = ((Supplierex<Integer>) calls::incrementAndGet).memoize();
+        assertEquals(Integer.valueOf(1), supplier.get());
+        assertEquals(Integer.valueOf(1), supplier.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void memoizeComputesOnceUnderContention() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplierex<Integer> supplier = ((Supplierex<Integer>) () -> {
+            Thread.sleep(20);
+            return calls.incrementAndGet();
+        }).memoize();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger wrong = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    if (supplier.get() != 1) {
+                        wrong.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    wrong.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0, wrong.get());
+    }
+
+    @Test
+    public void memoizeDoesNotCacheFailures() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplierex<Integer> supplier = ((Supplierex<Integer>) () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("first");
+            }
+            return calls.get();
+        }).memoize();
+        assertThrows(IOException.class, supplier::get);
+        assertEquals(Integer.valueOf(2), supplier.get());
+        assertEquals(Integer.valueOf(2), supplier.get());
+    }
+
+    @Test
+    public void memoizeWithExpiry() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplierex<Integer> expiring = ((Supplierex<Integer>) calls::incrementAndGet).memoizeWithExpiry(Duration.ZERO);
+        assertEquals(Integer.valueOf(1), expiring.get());
+        assertEquals(Integer.valueOf(2), expiring.get());
+        Supplierex<Integer> cached = ((Supplierex<Integer>) calls::incrementAndGet).memoizeWithExpiry(Duration.ofHours(1));
+        assertEquals(Integer.valueOf(3), cached.get());
+        assertEquals(Integer.valueOf(3), cached.get());
+        assertThrows(IllegalArgumentException.class, () -> cached.memoizeWithExpiry(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void failureBackoff() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplierex<Integer> supplier = ((Supplierex<Integer>) () -> {
+            calls.incrementAndGet();
+            throw new IOException("down");
+        }).memoizeWithExpiry(Duration.ofHours(1), Duration.ofHours(1));
+        IOException first = assertThrows(IOException.class, supplier::get);
+        assertSame(first, assertThrows(IOException.class, supplier::get));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,81 @@
+package sr3u.streamz.futures;
+
+import org.junit.After;
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
+import sr3u.s3ms.futures.Futurex;
+import sr3u.streamz.test.Fixtures;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static sr3u.streamz.test.Fixtures.parse;
+
+public class FuturexTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void stages() {
+        AtomicInteger consumed = new AtomicInteger();
+        Futurex<Void> done = Futurex.supplyAsyncex(() -> parse("20"), ExceptionPolicy.rethrow(), executor)
+                .thenApplyex(i -> i + 1)
+                .thenComposeex(i -> CompletableFuture.supplyAsync(() -> i * 2))
+                .thenAcceptex(consumed::set);
+        assertNull(done.join());
+        assertEquals(42, consumed.get());
+    }
+
+    @Test
+    public void withoutExecutorStagesRunSynchronously() {
+        Thread caller = Thread.currentThread();
+        AtomicBoolean onCaller = new AtomicBoolean();
+        assertEquals(Integer.valueOf(2), Futurex.completed(1, ExceptionPolicy.rethrow(), null)
+                .thenApplyex(i -> {
+                    onCaller.set(Thread.currentThread() == caller);
+                    return i + 1;
+                })
+                .join());
+        assertTrue(onCaller.get());
+        assertEquals(Integer.valueOf(20), Futurex.supplyAsyncex(() -> parse("20")).join());
+    }
+
+    @Test
+    public void unhandledFailure() {
+        AtomicBoolean skipped = new AtomicBoolean(true);
+        Futurex<Integer> failed = Futurex.supplyAsyncex(() -> parse(""), ExceptionPolicy.rethrow(), executor)
+                .thenApplyex(i -> {
+                    skipped.set(false);
+                    return i;
+                });
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class, failed::join);
+        assertTrue(e.getCause() instanceof IOException);
+        assertTrue(failed.toResult().getFailure() instanceof IOException);
+        assertTrue(skipped.get());
+    }
+
+    @Test
+    public void handledFailure() {
+        AtomicInteger handled = new AtomicInteger();
+        ExceptionPolicy policy = ExceptionPolicy.builder()
+                .handle(IOException.class, e -> handled.incrementAndGet())
+                .build();
+        assertNull(Futurex.completed("", policy, executor).thenApplyex(Fixtures::parse).join());
+        assertEquals(Integer.valueOf(0), Futurex.completed("", ExceptionPolicy.rethrow(), executor)
+                .handle(IOException.class, e -> handled.incrementAndGet())
+                .thenApplyex(Fixtures::parse)
+                .thenApplyex(i -> i == null ? 0 : i)
+                .join());
+        assertEquals(2, handled.get());
+    }
+}
@@ -0,0 +1,78 @@
+package sr3u.streamz.metrics;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
+import sr3u.s3ms.exceptionsprocessing.Wrapper;
+import sr3u.s3ms.metrics.MetricsSnapshot;
+import sr3u.s3ms.metrics.OpMetrics;
+import sr3u.s3ms.streams.Streamex;
+import sr3u.streamz.test.Fixtures;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class OpMetricsTest {
+
+    @Test
+    public void op() {
+        OpMetrics metrics = OpMetrics.named("OpMetricsTest.op");
+        metrics.reset();
+        Streamex.of("1", "x", "y", "4")
+                .mapex(Fixtures::parse)
+                .toList()
+                .handle(IOException.class, e -> {
+                })
+                .metered(metrics)
+                .rethrow();
+        assertThrows(S3mRuntimeException.class, () -> Streamex.of("x")
+                .mapex(Fixtures::parse)
+                .toList()
+                .metered(metrics)
+                .rethrow());
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.getInvocations());
+        assertEquals(2, snapshot.getHandled());
+        assertEquals(1, snapshot.getRethrown());
+        assertEquals(3, snapshot.getFailures());
+        assertEquals(Long.valueOf(3), snapshot.getFailuresByType().get(IOException.class.getName()));
+        assertTrue(snapshot.getLatencyPercentileNanos(50) > 0);
+        assertSame(metrics, OpMetrics.named("OpMetricsTest.op"));
+    }
+
+    @Test
+    public void policy() {
+        OpMetrics metrics = OpMetrics.named("OpMetricsTest.policy");
+        metrics.reset();
+        ExceptionPolicy policy = ExceptionPolicy.builder()
+                .handle(IOException.class, e -> {
+                })
+                .metrics(metrics)
+                .build();
+        Function<String, Integer> parse = Wrapper.wrapFunction(Fixtures::parse, policy);
+        parse.apply("1");
+        parse.apply("x");
+        parse.apply("y");
+        assertEquals(2, metrics.getHandled());
+        assertEquals(0, metrics.getInvocations());
+    }
+
+    @Test
+    public void jmx() throws Exception {
+        OpMetrics metrics = OpMetrics.named("OpMetricsTest.jmx").registerMBean().registerMBean();
+        metrics.reset();
+        metrics.recordFailure(new IOException(), true);
+        metrics.recordInvocation(1_000);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("sr3u.s3ms:type=OpMetrics,name=" + ObjectName.quote("OpMetricsTest.jmx"));
+        assertEquals(1L, server.getAttribute(name, "Handled"));
+        assertEquals(1L, server.getAttribute(name, "Invocations"));
+        long p50 = (Long) server.getAttribute(name, "LatencyP50Nanos");
+        assertTrue(p50 >= 1_000 && p50 < 1_000 * 17 / 16);
+    }
+}
@@ -1,12 +1,20 @@
 package sr3u.streamz.optionals;
 
+import org.junit.Assume;
 import org.junit.Test;
 import sr3u.functionalex.Functionex;
+import sr3u.functionalex.Predicatex;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.Op;
 import sr3u.s3ms.optionals.Optionalex;
+import sr3u.s3ms.optionals.OptionalexOp;
 import sr3u.streamz.test.Item;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -56,7 +64,7 @@ public class OptionalexTest {
         assertEquals(100, item.getAnInt());
     }
 
-  /*  @Test
+    @Test
     public void mapToInt() {
         assertEquals(1, createOptional().mapToInt(Item::getAnInt).orElseThrow());
         assertFalse(Optionalex.empty().mapToInt(i -> 0).isPresent());
@@ -72,7 +80,7 @@ public class OptionalexTest {
     public void mapToDouble() {
         assertEquals(1.4, createOptional().mapToDouble(Item::getaDouble).orElseThrow(), DELTA);
         assertFalse(Optionalex.empty().mapToDouble(i -> 0.0).isPresent());
-    }*/
+    }
 
     @Test
     public void flatMap() throws Exception {
@@ -103,4 +111,93 @@ public class OptionalexTest {
     public Optionalex<Item> createOptional() {
         return Optionalex.ofNullable(new Item("" + 1, 1, 1, 1 + 0.4));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void emptyIsShared() {
+        assertSame(Optionalex.empty(), Optionalex.empty());
+        assertSame(Optionalex.empty(), Optionalex.ofNullable(null));
+        assertSame(Optionalex.empty(), Optionalex.<Item>empty().map(Item::getAnInt));
+        assertSame(Optionalex.empty(), Optionalex.<Item>empty().filter(i -> true));
+        assertSame(Optionalex.empty(), createOptional().filter(i -> false));
+        Optionalex<Item> optional = createOptional();
+        assertSame(optional, optional.filter(i -> true));
+        assertEquals(Optionalex.of("a"), Optionalex.of("a"));
+        assertEquals(Optionalex.of("a").hashCode(), Optionalex.of("a").hashCode());
+    }
+
+    @Test
+    public void emptyDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+        Functionex<Item, Integer> mapper = Item::getAnInt;
+        for (int i = 0; i < 10_000; i++) {
+            emptyChain(mapper);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            emptyChain(mapper);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        assertTrue("allocated " + allocated + " bytes", allocated < 10_000);
+    }
+
+    private static int emptyChain(Functionex<Item, Integer> mapper) {
+        return Optionalex.<Item>empty()
+                .filter(i -> i.getAnInt() > 0)
+                .map(Item::getAnInt)
+                .orElse(0);
+    }
+
+    @Test
+    public void fusedChain() {
+        AtomicInteger calls = new AtomicInteger();
+        OptionalexOp<Integer> op = Optionalex.of("21").op()
+                .mapex(s -> {
+                    calls.incrementAndGet();
+                    return Integer.parseInt(s);
+                })
+                .filterex(i -> i > 10)
+                .flatMapex(i -> Optional.of(i * 2));
+        assertEquals(0, calls.get());
+        assertEquals(Optionalex.of(42), op.rethrow());
+        assertEquals(1, calls.get());
+        assertFalse(Optionalex.of("1").op().mapex(Integer::parseInt).filterex(i -> i > 10).mapex(i -> i * 2).rethrow().isPresent());
+        assertFalse(Optionalex.<String>empty().op().mapex(Integer::parseInt).rethrow().isPresent());
+        Functionex<Integer, Integer> fail = i -> {
+            throw new IllegalStateException();
+        };
+        AtomicBoolean after = new AtomicBoolean(false);
+        assertFalse(Optionalex.of(1).op()
+                .mapex(fail)
+                .mapex(i -> after.getAndSet(true))
+                .throwRuntime(e -> null)
+                .rethrow()
+                .isPresent());
+        assertFalse(after.get());
+        assertThrows(S3mRuntimeException.class, () -> Optionalex.of(1).op().mapex(fail).filterex(i -> true).rethrow());
+    }
+
+    @Test
+    public void derivedOpsHaveTheirOwnHandlers() {
+        Functionex<Integer, Integer> fail = i -> {
+            throw new IOException();
+        };
+        OptionalexOp<Integer> parent = Optionalex.of(1).op().mapex(fail);
+        AtomicInteger handled = new AtomicInteger();
+        OptionalexOp<Integer> child = parent.mapex(i -> i + 1).handle(IOException.class, e -> handled.incrementAndGet());
+        assertFalse(child.rethrow().isPresent());
+        assertEquals(1, handled.get());
+        assertThrows(S3mRuntimeException.class, parent::rethrow);
+        assertEquals(1, handled.get());
+    }
+
+    @Test
+    public void mapexKeepsItsSignature() throws NoSuchMethodException {
+        assertEquals(Op.class, Optionalex.class.getMethod("mapex", Functionex.class).getReturnType());
+        assertEquals(Op.class, Optionalex.class.getMethod("filterex", Predicatex.class).getReturnType());
+        assertEquals(Op.class, Optionalex.class.getMethod("flatMapex", Functionex.class).getReturnType());
+    }
+}
@@ -0,0 +1,87 @@
+package sr3u.streamz.optionals;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.optionals.OptionalDoubleex;
+import sr3u.s3ms.optionals.OptionalIntex;
+import sr3u.s3ms.optionals.OptionalLongex;
+import sr3u.s3ms.streams.IntStreamex;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveOptionalexTest {
+
+    public static final double DELTA = 1e-10;
+
+    @Test
+    public void empty() {
+        assertFalse(OptionalIntex.empty().isPresent());
+        assertFalse(OptionalLongex.empty().isPresent());
+        assertFalse(OptionalDoubleex.empty().isPresent());
+        assertThrows(NoSuchElementException.class, () -> OptionalIntex.empty().orElseThrow());
+    }
+
+    @Test
+    public void of() {
+        assertEquals(7, OptionalIntex.of(7).getAsInt());
+        assertSame(OptionalIntex.of(7), OptionalIntex.of(7));
+        assertEquals(OptionalIntex.of(100_000), OptionalIntex.of(100_000));
+        assertEquals(7L, OptionalLongex.of(7L).getAsLong());
+        assertEquals(0.5, OptionalDoubleex.of(0.5).getAsDouble(), DELTA);
+    }
+
+    @Test
+    public void mapAndFilter() {
+        assertEquals(6, OptionalIntex.of(3).map(i -> i * 2).filter(i -> i > 5).orElse(-1));
+        assertEquals(-1, OptionalIntex.of(3).filter(i -> i > 5).orElse(-1));
+        assertEquals(3_000_000_000L, OptionalIntex.of(3).mapToLong(i -> i * 1_000_000_000L).getAsLong());
+        assertEquals(1.5, OptionalLongex.of(3).mapToDouble(l -> l / 2.0).getAsDouble(), DELTA);
+        assertEquals(2, OptionalDoubleex.of(2.5).mapToInt(d -> (int) d).getAsInt());
+        assertEquals("3", OptionalIntex.of(3).mapToObj(String::valueOf).get());
+    }
+
+    @Test
+    public void mapex() {
+        assertEquals(4, OptionalIntex.of(2).mapex(PrimitiveOptionalexTest::checkedSquare).rethrow().getAsInt());
+        assertThrows(S3mRuntimeException.class,
+                () -> OptionalIntex.of(0).mapex(PrimitiveOptionalexTest::checkedSquare).rethrow());
+        AtomicInteger handled = new AtomicInteger();
+        OptionalIntex result = OptionalIntex.of(0)
+                .mapex(PrimitiveOptionalexTest::checkedSquare)
+                .throwRuntime(e -> {
+                    handled.incrementAndGet();
+                    return null;
+                })
+                .rethrow();
+        assertFalse(result.isPresent());
+        assertEquals(1, handled.get());
+        assertFalse(OptionalIntex.empty().mapex(PrimitiveOptionalexTest::checkedSquare).rethrow().isPresent());
+    }
+
+    @Test
+    public void filterexAndOrElseGetex() {
+        assertTrue(OptionalLongex.of(2L).filterex(l -> l > 1).rethrow().isPresent());
+        assertEquals(5.0, OptionalDoubleex.empty().orElseGetex(() -> 5.0).rethrow().getAsDouble(), DELTA);
+        assertEquals(1, OptionalIntex.of(1).orElseGetex(() -> {
+            throw new IOException();
+        }).rethrow().getAsInt());
+    }
+
+    @Test
+    public void streams() {
+        assertEquals(3, IntStreamex.of(2, 3, 1).max().rethrow().getAsInt());
+        assertEquals(2.0, IntStreamex.of(2, 3, 1).average().rethrow().getAsDouble(), DELTA);
+        assertFalse(IntStreamex.empty().findFirst().rethrow().isPresent());
+    }
+
+    private static int checkedSquare(int i) throws IOException {
+        if (i == 0) {
+            throw new IOException("zero");
+        }
+        return i * i;
+    }
+}
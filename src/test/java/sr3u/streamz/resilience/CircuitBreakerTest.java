@@ -0,0 +1,189 @@
+package sr3u.streamz.resilience;
+
+import org.junit.Test;
+import sr3u.functionalex.Functionex;
+import sr3u.s3ms.optionals.Optionalex;
+import sr3u.s3ms.resilience.CircuitBreaker;
+import sr3u.s3ms.resilience.CircuitOpenException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void opensAndRecovers() throws Exception {
+        CircuitBreaker breaker = CircuitBreaker.builder("store")
+                .minimumCalls(4)
+                .failureRateThreshold(0.5)
+                .openDuration(Duration.ofMillis(50))
+                .build();
+        AtomicBoolean down = new AtomicBoolean(false);
+        AtomicInteger calls = new AtomicInteger();
+        Functionex<Integer, Integer> load = breaker.wrap(i -> {
+            calls.incrementAndGet();
+            if (down.get()) {
+                throw new IOException("down");
+            }
+            return i;
+        });
+        assertEquals(Integer.valueOf(1), load.apply(1));
+        down.set(true);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IOException.class, () -> load.apply(1));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(4, calls.get());
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, () -> load.apply(1));
+        assertEquals("store", e.getCircuit());
+        assertEquals(4, calls.get());
+
+        Thread.sleep(60);
+        assertThrows(IOException.class, () -> load.apply(1));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(60);
+        down.set(false);
+        assertEquals(Integer.valueOf(2), load.apply(2));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void fallback() {
+        CircuitBreaker breaker = CircuitBreaker.builder("lookup")
+                .minimumCalls(1)
+                .openDuration(Duration.ofMinutes(1))
+                .build();
+        Functionex<String, String> lookup = breaker.wrap(s -> {
+            throw new IOException(s);
+        }, s -> "cached " + s);
+        assertThrows(Exception.class, () -> lookup.apply("a"));
+        AtomicInteger rejected = new AtomicInteger();
+        assertEquals(Optionalex.of("cached b"), Optionalex.of("b").mapex(lookup).rethrow());
+        assertFalse(Optionalex.of("c")
+                .mapex(breaker.wrap((Functionex<String, String>) s -> s))
+                .handle(CircuitOpenException.class, x -> rejected.incrementAndGet())
+                .rethrow()
+                .isPresent());
+        assertEquals(1, rejected.get());
+    }
+
+    @Test
+    public void admitsExactlyTheProbes() throws Exception {
+        CircuitBreaker breaker = openBreaker(CircuitBreaker.builder("probes").probes(3));
+        Thread.sleep(30);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            CountDownLatch started = new CountDownLatch(10);
+            for (int i = 0; i < 10; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        breaker.call(() -> {
+                            admitted.incrementAndGet();
+                            return release.await(5, TimeUnit.SECONDS);
+                        });
+                    } catch (CircuitOpenException e) {
+                        rejected.incrementAndGet();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+            started.await();
+            while (admitted.get() + rejected.get() < 10) {
+                Thread.sleep(1);
+            }
+            assertEquals(3, admitted.get());
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+            release.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void staleSuccessDoesNotClose() throws Exception {
+        CircuitBreaker breaker = CircuitBreaker.builder("stale")
+                .minimumCalls(2)
+                .openDuration(Duration.ofMillis(20))
+                .build();
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        CountDownLatch releaseProbe = new CountDownLatch(1);
+        Thread slow = new Thread(() -> call(breaker, releaseSlow));
+        slow.start();
+        while (slow.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+        openBreaker(breaker);
+        Thread.sleep(30);
+        Thread probe = new Thread(() -> call(breaker, releaseProbe));
+        probe.start();
+        while (breaker.getState() != CircuitBreaker.State.HALF_OPEN) {
+            Thread.sleep(1);
+        }
+        releaseSlow.countDown();
+        slow.join();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        releaseProbe.countDown();
+        probe.join();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void halfOpenTimeout() throws Exception {
+        CircuitBreaker breaker = openBreaker(CircuitBreaker.builder("hanging")
+                .halfOpenTimeout(Duration.ofMillis(30)));
+        Thread.sleep(30);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread probe = new Thread(() -> call(breaker, release));
+        probe.start();
+        while (breaker.getState() != CircuitBreaker.State.HALF_OPEN) {
+            Thread.sleep(1);
+        }
+        assertThrows(CircuitOpenException.class, () -> breaker.call(() -> 1));
+        Thread.sleep(40);
+        assertThrows(CircuitOpenException.class, () -> breaker.call(() -> 1));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Thread.sleep(30);
+        assertEquals(Integer.valueOf(1), breaker.call(() -> 1));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        release.countDown();
+        probe.join();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private static CircuitBreaker openBreaker(CircuitBreaker.Builder builder) {
+        return openBreaker(builder.minimumCalls(2).openDuration(Duration.ofMillis(20)).build());
+    }
+
+    private static CircuitBreaker openBreaker(CircuitBreaker breaker) {
+        while (breaker.getState() != CircuitBreaker.State.OPEN) {
+            assertThrows(IOException.class, () -> breaker.call(() -> {
+                throw new IOException();
+            }));
+        }
+        return breaker;
+    }
+
+    private static void call(CircuitBreaker breaker, CountDownLatch release) {
+        try {
+            breaker.call(() -> release.await(5, TimeUnit.SECONDS));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package sr3u.streamz.resilience;
+
+import org.junit.Test;
+import sr3u.functionalex.Functionex;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.resilience.Retry;
+import sr3u.s3ms.resilience.RetryBudget;
+import sr3u.s3ms.streams.Streamex;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RetryTest {
+
+    private static Retry.Builder fastRetry() {
+        return Retry.builder()
+                .retryOn(IOException.class)
+                .backoff(Duration.ofMillis(1), Duration.ofMillis(4), 2);
+    }
+
+    @Test
+    public void retriesOnlyFailedElements() {
+        Map<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+        Functionex<Integer, Integer> flaky = i -> {
+            int call = calls.computeIfAbsent(i, k -> new AtomicInteger()).incrementAndGet();
+            if (i == 2 && call < 3) {
+                throw new IOException("transient");
+            }
+            return i;
+        };
+        List<Integer> result = Streamex.of(1, 2, 3)
+                .mapex(fastRetry().maxAttempts(3).build().wrap(flaky))
+                .toList()
+                .rethrow();
+        assertEquals(Arrays.asList(1, 2, 3), result);
+        assertEquals(1, calls.get(1).get());
+        assertEquals(3, calls.get(2).get());
+        assertEquals(1, calls.get(3).get());
+    }
+
+    @Test
+    public void givesUp() {
+        AtomicInteger calls = new AtomicInteger();
+        Retry retry = fastRetry().maxAttempts(3).build();
+        IOException e = assertThrows(IOException.class, () -> retry.call(() -> {
+            throw new IOException("attempt " + calls.incrementAndGet());
+        }));
+        assertEquals("attempt 3", e.getMessage());
+        assertEquals(2, e.getSuppressed().length);
+        assertEquals("attempt 1", e.getSuppressed()[0].getMessage());
+        assertEquals(3, calls.get());
+        calls.set(0);
+        assertThrows(IllegalStateException.class, () -> retry.call(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void budget() {
+        AtomicInteger calls = new AtomicInteger();
+        Retry retry = fastRetry().maxAttempts(10).budget(RetryBudget.of(0.001, 2)).build();
+        Functionex<Integer, Integer> failing = retry.wrap(i -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        });
+        assertThrows(S3mRuntimeException.class, () -> Streamex.of(1, 2).mapex(failing).toList().rethrow());
+        assertEquals(3, calls.get());
+        RetryBudget budget = RetryBudget.of(0.001, 3);
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertTrue(RetryBudget.unlimited().tryAcquire());
+    }
+
+    @Test
+    public void sameExceptionOnEveryAttempt() {
+        IOException shared = new IOException("shared");
+        AtomicInteger calls = new AtomicInteger();
+        Retry retry = fastRetry().maxAttempts(3).build();
+        for (int i = 0; i < 2; i++) {
+            IOException e = assertThrows(IOException.class, () -> retry.call(() -> {
+                calls.incrementAndGet();
+                throw shared;
+            }));
+            assertSame(shared, e);
+            assertEquals(0, e.getSuppressed().length);
+        }
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    public void budgetWithTinyRate() {
+        RetryBudget budget = RetryBudget.of(1e-12, 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(budget.tryAcquire());
+        }
+        assertFalse(budget.tryAcquire());
+    }
+}
@@ -0,0 +1,96 @@
+package sr3u.streamz.results;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.Op;
+import sr3u.s3ms.optionals.Optionalex;
+import sr3u.s3ms.results.Result;
+import sr3u.s3ms.streams.Streamex;
+import sr3u.streamz.test.Fixtures;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static sr3u.streamz.test.Fixtures.parse;
+
+public class ResultTest {
+
+    @Test
+    public void success() {
+        Result<Integer> result = Result.of(() -> parse("2"));
+        assertTrue(result.isSuccess());
+        assertEquals(Integer.valueOf(2), result.get());
+        assertEquals(Integer.valueOf(5), result.map(i -> i + 3).get());
+        assertEquals(Result.success(4), result.flatMap(i -> Result.of(() -> parse(String.valueOf(i * 2)))));
+        assertSame(result, result.recover(e -> 0));
+        assertThrows(NoSuchElementException.class, result::getFailure);
+        assertEquals(Optionalex.of(2), result.toOptionalex());
+        assertTrue(Result.success(null).isSuccess());
+    }
+
+    @Test
+    public void failure() {
+        Result<Integer> result = Result.of(() -> parse(""));
+        assertTrue(result.isFailure());
+        assertTrue(result.getFailure() instanceof IOException);
+        assertSame(result, result.map(i -> i + 1));
+        assertEquals(Integer.valueOf(-1), result.orElse(-1));
+        assertEquals(Integer.valueOf(0), result.recover(e -> 0).get());
+        assertEquals(Integer.valueOf(0), result.recover(IOException.class, e -> 0).get());
+        assertSame(result, result.recover(IllegalStateException.class, e -> 0));
+        assertThrows(S3mRuntimeException.class, result::get);
+        assertThrows(IllegalStateException.class, () -> result.orElseThrow(IllegalStateException::new));
+        assertFalse(result.toOptionalex().isPresent());
+        assertTrue(Result.success("x").map(Fixtures::parse).isFailure());
+    }
+
+    @Test
+    public void opToResult() {
+        Result<Integer> success = Optionalex.of("1").mapex(Fixtures::parse).toResult().map(Optionalex::get);
+        assertEquals(Integer.valueOf(1), success.get());
+        Result<Optionalex<Integer>> failure = Optionalex.of("").mapex(Fixtures::parse).toResult();
+        assertTrue(failure.getFailure() instanceof IOException);
+        Result<Optionalex<Integer>> handled = Optionalex.of("").mapex(Fixtures::parse).throwRuntime(e -> null).toResult();
+        assertFalse(handled.get().isPresent());
+    }
+
+    @Test
+    public void streamToResult() {
+        Result<List<Integer>> failure = Streamex.of("1", "", "3").mapex(Fixtures::parse).toList().toResult();
+        assertEquals("empty", failure.getFailure().getMessage());
+        Result<List<Integer>> success = Streamex.of("1", "3").mapex(Fixtures::parse).toList().toResult();
+        assertEquals(Arrays.asList(1, 3), success.get());
+        Result<List<Integer>> parallel = Streamex.of("1", "", "3", "4").parallel().mapex(Fixtures::parse).toList().toResult();
+        assertTrue(parallel.getFailure() instanceof IOException);
+    }
+
+    @Test
+    public void toResultStopsAtFirstFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<List<Integer>> failure = Streamex.of("", "1", "", "3")
+                .mapex(s -> {
+                    calls.incrementAndGet();
+                    return parse(s);
+                })
+                .toList()
+                .toResult();
+        assertEquals("empty", failure.getFailure().getMessage());
+        assertEquals(1, calls.get());
+        Result<List<Integer>> later = Streamex.of("", "1")
+                .mapex(Fixtures::parse)
+                .peek(i -> {
+                    throw new IllegalStateException();
+                })
+                .toList()
+                .toResult();
+        assertTrue(later.getFailure() instanceof IOException);
+        Op<List<Integer>> cached = Streamex.of("").mapex(Fixtures::parse).toList().cached();
+        assertTrue(cached.toResult().getFailure() instanceof IOException);
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class, cached::terminate);
+        assertTrue(e.getCause() instanceof IOException);
+    }
+}
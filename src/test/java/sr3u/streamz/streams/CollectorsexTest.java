@@ -0,0 +1,115 @@
+package sr3u.streamz.streams;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
+import sr3u.s3ms.streams.Collectorex;
+import sr3u.s3ms.streams.Collectorsex;
+import sr3u.s3ms.streams.Streamex;
+import sr3u.streamz.test.Fixtures;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class CollectorsexTest {
+
+    public static final double DELTA = 1e-10;
+
+    @Test
+    public void basicCollectors() {
+        assertEquals(Arrays.asList(1, 2, 3), Streamex.of(1, 2, 3).collectex(Collectorsex.toListex()).rethrow());
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), Streamex.of(1, 2, 1).collectex(Collectorsex.toSetex()).rethrow());
+        assertEquals(Long.valueOf(3), Streamex.of("a", "b", "c").collectex(Collectorsex.countingex()).rethrow());
+        assertEquals("[a, b]", Streamex.of("a", "b")
+                .collectex(Collectorsex.mappingex(s -> (CharSequence) s, Collectorsex.joiningex(", ", "[", "]")))
+                .rethrow());
+        assertEquals(Integer.valueOf(6), Streamex.of(1, 2, 3)
+                .collectex(Collectorsex.reducingex(0, Integer::sum))
+                .rethrow());
+        assertEquals(Integer.valueOf(2), Streamex.of(1, 2, 3)
+                .collectex(Collectorsex.collectingAndThenex(Collectorsex.filteringex(i -> i > 1, Collectorsex.toListex()), List::size))
+                .rethrow());
+    }
+
+    @Test
+    public void numericCollectors() {
+        assertEquals(Integer.valueOf(6), Streamex.of("1", "2", "3").collectex(Collectorsex.summingIntex(Fixtures::parse)).rethrow());
+        assertEquals(Long.valueOf(6), Streamex.of("1", "2", "3").collectex(Collectorsex.summingLongex(Fixtures::parse)).rethrow());
+        assertEquals(0.6, Streamex.of(0.1, 0.2, 0.3).collectex(Collectorsex.summingDoubleex(d -> d)).rethrow(), DELTA);
+        assertEquals(2.0, Streamex.of("1", "2", "3").collectex(Collectorsex.averagingIntex(Fixtures::parse)).rethrow(), DELTA);
+        assertEquals(2.5, Streamex.of(2L, 3L).collectex(Collectorsex.averagingLongex(l -> l)).rethrow(), DELTA);
+        assertEquals(0.0, Streamex.<Double>empty().collectex(Collectorsex.averagingDoubleex(d -> d)).rethrow(), DELTA);
+        assertEquals(Double.POSITIVE_INFINITY, Streamex.of(1.0, Double.POSITIVE_INFINITY)
+                .collectex(Collectorsex.summingDoubleex(d -> d)).rethrow(), DELTA);
+    }
+
+    @Test
+    public void mapCollectors() {
+        Map<Boolean, List<Integer>> expected = new HashMap<>();
+        expected.put(true, Arrays.asList(2, 4));
+        expected.put(false, Arrays.asList(1, 3));
+        assertEquals(expected, Streamex.of(1, 2, 3, 4).collectex(Collectorsex.groupingByex(i -> i % 2 == 0)).rethrow());
+        Map<Integer, Long> counts = Streamex.of("a", "bb", "cc")
+                .collectex(Collectorsex.groupingByex(String::length, TreeMap::new, Collectorsex.countingex()))
+                .rethrow();
+        assertEquals("{1=1, 2=2}", counts.toString());
+        Map<String, Integer> lengths = Streamex.of("a", "bb")
+                .collectex(Collectorsex.toMapex(s -> s, String::length))
+                .rethrow();
+        assertEquals(Integer.valueOf(2), lengths.get("bb"));
+        assertThrows(S3mRuntimeException.class, () -> Streamex.of("a", "a")
+                .collectex(Collectorsex.toMapex(s -> s, String::length))
+                .rethrow());
+        assertEquals(Integer.valueOf(2), Streamex.of("a", "a")
+                .collectex(Collectorsex.toMapex(s -> s, String::length, Integer::sum))
+                .rethrow()
+                .get("a"));
+        Map<Boolean, String> joined = Streamex.of(1, 2, 3)
+                .collectex(Collectorsex.groupingByex(i -> i > 1, Collectorex.from(Collectors.mapping(String::valueOf, Collectors.joining()))))
+                .rethrow();
+        assertEquals("23", joined.get(true));
+    }
+
+    @Test
+    public void exceptions() {
+        List<Throwable> handled = new ArrayList<>();
+        assertEquals(Integer.valueOf(4), Streamex.of("1", "x", "3")
+                .collectex(Collectorsex.summingIntex(Fixtures::parse))
+                .handle(IOException.class, handled::add)
+                .rethrow());
+        assertEquals(1, handled.size());
+        assertThrows(S3mRuntimeException.class, () -> Streamex.of("1", "x")
+                .collectex(Collectorsex.summingIntex(Fixtures::parse))
+                .rethrow());
+        assertNull(Streamex.of("1")
+                .collectex(Collectorsex.collectingAndThenex(Collectorsex.toListex(), list -> {
+                    throw new IOException("finisher");
+                }))
+                .throwRuntime(e -> null)
+                .rethrow());
+    }
+
+    @Test
+    public void parallelAndPlainStreams() {
+        List<Integer> values = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        assertEquals(Long.valueOf(499500), Streamex.ofCollection(values)
+                .parallel()
+                .collectex(Collectorsex.summingLongex(i -> i))
+                .rethrow());
+        ExceptionPolicy policy = ExceptionPolicy.builder().handle(IOException.class, e -> {
+        }).build();
+        assertEquals(Integer.valueOf(3), Stream.of("1", "x", "2")
+                .collect(Collectorsex.summingIntex(Fixtures::parse).toCollector(policy)));
+    }
+}
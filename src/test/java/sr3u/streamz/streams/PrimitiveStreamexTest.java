@@ -0,0 +1,93 @@
+package sr3u.streamz.streams;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.streams.DoubleStreamex;
+import sr3u.s3ms.streams.IntStreamex;
+import sr3u.s3ms.streams.LongStreamex;
+import sr3u.s3ms.streams.Streamex;
+import sr3u.streamz.test.Item;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveStreamexTest {
+
+    public static final double DELTA = 1e-10;
+
+    @Test
+    public void intStreamex() {
+        assertEquals(Integer.valueOf(30), IntStreamex.range(0, 10)
+                .filterex(i -> i % 2 == 0)
+                .mapex(i -> i * 3 / 2)
+                .sum()
+                .rethrow());
+        IntSummaryStatistics statistics = IntStreamex.of(3, 1, 2).summaryStatistics().rethrow();
+        assertEquals(1, statistics.getMin());
+        assertEquals(3, statistics.getMax());
+        assertArrayEquals(new int[]{1, 2, 3}, IntStreamex.of(3, 1, 2, 3).distinct().sorted().toArray().rethrow());
+    }
+
+    @Test
+    public void longStreamex() {
+        assertEquals(Long.valueOf(5_000_000_000L), IntStreamex.of(1, 2, 2)
+                .asLongStreamex()
+                .mapex(l -> l * 1_000_000_000L)
+                .sum()
+                .rethrow());
+        LongSummaryStatistics statistics = LongStreamex.rangeClosed(1, 4).summaryStatistics().rethrow();
+        assertEquals(10L, statistics.getSum());
+        assertEquals(Integer.valueOf(6), LongStreamex.of(1L, 2L, 3L).mapToIntex(Math::toIntExact).sum().rethrow());
+    }
+
+    @Test
+    public void doubleStreamex() {
+        DoubleSummaryStatistics statistics = IntStreamex.of(1, 2, 3)
+                .asDoubleStreamex()
+                .mapex(d -> d / 2)
+                .summaryStatistics()
+                .rethrow();
+        assertEquals(3.0, statistics.getSum(), DELTA);
+        assertEquals(1.0, statistics.getAverage(), DELTA);
+        assertEquals(Long.valueOf(4L), DoubleStreamex.of(1.4, 2.6).mapToLongex(Math::round).sum().rethrow());
+        assertEquals(Integer.valueOf(3), DoubleStreamex.of(1.4, 2.6).mapToIntex(d -> (int) d).sum().rethrow());
+    }
+
+    @Test
+    public void mapToObjAndBack() {
+        List<String> strings = IntStreamex.of(1, 2).mapToObjex(i -> "#" + i).toList().rethrow();
+        assertEquals(Arrays.asList("#1", "#2"), strings);
+        assertEquals(Integer.valueOf(3), createStream().mapToIntex(Item::getAnInt).sum().rethrow());
+        assertEquals(Long.valueOf(3L), createStream().mapToLongex(Item::getaLong).sum().rethrow());
+        assertEquals(3.8, createStream().mapToDoubleex(Item::getaDouble).sum().rethrow(), DELTA);
+        assertEquals(Arrays.asList(1L, 2L), LongStreamex.of(1L, 2L).boxed().toList().rethrow());
+    }
+
+    @Test
+    public void exceptions() {
+        assertThrows(S3mRuntimeException.class, () -> IntStreamex.of(1, 0).mapex(PrimitiveStreamexTest::check).sum().rethrow());
+        assertEquals(Integer.valueOf(4), IntStreamex.of(1, 0, 3)
+                .mapex(PrimitiveStreamexTest::check)
+                .sum()
+                .throwRuntime(e -> null)
+                .rethrow());
+        assertFalse(IntStreamex.of(1, 0, 3).allMatchex(i -> check(i) > 2).rethrow());
+    }
+
+    private static int check(int i) throws IOException {
+        if (i == 0) {
+            throw new IOException("zero");
+        }
+        return i;
+    }
+
+    private Streamex<Item> createStream() {
+        return Streamex.of(new Item("1", 1, 1, 1.4), new Item("2", 2, 2, 2.4));
+    }
+}
@@ -0,0 +1,437 @@
+package sr3u.streamz.streams;
+
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.results.Result;
+import sr3u.s3ms.streams.BatchingConsumer;
+import sr3u.s3ms.streams.ParallelFailureMode;
+import sr3u.s3ms.streams.Streamex;
+import sr3u.streamz.test.Item;
+import sr3u.streamz.test.Fixtures;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import static sr3u.streamz.test.Fixtures.parse;
+
+public class StreamexTest {
+
+    @Test
+    public void mapex() {
+        List<Integer> result = Streamex.of("1", "2", "3").mapex(Fixtures::parse).toList().rethrow();
+        assertEquals(Arrays.asList(1, 2, 3), result);
+    }
+
+    @Test
+    public void filterex() {
+        List<Item> result = createStream().filterex(i -> i.getAnInt() % 2 == 0).toList().rethrow();
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getAnInt());
+    }
+
+    @Test
+    public void fusedStagesRunPerElement() {
+        List<String> trace = new ArrayList<>();
+        Streamex.of(1, 2)
+                .peekex(i -> trace.add("a" + i))
+                .mapex(i -> i * 10)
+                .peekex(i -> trace.add("b" + i))
+                .forEachex(i -> trace.add("c" + i))
+                .rethrow();
+        assertEquals(Arrays.asList("a1", "b10", "c10", "a2", "b20", "c20"), trace);
+    }
+
+    @Test
+    public void unhandledExceptionIsRethrown() {
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class,
+                () -> Streamex.of("1", "x").mapex(Fixtures::parse).toList().rethrow());
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    public void handledElementsAreDropped() {
+        AtomicInteger failures = new AtomicInteger();
+        List<Integer> result = Streamex.of("1", "x", "3", "y")
+                .mapex(Fixtures::parse)
+                .filterex(i -> i > 0)
+                .toList()
+                .throwRuntime(e -> null)
+                .rethrow();
+        assertEquals(Arrays.asList(1, 3), result);
+
+        Streamex.of("x", "1", "y")
+                .filterex(s -> !s.isEmpty())
+                .mapex(Fixtures::parse)
+                .forEach(i -> {
+                })
+                .throwRuntime(e -> {
+                    failures.incrementAndGet();
+                    return null;
+                })
+                .rethrow();
+        assertEquals(2, failures.get());
+    }
+
+    @Test
+    public void stagesAcrossBarriersShareHandlers() {
+        AtomicInteger failures = new AtomicInteger();
+        List<Integer> result = Streamex.of("3", "x", "1")
+                .mapex(Fixtures::parse)
+                .sorted()
+                .mapex(i -> {
+                    if (i == 3) {
+                        throw new IOException("3");
+                    }
+                    return i;
+                })
+                .toList()
+                .throwRuntime(e -> {
+                    failures.incrementAndGet();
+                    return null;
+                })
+                .rethrow();
+        assertEquals(Arrays.asList(1), result);
+        assertEquals(2, failures.get());
+    }
+
+    @Test
+    public void downstreamExceptionsBypassHandlers() {
+        assertThrows(IllegalStateException.class, () -> Streamex.of("a", "a")
+                .mapex(String::trim)
+                .collect(Collectors.toMap(s -> s, s -> s))
+                .print()
+                .rethrow());
+    }
+
+    @Test
+    public void flatMapex() {
+        assertEquals(Arrays.asList(1, 1, 2, 2), Streamex.of(1, 2).flatMapex(i -> Stream.of(i, i)).toList().rethrow());
+        assertEquals(Integer.valueOf(2), Streamex.of(1, 2).flatMapex(i -> Stream.of(i, i + 1)).skip(1).findFirst().rethrow().get());
+        assertEquals(4L, (long) Streamex.of(1, 2).flatMapex(i -> Stream.of(i, i)).limit(4).count().rethrow());
+    }
+
+    @Test
+    public void matches() {
+        assertTrue(createStream().anyMatchex(i -> i.getAnInt() == 3).rethrow());
+        assertFalse(createStream().allMatchex(i -> i.getAnInt() == 3).rethrow());
+        assertTrue(createStream().noneMatchex(i -> i.getAnInt() == 10).rethrow());
+        assertFalse(Streamex.empty().findFirst().rethrow().isPresent());
+    }
+
+    @Test
+    public void matchesNullElements() {
+        assertTrue(Streamex.of("x", null).anyMatchex(s -> s == null).rethrow());
+        assertTrue(Streamex.of("x", null).allMatchex(s -> s == null || s.equals("x")).rethrow());
+        assertFalse(Streamex.of("x", null).allMatchex(s -> s != null).rethrow());
+        assertFalse(Streamex.of("x", null).noneMatchex(s -> s == null).rethrow());
+        assertTrue(Streamex.of(null, null).noneMatchex(s -> s != null).rethrow());
+    }
+
+    @Test
+    public void parallel() {
+        List<Integer> input = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        long sum = Streamex.ofCollection(input)
+                .parallel()
+                .mapex(i -> i * 2)
+                .filterex(i -> i % 3 != 0)
+                .collect(Collectors.summingLong(i -> i))
+                .rethrow();
+        long expected = input.stream().mapToLong(i -> i * 2).filter(i -> i % 3 != 0).sum();
+        assertEquals(expected, sum);
+    }
+
+    @Test
+    public void parallelFailFast() {
+        List<Integer> input = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        AtomicInteger processed = new AtomicInteger();
+        assertThrows(S3mRuntimeException.class, () -> Streamex.ofCollection(input)
+                .parallel(ParallelFailureMode.FAIL_FAST)
+                .mapex(i -> {
+                    processed.incrementAndGet();
+                    throw new IOException("failed " + i);
+                })
+                .count()
+                .rethrow());
+        assertTrue("processed " + processed.get(), processed.get() < input.size() / 2);
+    }
+
+    @Test
+    public void parallelCollectAll() {
+        List<Integer> input = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+        AtomicInteger handled = new AtomicInteger();
+        S3mRuntimeException e = assertThrows(S3mRuntimeException.class, () -> Streamex.ofCollection(input)
+                .parallel(ParallelFailureMode.COLLECT_ALL)
+                .mapex(i -> {
+                    if (i % 10 == 0) {
+                        throw new IOException("failed " + i);
+                    }
+                    if (i % 10 == 1) {
+                        throw new IllegalStateException();
+                    }
+                    return i;
+                })
+                .sorted()
+                .toList()
+                .handle(IllegalStateException.class, x -> handled.incrementAndGet())
+                .rethrow());
+        assertTrue(e.getCause() instanceof IOException);
+        assertEquals(99, e.getSuppressed().length);
+        assertEquals(100, handled.get());
+        Result<List<Integer>> result = Streamex.ofCollection(input)
+                .parallel(ParallelFailureMode.COLLECT_ALL)
+                .mapex(i -> {
+                    if (i % 10 == 0) {
+                        throw new IOException("failed " + i);
+                    }
+                    return i;
+                })
+                .toList()
+                .stackless()
+                .toResult();
+        assertTrue(result.getFailure() instanceof S3mRuntimeException);
+        assertTrue(result.getFailure().getCause() instanceof IOException);
+        assertEquals(99, result.getFailure().getSuppressed().length);
+        assertEquals(0, result.getFailure().getStackTrace().length);
+        assertEquals(Long.valueOf(800), Streamex.ofCollection(input)
+                .parallel(ParallelFailureMode.COLLECT_ALL)
+                .filterex(i -> i % 10 > 1)
+                .count()
+                .rethrow());
+    }
+
+    @Test
+    public void mapAsyncex() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> result = Streamex.ofCollection(IntStream.range(0, 40).boxed().collect(Collectors.toList()))
+                .mapAsyncex(4, i -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep((i * 7) % 5);
+                    running.decrementAndGet();
+                    return i * 2;
+                })
+                .toList()
+                .rethrow();
+        assertEquals(IntStream.range(0, 40).map(i -> i * 2).boxed().collect(Collectors.toList()), result);
+        assertTrue("max running " + maxRunning.get(), maxRunning.get() <= 4);
+    }
+
+    @Test
+    public void mapAsyncexFailures() {
+        assertEquals(Arrays.asList(1, 3), Streamex.of("1", "x", "3")
+                .mapAsyncex(2, Fixtures::parse)
+                .toList()
+                .throwRuntime(e -> null)
+                .rethrow());
+        assertThrows(S3mRuntimeException.class, () -> Streamex.of("1", "x", "3")
+                .mapAsyncex(2, Fixtures::parse)
+                .toList()
+                .rethrow());
+        assertThrows(IllegalArgumentException.class, () -> Streamex.of(1).mapAsyncex(0, i -> i));
+    }
+
+    @Test
+    public void mapAsyncexRejectedCall() {
+        AtomicInteger submitted = new AtomicInteger();
+        Executor rejectsSecond = task -> {
+            if (submitted.incrementAndGet() == 2) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        };
+        Iterator<Integer> results = Streamex.of(1, 2, 3)
+                .mapAsyncex(1, i -> i * 10, rejectsSecond)
+                .toStream()
+                .iterator();
+        assertEquals(Integer.valueOf(10), results.next());
+        assertThrows(RejectedExecutionException.class, results::hasNext);
+        assertEquals(Integer.valueOf(30), results.next());
+        assertFalse(results.hasNext());
+    }
+
+    @Test
+    public void mapAsyncexClosedWhileConsumed() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Stream<Integer> stream = Streamex.of(1, 2)
+                .mapAsyncex(2, i -> {
+                    started.countDown();
+                    Thread.sleep(10_000);
+                    return i;
+                })
+                .toStream();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                stream.forEach(i -> {
+                });
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        consumer.start();
+        started.await();
+        while (consumer.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        stream.close();
+        consumer.join(5_000);
+        assertTrue(String.valueOf(failure.get()), failure.get() instanceof CancellationException);
+    }
+
+    @Test
+    public void mapAsyncexRethrowsErrors() {
+        AtomicInteger handled = new AtomicInteger();
+        AssertionError error = new AssertionError("fatal");
+        assertSame(error, assertThrows(AssertionError.class, () -> Streamex.of(1, 2, 3)
+                .mapAsyncex(2, i -> {
+                    if (i == 2) {
+                        throw error;
+                    }
+                    return i;
+                })
+                .toList()
+                .handle(Throwable.class, t -> handled.incrementAndGet())
+                .rethrow()));
+        assertEquals(0, handled.get());
+    }
+
+    @Test
+    public void mapBatchex() {
+        List<Integer> sizes = new ArrayList<>();
+        List<Integer> result = Streamex.ofCollection(IntStream.range(0, 12).boxed().collect(Collectors.toList()))
+                .mapBatchex(5, batch -> {
+                    sizes.add(batch.size());
+                    return batch.stream().map(i -> "#" + i).collect(Collectors.toList());
+                })
+                .mapex(s -> Integer.parseInt(s.substring(1)))
+                .toList()
+                .rethrow();
+        assertEquals(IntStream.range(0, 12).boxed().collect(Collectors.toList()), result);
+        assertEquals(Arrays.asList(5, 5, 2), sizes);
+        List<Integer> lingered = new ArrayList<>();
+        Streamex.of(1, 2, 3)
+                .mapBatchex(100, Duration.ZERO, batch -> {
+                    lingered.add(batch.size());
+                    return batch;
+                })
+                .toList()
+                .rethrow();
+        assertEquals(Arrays.asList(1, 1, 1), lingered);
+    }
+
+    @Test
+    public void mapBatchexFailures() {
+        List<Throwable> handled = new ArrayList<>();
+        assertEquals(Arrays.asList(1, 2, 5), Streamex.of("1", "2", "x", "4", "5")
+                .mapBatchex(2, batch -> {
+                    List<Integer> parsed = new ArrayList<>();
+                    for (String s : batch) {
+                        parsed.add(parse(s));
+                    }
+                    return parsed;
+                })
+                .toList()
+                .handle(IOException.class, handled::add)
+                .rethrow());
+        assertEquals(1, handled.size());
+        assertThrows(S3mRuntimeException.class, () -> Streamex.of(1, 2)
+                .mapBatchex(2, batch -> batch.subList(0, 1))
+                .toList()
+                .rethrow());
+        assertThrows(IllegalArgumentException.class, () -> Streamex.of(1).mapBatchex(0, batch -> batch));
+    }
+
+    @Test
+    public void batchingConsumer() throws Exception {
+        List<List<Integer>> batches = new ArrayList<>();
+        try (BatchingConsumer<Integer> consumer = BatchingConsumer.of(2, batch -> {
+            if (batch.contains(3)) {
+                throw new IOException("3");
+            }
+            batches.add(batch);
+        })) {
+            List<Throwable> handled = new ArrayList<>();
+            Streamex.of(1, 2, 3, 4, 5)
+                    .forEachex(consumer)
+                    .handle(IOException.class, handled::add)
+                    .terminate();
+            assertEquals(1, handled.size());
+            assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(5)), batches);
+        }
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    public void batchingConsumerLastBatchFailure() {
+        BatchingConsumer<Integer> consumer = BatchingConsumer.of(2, batch -> {
+            if (batch.contains(5)) {
+                throw new IOException("5");
+            }
+        });
+        List<Throwable> handled = new ArrayList<>();
+        Streamex.of(1, 2, 3, 4, 5)
+                .forEachex(consumer)
+                .handle(IOException.class, handled::add)
+                .terminate();
+        assertEquals(1, handled.size());
+        assertEquals("5", handled.get(0).getMessage());
+    }
+
+    @Test
+    public void batchingConsumerWritesOutsideTheLock() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        BatchingConsumer<Integer> consumer = BatchingConsumer.of(1, batch -> {
+            if (batch.get(0) == 1) {
+                writing.countDown();
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            }
+            batches.add(batch);
+        });
+        Thread slow = new Thread(() -> {
+            try {
+                consumer.accept(1);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        slow.start();
+        writing.await();
+        consumer.accept(2);
+        assertEquals(Collections.singletonList(Collections.singletonList(2)), batches);
+        release.countDown();
+        slow.join();
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    public void mapBatchexKeepsParallelism() {
+        Streamex<Integer> parallel = Streamex.ofCollection(IntStream.range(0, 100).boxed().collect(Collectors.toList()))
+                .parallel()
+                .mapBatchex(10, batch -> batch);
+        assertTrue(parallel.isParallel());
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), parallel.toList().rethrow());
+    }
+
+    private Streamex<Item> createStream() {
+        return Streamex.of(new Item("1", 1, 1, 1.4), new Item("2", 2, 2, 2.4),
+                new Item("3", 3, 3, 3.4), new Item("4", 4, 4, 4.4));
+    }
+}
@@ -0,0 +1,27 @@
+package sr3u.streamz.test;
+
+import java.io.IOException;
+
+public final class Fixtures {
+    private Fixtures() {
+    }
+
+    /**
+     * Parses {@code s} like {@link Integer#parseInt(String)}, but fails with
+     * a checked exception.
+     *
+     * @throws IOException with the message "empty" if {@code s} is empty, or
+     *                     caused by the {@link NumberFormatException} if it is
+     *                     not a number
+     */
+    public static Integer parse(String s) throws IOException {
+        if (s.isEmpty()) {
+            throw new IOException("empty");
+        }
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package sr3u.streamz.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import sr3u.s3ms.S3mRuntimeException;
+import sr3u.s3ms.exceptionsprocessing.ExceptionPolicy;
+import sr3u.s3ms.streams.Streamex;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs against the packaged multi-release jar, whose Java 11 classes emit
+ * the events.
+ */
+public class JfrEventsIT {
+
+    @Test
+    public void exceptionHandled() throws IOException {
+        ExceptionPolicy policy = ExceptionPolicy.builder()
+                .handle(IOException.class, e -> {
+                })
+                .build();
+        List<RecordedEvent> events = record("s3ms.ExceptionHandled", () -> {
+            assertTrue(policy.tryHandle(new IOException()));
+            assertFalse(policy.tryHandle(new IllegalStateException()));
+        });
+        assertEquals(2, events.size());
+        RecordedEvent handled = events.get(0);
+        assertEquals(IOException.class.getName(), handled.getClass("exceptionClass").getName());
+        assertTrue(handled.getBoolean("handled"));
+        assertNotNull(handled.getString("handler"));
+        assertNotNull(handled.getStackTrace());
+        RecordedEvent unhandled = events.get(1);
+        assertEquals(IllegalStateException.class.getName(), unhandled.getClass("exceptionClass").getName());
+        assertFalse(unhandled.getBoolean("handled"));
+        assertNull(unhandled.getString("handler"));
+    }
+
+    @Test
+    public void opTerminated() throws IOException {
+        List<RecordedEvent> events = record("s3ms.OpTerminated", () -> {
+            assertEquals(Arrays.asList(1, 2), Streamex.of(1, 2).toList().rethrow());
+            assertThrows(S3mRuntimeException.class, () -> Streamex.of("")
+                    .mapex(s -> {
+                        throw new IOException();
+                    })
+                    .toList()
+                    .rethrow());
+        });
+        assertEquals(2, events.size());
+        RecordedEvent success = events.get(0);
+        assertFalse(success.getBoolean("failed"));
+        assertNotNull(success.getClass("opClass"));
+        assertNull(success.getClass("exceptionClass"));
+        RecordedEvent failure = events.get(1);
+        assertTrue(failure.getBoolean("failed"));
+        assertEquals(S3mRuntimeException.class.getName(), failure.getClass("exceptionClass").getName());
+    }
+
+    private static List<RecordedEvent> record(String event, Runnable action) throws IOException {
+        Path file = Files.createTempFile("s3ms", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(event).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(event))
+                    .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}